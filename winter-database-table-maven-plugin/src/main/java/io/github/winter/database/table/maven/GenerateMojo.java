@@ -0,0 +1,108 @@
+package io.github.winter.database.table.maven;
+
+import io.github.winter.database.table.TableSchemaGenerator;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 表概要代码生成，generate-sources 阶段连接本地库，生成源码并加入编译
+ * <p>
+ * JDBC 驱动以插件依赖引入；密码仅从环境变量读取，不经命令行及 pom 明文传入
+ *
+ * @author changebooks@qq.com
+ */
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
+public class GenerateMojo extends AbstractMojo {
+    /**
+     * the {@link MavenProject} instance
+     */
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    /**
+     * JDBC Url，本地库
+     */
+    @Parameter(required = true)
+    private String url;
+
+    /**
+     * 用户名
+     */
+    @Parameter(required = true)
+    private String username;
+
+    /**
+     * 密码所在的环境变量名
+     */
+    @Parameter(defaultValue = "WINTER_SCHEMA_PASSWORD")
+    private String passwordEnv;
+
+    /**
+     * [ Table Name ]
+     */
+    @Parameter(required = true)
+    private List<String> tables;
+
+    /**
+     * 包名
+     */
+    @Parameter(required = true)
+    private String packageName;
+
+    /**
+     * 类名
+     */
+    @Parameter(defaultValue = "Schemas")
+    private String className;
+
+    /**
+     * 源码根目录
+     */
+    @Parameter(defaultValue = "${project.build.directory}/generated-sources/winter-table", required = true)
+    private File outputDirectory;
+
+    /**
+     * 跳过？
+     */
+    @Parameter(property = "winter.table.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("skipped");
+            return;
+        }
+
+        String password = passwordEnv != null ? System.getenv(passwordEnv) : null;
+        if (password == null) {
+            getLog().warn(String.format("password not set, passwordEnv: %s", passwordEnv));
+        }
+
+        TableSchemaGenerator generator = new TableSchemaGenerator();
+        generator.setPackageName(packageName);
+        generator.setClassName(className);
+
+        try (Connection conn = DriverManager.getConnection(url, username, password)) {
+            Path file = generator.write(conn, tables, outputDirectory.toPath());
+            getLog().info(String.format("generated, file: %s, tables: %s", file, tables.size()));
+        } catch (SQLException | IOException | RuntimeException e) {
+            throw new MojoExecutionException(String.format("generate failed, url: %s", url), e);
+        }
+
+        project.addCompileSourceRoot(outputDirectory.getAbsolutePath());
+    }
+
+}
@@ -0,0 +1,125 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 流式写出，不生成中间字符串
+ *
+ * @author changebooks@qq.com
+ */
+public final class AppendUtils {
+
+    private AppendUtils() {
+    }
+
+    /**
+     * 去除首尾空白后写出
+     *
+     * @param out   the {@link Appendable} instance
+     * @param value 字符串
+     * @return 写出非空内容？
+     * @throws IOException if an I/O error occurs
+     */
+    public static boolean appendTrimmed(@NotNull Appendable out, String value) throws IOException {
+        if (value == null) {
+            return false;
+        }
+
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        if (start == end) {
+            return false;
+        }
+
+        out.append(value, start, end);
+        return true;
+    }
+
+    /**
+     * 写出整数，StringBuilder 直接追加，其它逐位写出
+     *
+     * @param out   the {@link Appendable} instance
+     * @param value 整数
+     * @throws IOException if an I/O error occurs
+     */
+    public static void appendNumber(@NotNull Appendable out, long value) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            builder.append(value);
+            return;
+        }
+
+        // 以负数运算，兼容 Long.MIN_VALUE
+        long negative = value;
+        if (value < 0) {
+            out.append('-');
+        } else {
+            negative = -value;
+        }
+
+        long divisor = 1;
+        while (negative / divisor <= -10) {
+            divisor *= 10;
+        }
+
+        for (; divisor > 0; divisor /= 10) {
+            out.append((char) ('0' - (negative / divisor) % 10));
+        }
+    }
+
+    /**
+     * 空白？
+     *
+     * @param value 字符串
+     * @return Blank ?
+     */
+    public static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 子类覆盖了基类的某个方法？
+     *
+     * @param clazz          子类
+     * @param base           基类
+     * @param name           方法名
+     * @param parameterTypes 参数类型
+     * @return Overridden ?
+     */
+    public static boolean isOverridden(@NotNull Class<?> clazz, @NotNull Class<?> base,
+                                       @NotNull String name, Class<?>... parameterTypes) {
+        for (Class<?> current = clazz; current != null && current != base; current = current.getSuperclass()) {
+            try {
+                Method method = current.getDeclaredMethod(name, parameterTypes);
+                if (!Modifier.isStatic(method.getModifiers()) && !Modifier.isPrivate(method.getModifiers())) {
+                    return true;
+                }
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+
+        return false;
+    }
+
+}
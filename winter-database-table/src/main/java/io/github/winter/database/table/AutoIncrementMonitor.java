@@ -0,0 +1,325 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.sql.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 自增字段耗尽监控
+ * <p>
+ * 一次查询全库自增字段的 AUTO_INCREMENT 及类型，计算已用比例；
+ * 与上次采样比较，按平滑后的增长速度预计耗尽时间；同一实例定期调用 {@link #scan}
+ * <p>
+ * MySQL 8 的 INFORMATION_SCHEMA.TABLES 默认缓存统计 24 小时，采样时将会话的
+ * information_schema_stats_expiry 置 0，采样后恢复原值
+ *
+ * @author changebooks@qq.com
+ */
+public class AutoIncrementMonitor {
+    /**
+     * 最近一次采样
+     * [ tableName.columnName : the {@link AutoIncrementUsage} instance ]
+     */
+    private final Map<String, AutoIncrementUsage> usages = new ConcurrentHashMap<>();
+
+    /**
+     * 增长速度平滑系数，0 ~ 1，越大越偏向最近一次
+     */
+    private double smoothing = 0.3;
+
+    /**
+     * 告警比例，已用比例达到即告警
+     */
+    private double alertRatio = 0.8;
+
+    /**
+     * 告警时限，预计耗尽时间短于即告警
+     */
+    private Duration alertHorizon = Duration.ofDays(30);
+
+    /**
+     * 采样前刷新 INFORMATION_SCHEMA 统计？
+     */
+    private boolean expireStatistics = true;
+
+    /**
+     * Scan All，一次查询全库
+     *
+     * @param conn the {@link Connection} instance
+     * @return [ the {@link AutoIncrementUsage} instance ], ordered by used ratio desc
+     * @throws SQLException if a database access error occurs
+     */
+    public List<AutoIncrementUsage> scan(@NotNull Connection conn) throws SQLException {
+        return scan(conn, Instant.now());
+    }
+
+    /**
+     * Scan All，一次查询全库
+     *
+     * @param conn the {@link Connection} instance
+     * @param now  采样时间
+     * @return [ the {@link AutoIncrementUsage} instance ], ordered by used ratio desc
+     * @throws SQLException if a database access error occurs
+     */
+    public List<AutoIncrementUsage> scan(@NotNull Connection conn, @NotNull Instant now) throws SQLException {
+        Objects.requireNonNull(conn, "conn must not be null");
+        Objects.requireNonNull(now, "now must not be null");
+
+        Long previousExpiry = expireStatistics ? expireStatistics(conn) : null;
+        try {
+            return readUsages(conn, now);
+        } finally {
+            if (previousExpiry != null) {
+                restoreStatistics(conn, previousExpiry);
+            }
+        }
+    }
+
+    /**
+     * 一次查询全库的自增字段，更新采样
+     */
+    private List<AutoIncrementUsage> readUsages(@NotNull Connection conn, @NotNull Instant now) throws SQLException {
+        String command = "SELECT t.TABLE_NAME, t.AUTO_INCREMENT, c.COLUMN_NAME, c.COLUMN_TYPE " +
+                "FROM INFORMATION_SCHEMA.TABLES t JOIN INFORMATION_SCHEMA.COLUMNS c " +
+                "ON c.TABLE_SCHEMA = t.TABLE_SCHEMA AND c.TABLE_NAME = t.TABLE_NAME " +
+                "WHERE t.TABLE_SCHEMA = ? AND t.TABLE_TYPE = 'BASE TABLE' AND c.EXTRA LIKE '%auto_increment%'";
+
+        List<AutoIncrementUsage> result = new ArrayList<>();
+        try (PreparedStatement stat = conn.prepareStatement(command)) {
+            MetadataTimeout.apply(stat);
+            stat.setString(1, conn.getCatalog());
+
+            try (ResultSet rs = stat.executeQuery()) {
+                while (rs.next()) {
+                    // BIGINT UNSIGNED 超出 long
+                    BigDecimal autoIncrement = rs.getBigDecimal("AUTO_INCREMENT");
+                    if (autoIncrement == null) {
+                        continue;
+                    }
+
+                    AutoIncrementUsage usage = update(rs.getString("TABLE_NAME"), rs.getString("COLUMN_NAME"),
+                            rs.getString("COLUMN_TYPE"), false, autoIncrement.toBigInteger(), now);
+                    if (usage != null) {
+                        result.add(usage);
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(AutoIncrementUsage::getUsedRatio).reversed());
+        return result;
+    }
+
+    /**
+     * Inspect，按已读取的表结构
+     *
+     * @param table the {@link Table} instance
+     * @param now   采样时间
+     * @return the {@link AutoIncrementUsage} instance, or null if no auto increment column
+     */
+    public AutoIncrementUsage inspect(@NotNull Table table, @NotNull Instant now) {
+        Objects.requireNonNull(table, "table must not be null");
+        Objects.requireNonNull(now, "now must not be null");
+
+        Long autoIncrement = table.getAutoIncrement();
+        List<Column> columns = table.getColumns();
+        if (autoIncrement == null || columns == null) {
+            return null;
+        }
+
+        for (Column column : columns) {
+            if (column != null && column.isAutoIncrement()) {
+                // 按无符号，超出 long 时读出为负数
+                BigInteger value = new BigInteger(Long.toUnsignedString(autoIncrement));
+                return update(table.getName(), column.getName(), column.getTypeName(), column.isUnsigned(), value, now);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 更新采样，按上次采样计算增长速度
+     *
+     * @param tableName     Table Name
+     * @param columnName    Column Name
+     * @param typeName      类型名，如 int、int unsigned
+     * @param unsigned      非负？
+     * @param autoIncrement 下一个自增值
+     * @param now           采样时间
+     * @return the {@link AutoIncrementUsage} instance, or null if not an integer type
+     */
+    protected AutoIncrementUsage update(String tableName, String columnName, String typeName, boolean unsigned,
+                                        BigInteger autoIncrement, @NotNull Instant now) {
+        BigInteger maxValue = ColumnUtils.readMaxValue(typeName, unsigned);
+        if (tableName == null || columnName == null || autoIncrement == null || maxValue == null) {
+            return null;
+        }
+
+        AutoIncrementUsage result = new AutoIncrementUsage();
+        result.setTableName(tableName);
+        result.setColumnName(columnName);
+        result.setTypeName(typeName.trim().toUpperCase());
+        result.setAutoIncrement(autoIncrement);
+        result.setMaxValue(maxValue);
+        double used = autoIncrement.subtract(BigInteger.ONE).max(BigInteger.ZERO).doubleValue();
+        result.setUsedRatio(Math.min(1.0, used / maxValue.doubleValue()));
+        result.setSampledAt(now);
+
+        String key = tableName + "." + columnName;
+        AutoIncrementUsage previous = usages.get(key);
+        if (previous != null && now.isAfter(previous.getSampledAt())) {
+            double seconds = Duration.between(previous.getSampledAt(), now).toMillis() / 1000.0;
+            double rate = autoIncrement.subtract(previous.getAutoIncrement()).max(BigInteger.ZERO).doubleValue() / seconds;
+            double previousRate = previous.getRatePerSecond();
+            result.setRatePerSecond(previousRate < 0 ? rate : smoothing * rate + (1 - smoothing) * previousRate);
+        } else if (previous != null) {
+            result.setRatePerSecond(previous.getRatePerSecond());
+        }
+
+        double ratePerSecond = result.getRatePerSecond();
+        if (ratePerSecond > 0) {
+            BigDecimal seconds = new BigDecimal(result.getRemaining())
+                    .divide(BigDecimal.valueOf(ratePerSecond), MathContext.DECIMAL64);
+            result.setSecondsToExhaustion(seconds.min(BigDecimal.valueOf(Long.MAX_VALUE)).longValue());
+        }
+
+        usages.put(key, result);
+        return result;
+    }
+
+    /**
+     * 刷新 INFORMATION_SCHEMA 统计，MySQL 8 以下无此变量，忽略
+     *
+     * @param conn the {@link Connection} instance
+     * @return 会话原值，采样后由 {@link #restoreStatistics} 恢复, or null if unsupported
+     */
+    protected Long expireStatistics(@NotNull Connection conn) {
+        try (Statement stat = conn.createStatement()) {
+            MetadataTimeout.apply(stat);
+
+            long result;
+            try (ResultSet rs = stat.executeQuery("SELECT @@SESSION.information_schema_stats_expiry")) {
+                if (!rs.next()) {
+                    return null;
+                }
+
+                result = rs.getLong(1);
+            }
+
+            if (result != 0) {
+                stat.execute("SET SESSION information_schema_stats_expiry = 0");
+            }
+
+            return result;
+        } catch (SQLException e) {
+            // 非 MySQL 8
+            return null;
+        }
+    }
+
+    /**
+     * 恢复 INFORMATION_SCHEMA 统计的缓存时长
+     *
+     * @param conn   the {@link Connection} instance
+     * @param expiry 会话原值，秒
+     * @throws SQLException if a database access error occurs
+     */
+    protected void restoreStatistics(@NotNull Connection conn, long expiry) throws SQLException {
+        if (expiry == 0) {
+            return;
+        }
+
+        try (Statement stat = conn.createStatement()) {
+            MetadataTimeout.apply(stat);
+            stat.execute("SET SESSION information_schema_stats_expiry = " + expiry);
+        }
+    }
+
+    /**
+     * 需告警的自增字段，已用比例达到告警比例，或预计耗尽时间短于告警时限
+     *
+     * @return [ the {@link AutoIncrementUsage} instance ], ordered by used ratio desc
+     */
+    public List<AutoIncrementUsage> readAlerts() {
+        long horizon = alertHorizon.getSeconds();
+        return getUsages().stream()
+                .filter(x -> x.getUsedRatio() >= alertRatio ||
+                        (x.getSecondsToExhaustion() >= 0 && x.getSecondsToExhaustion() < horizon))
+                .toList();
+    }
+
+    /**
+     * 指标，便于对接监控系统
+     *
+     * @return [ tableName.columnName.usedRatio | .ratePerSecond | .secondsToExhaustion : Value ]
+     */
+    public Map<String, Double> readMetrics() {
+        Map<String, Double> result = new TreeMap<>();
+        for (AutoIncrementUsage usage : usages.values()) {
+            String prefix = usage.getTableName() + "." + usage.getColumnName();
+            result.put(prefix + ".usedRatio", usage.getUsedRatio());
+            result.put(prefix + ".ratePerSecond", usage.getRatePerSecond());
+            result.put(prefix + ".secondsToExhaustion", (double) usage.getSecondsToExhaustion());
+        }
+
+        return result;
+    }
+
+    /**
+     * 最近一次采样
+     *
+     * @return [ the {@link AutoIncrementUsage} instance ], ordered by used ratio desc
+     */
+    public List<AutoIncrementUsage> getUsages() {
+        List<AutoIncrementUsage> result = new ArrayList<>(usages.values());
+        result.sort(Comparator.comparingDouble(AutoIncrementUsage::getUsedRatio).reversed());
+        return result;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new RuntimeException("smoothing must be greater than 0 and less than or equal to 1");
+        }
+
+        this.smoothing = smoothing;
+    }
+
+    public double getAlertRatio() {
+        return alertRatio;
+    }
+
+    public void setAlertRatio(double alertRatio) {
+        this.alertRatio = alertRatio;
+    }
+
+    public Duration getAlertHorizon() {
+        return alertHorizon;
+    }
+
+    public void setAlertHorizon(Duration alertHorizon) {
+        Objects.requireNonNull(alertHorizon, "alertHorizon must not be null");
+
+        this.alertHorizon = alertHorizon;
+    }
+
+    public boolean isExpireStatistics() {
+        return expireStatistics;
+    }
+
+    public void setExpireStatistics(boolean expireStatistics) {
+        this.expireStatistics = expireStatistics;
+    }
+
+}
@@ -0,0 +1,144 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.time.Instant;
+
+/**
+ * 自增字段用量
+ *
+ * @author changebooks@qq.com
+ */
+public final class AutoIncrementUsage implements Serializable {
+    /**
+     * 表名
+     */
+    private String tableName;
+
+    /**
+     * 字段名
+     */
+    private String columnName;
+
+    /**
+     * 类型名，如 INT、BIGINT UNSIGNED
+     */
+    private String typeName;
+
+    /**
+     * 下一个自增值，AUTO_INCREMENT，BIGINT UNSIGNED 可超出 long
+     */
+    private BigInteger autoIncrement;
+
+    /**
+     * 类型最大值
+     */
+    private BigInteger maxValue;
+
+    /**
+     * 已用比例，0 ~ 1
+     */
+    private double usedRatio;
+
+    /**
+     * 采样时间
+     */
+    private Instant sampledAt;
+
+    /**
+     * 每秒增长，平滑后，未知为 -1
+     */
+    private double ratePerSecond = -1;
+
+    /**
+     * 预计耗尽剩余秒数，未知或不增长为 -1
+     */
+    private long secondsToExhaustion = -1;
+
+    /**
+     * 剩余可用值
+     *
+     * @return Remaining
+     */
+    public BigInteger getRemaining() {
+        if (maxValue == null || autoIncrement == null) {
+            return BigInteger.ZERO;
+        }
+
+        BigInteger remaining = maxValue.subtract(autoIncrement).add(BigInteger.ONE);
+        return remaining.signum() > 0 ? remaining : BigInteger.ZERO;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public void setColumnName(String columnName) {
+        this.columnName = columnName;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public void setTypeName(String typeName) {
+        this.typeName = typeName;
+    }
+
+    public BigInteger getAutoIncrement() {
+        return autoIncrement;
+    }
+
+    public void setAutoIncrement(BigInteger autoIncrement) {
+        this.autoIncrement = autoIncrement;
+    }
+
+    public BigInteger getMaxValue() {
+        return maxValue;
+    }
+
+    public void setMaxValue(BigInteger maxValue) {
+        this.maxValue = maxValue;
+    }
+
+    public double getUsedRatio() {
+        return usedRatio;
+    }
+
+    public void setUsedRatio(double usedRatio) {
+        this.usedRatio = usedRatio;
+    }
+
+    public Instant getSampledAt() {
+        return sampledAt;
+    }
+
+    public void setSampledAt(Instant sampledAt) {
+        this.sampledAt = sampledAt;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public void setRatePerSecond(double ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public long getSecondsToExhaustion() {
+        return secondsToExhaustion;
+    }
+
+    public void setSecondsToExhaustion(long secondsToExhaustion) {
+        this.secondsToExhaustion = secondsToExhaustion;
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+
+/**
+ * 全库表结构导出结果
+ *
+ * @author changebooks@qq.com
+ */
+public final class CatalogDumpResult implements Serializable {
+    /**
+     * 表数
+     */
+    private int tables;
+
+    /**
+     * 重新生成的表数
+     */
+    private int rendered;
+
+    /**
+     * 指纹未变，沿用上次导出的表数
+     */
+    private int reused;
+
+    /**
+     * 导出期间已删除的表数
+     */
+    private int dropped;
+
+    /**
+     * 耗时，毫秒
+     */
+    private long elapsedMillis;
+
+    public int getTables() {
+        return tables;
+    }
+
+    public void setTables(int tables) {
+        this.tables = tables;
+    }
+
+    public int getRendered() {
+        return rendered;
+    }
+
+    public void setRendered(int rendered) {
+        this.rendered = rendered;
+    }
+
+    public int getReused() {
+        return reused;
+    }
+
+    public void setReused(int reused) {
+        this.reused = reused;
+    }
+
+    public int getDropped() {
+        return dropped;
+    }
+
+    public void setDropped(int dropped) {
+        this.dropped = dropped;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+}
@@ -0,0 +1,493 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 全库表结构导出
+ * <p>
+ * 多线程读取、生成表结构，按表名顺序写入同一个文件，输出稳定可比对；
+ * 在途的表数有上限，内存有界；文件名以 .gz 结尾时压缩；
+ * 增量模式下，指纹未变的表直接沿用上次导出的内容
+ * <p>
+ * 每张表一段，首行为 -- table: name, fingerprint: xxx
+ * <p>
+ * 可设置导出的总超时；导出中可由其它线程 {@link #cancel()}，执行中的语句一并取消
+ *
+ * @author changebooks@qq.com
+ */
+public class CatalogDumper {
+    /**
+     * 段首
+     */
+    private static final String HEADER = "-- table: ";
+
+    /**
+     * 指纹分隔
+     */
+    private static final String FINGERPRINT = ", fingerprint: ";
+
+    /**
+     * the {@link DataSource} instance
+     */
+    private final DataSource dataSource;
+
+    /**
+     * the {@link TableReader} instance
+     */
+    private final TableReader tableReader;
+
+    /**
+     * the {@link TableWriter} instance
+     */
+    private final TableWriter tableWriter;
+
+    /**
+     * 并行线程数
+     */
+    private int threads = 4;
+
+    /**
+     * 在途的表数上限
+     */
+    private int window = 64;
+
+    /**
+     * 输出 AUTO_INCREMENT？默认不输出，避免每次导出都有差异
+     */
+    private boolean includeAutoIncrement = false;
+
+    /**
+     * 导出的总超时，null 为不限
+     */
+    private Duration dumpTimeout;
+
+    /**
+     * 进行中的导出
+     */
+    private volatile MetadataTimeout timeout;
+
+    public CatalogDumper(@NotNull DataSource dataSource) {
+        this(dataSource, new TableReader(), new TableWriter());
+    }
+
+    public CatalogDumper(@NotNull DataSource dataSource,
+                         @NotNull TableReader tableReader, @NotNull TableWriter tableWriter) {
+        Objects.requireNonNull(dataSource, "dataSource must not be null");
+        Objects.requireNonNull(tableReader, "tableReader must not be null");
+        Objects.requireNonNull(tableWriter, "tableWriter must not be null");
+
+        this.dataSource = dataSource;
+        this.tableReader = tableReader;
+        this.tableWriter = tableWriter;
+    }
+
+    /**
+     * Dump All Tables
+     *
+     * @param file the {@link Path} instance
+     * @return the {@link CatalogDumpResult} instance
+     * @throws SQLException if a database access error occurs
+     * @throws IOException  if an I/O error occurs
+     */
+    public CatalogDumpResult dump(@NotNull Path file) throws SQLException, IOException {
+        return dump(file, null);
+    }
+
+    /**
+     * Dump All Tables，增量
+     *
+     * @param file     the {@link Path} instance
+     * @param previous 上次导出的文件，可与 file 相同；为 null 或不存在时全量导出
+     * @return the {@link CatalogDumpResult} instance
+     * @throws SQLException if a database access error occurs
+     * @throws IOException  if an I/O error occurs
+     */
+    public CatalogDumpResult dump(@NotNull Path file, Path previous) throws SQLException, IOException {
+        Objects.requireNonNull(file, "file must not be null");
+
+        MetadataTimeout newTimeout = new MetadataTimeout(null, dumpTimeout);
+        MetadataTimeout.Scope scope = newTimeout.enter();
+        timeout = newTimeout;
+        try {
+            return dump(file, previous, newTimeout);
+        } catch (SQLException e) {
+            throw newTimeout.translate(e);
+        } finally {
+            timeout = null;
+            scope.close();
+        }
+    }
+
+    /**
+     * 取消进行中的导出，导出抛出 {@link SQLException}
+     */
+    public void cancel() {
+        MetadataTimeout current = timeout;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    private CatalogDumpResult dump(@NotNull Path file, Path previous,
+                                   @NotNull MetadataTimeout timeout) throws SQLException, IOException {
+        long start = System.currentTimeMillis();
+
+        List<String> tableNames;
+        Map<String, String> fingerprints;
+        CatalogOptions catalogOptions;
+        try (Connection conn = dataSource.getConnection()) {
+            List<String> names = TableNameReader.read(conn);
+            tableNames = names != null ? new ArrayList<>(new TreeSet<>(names)) : Collections.emptyList();
+            fingerprints = TableUtils.readFingerprints(conn);
+            // 表选项及分区全库各一次查询，逐表读取时不再查询
+            catalogOptions = CatalogOptions.read(conn);
+        }
+
+        boolean incremental = previous != null && Files.exists(previous);
+        Map<String, String> previousFingerprints = incremental ? readFingerprints(previous) : Collections.emptyMap();
+
+        CatalogDumpResult result = new CatalogDumpResult();
+        result.setTables(tableNames.size());
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try (Writer writer = openWriter(temp, isGzip(file));
+             BufferedReader reader = incremental ? openReader(previous) : null) {
+            PreviousReader previousReader = reader != null ? new PreviousReader(reader) : null;
+
+            // [ Table Name : DDL 任务，沿用时为 null ]，按表名顺序
+            Deque<Map.Entry<String, Future<String>>> pending = new ArrayDeque<>();
+            Iterator<String> iterator = tableNames.iterator();
+
+            while (iterator.hasNext() || !pending.isEmpty()) {
+                MetadataTimeout.check();
+
+                while (iterator.hasNext() && pending.size() < Math.max(1, window)) {
+                    String tableName = iterator.next();
+                    String fingerprint = fingerprints.get(tableName);
+
+                    Future<String> future = null;
+                    if (fingerprint == null || !fingerprint.equals(previousFingerprints.get(tableName))) {
+                        future = executor.submit(() -> render(timeout, tableName, catalogOptions));
+                    }
+
+                    pending.add(new AbstractMap.SimpleImmutableEntry<>(tableName, future));
+                }
+
+                Map.Entry<String, Future<String>> head = pending.poll();
+                String tableName = head.getKey();
+                String fingerprint = fingerprints.getOrDefault(tableName, "");
+
+                if (head.getValue() == null && previousReader != null && previousReader.seek(tableName)) {
+                    writeHeader(writer, tableName, fingerprint);
+                    previousReader.copy(writer);
+                    result.setReused(result.getReused() + 1);
+                    continue;
+                }
+
+                // 上次导出中未找到，当场生成
+                String ddl = head.getValue() != null ? ConcurrentUtils.get(head.getValue(), tableName) : render(tableName, catalogOptions);
+                if (ddl == null) {
+                    result.setDropped(result.getDropped() + 1);
+                    continue;
+                }
+
+                writeHeader(writer, tableName, fingerprint);
+                writer.write(ddl);
+                writer.write("\n");
+                result.setRendered(result.getRendered() + 1);
+            }
+        } catch (SQLException | IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        result.setElapsedMillis(System.currentTimeMillis() - start);
+        return result;
+    }
+
+    /**
+     * 生成表结构
+     *
+     * @param tableName Table Name
+     * @return CREATE TABLE ..., or null if the table was dropped
+     * @throws SQLException if a database access error occurs
+     * @throws IOException  if an I/O error occurs
+     */
+    protected String render(@NotNull String tableName) throws SQLException, IOException {
+        return render(tableName, null);
+    }
+
+    /**
+     * 生成表结构
+     *
+     * @param tableName      Table Name
+     * @param catalogOptions the {@link CatalogOptions} instance，null 时逐表查询
+     * @return CREATE TABLE ..., or null if the table was dropped
+     * @throws SQLException if a database access error occurs
+     * @throws IOException  if an I/O error occurs
+     */
+    protected String render(@NotNull String tableName, CatalogOptions catalogOptions) throws SQLException, IOException {
+        Table table;
+        try (Connection conn = dataSource.getConnection()) {
+            table = tableReader.read(conn, tableName, catalogOptions);
+        }
+
+        if (table == null) {
+            return null;
+        }
+
+        if (!includeAutoIncrement) {
+            table.setAutoIncrement(null);
+        }
+
+        StringBuilder builder = new StringBuilder(1024);
+        tableWriter.write(table, builder);
+        return builder.toString();
+    }
+
+    /**
+     * 在工作线程中生成表结构，沿用导出的超时
+     */
+    private String render(@NotNull MetadataTimeout timeout, @NotNull String tableName,
+                          CatalogOptions catalogOptions) throws SQLException, IOException {
+        MetadataTimeout.Scope scope = timeout.enter();
+        try {
+            return render(tableName, catalogOptions);
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * 读取上次导出的指纹，仅扫描段首
+     *
+     * @param file the {@link Path} instance
+     * @return [ Table Name : Fingerprint ]
+     * @throws IOException if an I/O error occurs
+     */
+    public static Map<String, String> readFingerprints(@NotNull Path file) throws IOException {
+        Map<String, String> result = new HashMap<>();
+
+        try (BufferedReader reader = openReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] header = parseHeader(line);
+                if (header != null) {
+                    result.put(header[0], header[1]);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 段首
+     *
+     * @param writer      the {@link Writer} instance
+     * @param tableName   Table Name
+     * @param fingerprint Fingerprint
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeHeader(@NotNull Writer writer, @NotNull String tableName,
+                                    @NotNull String fingerprint) throws IOException {
+        writer.write(HEADER);
+        writer.write(tableName);
+        writer.write(FINGERPRINT);
+        writer.write(fingerprint);
+        writer.write("\n");
+    }
+
+    /**
+     * 解析段首
+     *
+     * @param line 行
+     * @return [ Table Name, Fingerprint ], or null if not a header
+     */
+    private static String[] parseHeader(@NotNull String line) {
+        if (!line.startsWith(HEADER)) {
+            return null;
+        }
+
+        int index = line.lastIndexOf(FINGERPRINT);
+        if (index < HEADER.length()) {
+            return null;
+        }
+
+        return new String[]{line.substring(HEADER.length(), index), line.substring(index + FINGERPRINT.length())};
+    }
+
+    private static boolean isGzip(@NotNull Path file) {
+        return file.getFileName().toString().endsWith(".gz");
+    }
+
+    private static Writer openWriter(@NotNull Path file, boolean gzip) throws IOException {
+        OutputStream stream = Files.newOutputStream(file);
+        if (gzip) {
+            stream = new GZIPOutputStream(stream, 64 * 1024);
+        }
+
+        return new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    private static BufferedReader openReader(@NotNull Path file) throws IOException {
+        InputStream stream = Files.newInputStream(file);
+        if (isGzip(file)) {
+            stream = new GZIPInputStream(stream, 64 * 1024);
+        }
+
+        return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    /**
+     * 顺序读取上次导出的文件，两次导出的表名顺序一致，只前进不回退
+     */
+    private static final class PreviousReader {
+        /**
+         * the {@link BufferedReader} instance
+         */
+        private final BufferedReader reader;
+
+        /**
+         * 已读出、未消费的段首
+         */
+        private String header;
+
+        private PreviousReader(@NotNull BufferedReader reader) throws IOException {
+            this.reader = reader;
+            this.header = nextHeader();
+        }
+
+        /**
+         * 前进到指定表的段首
+         *
+         * @param tableName Table Name
+         * @return 找到？
+         * @throws IOException if an I/O error occurs
+         */
+        private boolean seek(@NotNull String tableName) throws IOException {
+            while (header != null) {
+                String[] parsed = parseHeader(header);
+                int compare = parsed != null ? parsed[0].compareTo(tableName) : -1;
+                if (compare == 0) {
+                    return true;
+                }
+
+                if (compare > 0) {
+                    return false;
+                }
+
+                header = nextHeader();
+            }
+
+            return false;
+        }
+
+        /**
+         * 复制当前段，不含段首
+         *
+         * @param writer the {@link Writer} instance
+         * @throws IOException if an I/O error occurs
+         */
+        private void copy(@NotNull Writer writer) throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null && parseHeader(line) == null) {
+                writer.write(line);
+                writer.write("\n");
+            }
+
+            header = line;
+        }
+
+        /**
+         * 跳到下一个段首
+         *
+         * @return 段首，文件结束为 null
+         * @throws IOException if an I/O error occurs
+         */
+        private String nextHeader() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (parseHeader(line) != null) {
+                    return line;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    @NotNull
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @NotNull
+    public TableReader getTableReader() {
+        return tableReader;
+    }
+
+    @NotNull
+    public TableWriter getTableWriter() {
+        return tableWriter;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    public void setWindow(int window) {
+        this.window = window;
+    }
+
+    public boolean isIncludeAutoIncrement() {
+        return includeAutoIncrement;
+    }
+
+    public void setIncludeAutoIncrement(boolean includeAutoIncrement) {
+        this.includeAutoIncrement = includeAutoIncrement;
+    }
+
+    public Duration getDumpTimeout() {
+        return dumpTimeout;
+    }
+
+    public void setDumpTimeout(Duration dumpTimeout) {
+        this.dumpTimeout = dumpTimeout;
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 全库表选项及分区，两次查询读取全库，供逐表读取时取用，省去每张表各两次查询
+ * <p>
+ * 为读取时的快照，此后的变更不可见
+ *
+ * @author changebooks@qq.com
+ */
+public final class CatalogOptions {
+    /**
+     * [ Table Name : [ Option Name : Value ] ]
+     */
+    private final Map<String, Map<String, String>> options;
+
+    /**
+     * [ Table Name : the {@link Partitioning} instance ]，仅含分区表
+     */
+    private final Map<String, Partitioning> partitionings;
+
+    public CatalogOptions(@NotNull Map<String, Map<String, String>> options,
+                          @NotNull Map<String, Partitioning> partitionings) {
+        Objects.requireNonNull(options, "options must not be null");
+        Objects.requireNonNull(partitionings, "partitionings must not be null");
+
+        this.options = options;
+        this.partitionings = partitionings;
+    }
+
+    /**
+     * Read All
+     *
+     * @param conn the {@link Connection} instance
+     * @return the {@link CatalogOptions} instance
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static CatalogOptions read(@NotNull Connection conn) throws SQLException {
+        return new CatalogOptions(TableOptionUtils.readAll(conn), PartitionUtils.readAll(conn));
+    }
+
+    /**
+     * 表选项
+     *
+     * @param tableName Table Name
+     * @return [ Option Name : Value ]，副本
+     */
+    public Map<String, String> getOptions(String tableName) {
+        Map<String, String> result = options.get(tableName);
+        return result != null ? new LinkedHashMap<>(result) : new LinkedHashMap<>();
+    }
+
+    /**
+     * 分区，多次取用为同一实例，不可修改
+     *
+     * @param tableName Table Name
+     * @return the {@link Partitioning} instance, or null if not partitioned
+     */
+    public Partitioning getPartitioning(String tableName) {
+        return partitionings.get(tableName);
+    }
+
+}
@@ -0,0 +1,44 @@
+package io.github.winter.database.table;
+
+/**
+ * 字符集
+ *
+ * @author changebooks@qq.com
+ */
+public final class CharsetUtils {
+
+    private CharsetUtils() {
+    }
+
+    /**
+     * 单字符最大字节数，未知时按 utf8mb4
+     *
+     * @param charset 字符集
+     * @return 1 ~ 4
+     */
+    public static int readMaxBytes(String charset) {
+        if (charset == null) {
+            return 4;
+        }
+
+        String name = charset.trim().toLowerCase();
+        if (name.isEmpty() || name.startsWith("utf8mb4") || name.startsWith("utf16") || name.startsWith("utf32")) {
+            return 4;
+        }
+
+        if (name.startsWith("utf8")) {
+            return 3;
+        }
+
+        if (name.startsWith("ucs2") || name.startsWith("gbk") || name.startsWith("gb2312") || name.startsWith("big5")) {
+            return 2;
+        }
+
+        if (name.startsWith("gb18030")) {
+            return 4;
+        }
+
+        return 1;
+    }
+
+}
@@ -0,0 +1,88 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 校验和的 SQL 方言，行哈希及区间聚合表达式
+ * <p>
+ * 行哈希须区分 NULL 与空串，区间聚合须与行序无关；源库、目标库取同一方言
+ *
+ * @author changebooks@qq.com
+ */
+public interface ChecksumDialect {
+    /**
+     * MySQL，CRC32 / MD5 + BIT_XOR
+     */
+    ChecksumDialect MYSQL = new ChecksumDialect() {
+        @Override
+        public String buildRowHash(@NotNull List<String> columnNames, @NotNull TableChecksum.Algorithm algorithm) {
+            String concat = concat(columnNames);
+            if (algorithm == TableChecksum.Algorithm.MD5) {
+                return "CAST(CONV(LEFT(MD5(" + concat + "), 16), 16, 10) AS UNSIGNED)";
+            } else {
+                return "CRC32(" + concat + ")";
+            }
+        }
+
+        @Override
+        public String buildAggregate(@NotNull String rowHash) {
+            return "COALESCE(BIT_XOR(" + rowHash + "), 0)";
+        }
+    };
+
+    /**
+     * H2，本地测试用，ORA_HASH + BIT_XOR_AGG，不区分算法
+     */
+    ChecksumDialect H2 = new ChecksumDialect() {
+        @Override
+        public String buildRowHash(@NotNull List<String> columnNames, @NotNull TableChecksum.Algorithm algorithm) {
+            return "ORA_HASH(" + concat(columnNames) + ")";
+        }
+
+        @Override
+        public String buildAggregate(@NotNull String rowHash) {
+            return "COALESCE(BIT_XOR_AGG(" + rowHash + "), 0)";
+        }
+    };
+
+    /**
+     * 行哈希表达式
+     *
+     * @param columnNames [ Column Name ]
+     * @param algorithm   the {@link TableChecksum.Algorithm} instance
+     * @return CRC32(CONCAT_WS('#', a, b, CONCAT(...)))
+     */
+    String buildRowHash(@NotNull List<String> columnNames, @NotNull TableChecksum.Algorithm algorithm);
+
+    /**
+     * 区间校验和表达式
+     *
+     * @param rowHash 行哈希表达式
+     * @return COALESCE(BIT_XOR(rowHash), 0)
+     */
+    String buildAggregate(@NotNull String rowHash);
+
+    /**
+     * 拼接全部字段，NULL 位图区分 NULL 与空串
+     *
+     * @param columnNames [ Column Name ]
+     * @return CONCAT_WS('#', a, b, CONCAT(CASE WHEN a IS NULL THEN '1' ELSE '0' END, ...))
+     */
+    static String concat(@NotNull List<String> columnNames) {
+        StringJoiner nulls = new StringJoiner(", ", "CONCAT(", ")");
+        for (String columnName : columnNames) {
+            nulls.add("CASE WHEN " + columnName + " IS NULL THEN '1' ELSE '0' END");
+        }
+
+        // 单字段时 CONCAT 至少两个参数
+        if (columnNames.size() == 1) {
+            nulls.add("''");
+        }
+
+        return "CONCAT_WS('#', " + String.join(", ", columnNames) + ", " + nulls + ")";
+    }
+
+}
@@ -0,0 +1,75 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 表校验结果
+ *
+ * @author changebooks@qq.com
+ */
+public final class ChecksumResult implements Serializable {
+    /**
+     * 表名
+     */
+    private String tableName;
+
+    /**
+     * 区间数
+     */
+    private int chunks;
+
+    /**
+     * [ 不一致的区间 ]
+     */
+    private List<ChunkChecksum> mismatches = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * [ 行差异 ]
+     */
+    private List<RowDiff> rowDiffs = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * 一致？
+     *
+     * @return Match ?
+     */
+    public boolean isMatch() {
+        return mismatches.isEmpty();
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+
+    public List<ChunkChecksum> getMismatches() {
+        return mismatches;
+    }
+
+    public void setMismatches(List<ChunkChecksum> mismatches) {
+        this.mismatches = mismatches != null ? mismatches : Collections.synchronizedList(new ArrayList<>());
+    }
+
+    public List<RowDiff> getRowDiffs() {
+        return rowDiffs;
+    }
+
+    public void setRowDiffs(List<RowDiff> rowDiffs) {
+        this.rowDiffs = rowDiffs != null ? rowDiffs : Collections.synchronizedList(new ArrayList<>());
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+
+/**
+ * 区间校验和
+ *
+ * @author changebooks@qq.com
+ */
+public final class ChunkChecksum implements Serializable {
+    /**
+     * the {@link KeyRange} instance
+     */
+    private KeyRange range;
+
+    /**
+     * 源库行数
+     */
+    private long sourceRows;
+
+    /**
+     * 源库校验和
+     */
+    private String sourceHash;
+
+    /**
+     * 目标库行数
+     */
+    private long targetRows;
+
+    /**
+     * 目标库校验和
+     */
+    private String targetHash;
+
+    /**
+     * 一致？
+     *
+     * @return Match ?
+     */
+    public boolean isMatch() {
+        if (sourceRows != targetRows) {
+            return false;
+        }
+
+        if (sourceHash == null) {
+            return targetHash == null;
+        }
+
+        return sourceHash.equals(targetHash);
+    }
+
+    public KeyRange getRange() {
+        return range;
+    }
+
+    public void setRange(KeyRange range) {
+        this.range = range;
+    }
+
+    public long getSourceRows() {
+        return sourceRows;
+    }
+
+    public void setSourceRows(long sourceRows) {
+        this.sourceRows = sourceRows;
+    }
+
+    public String getSourceHash() {
+        return sourceHash;
+    }
+
+    public void setSourceHash(String sourceHash) {
+        this.sourceHash = sourceHash;
+    }
+
+    public long getTargetRows() {
+        return targetRows;
+    }
+
+    public void setTargetRows(long targetRows) {
+        this.targetRows = targetRows;
+    }
+
+    public String getTargetHash() {
+        return targetHash;
+    }
+
+    public void setTargetHash(String targetHash) {
+        this.targetHash = targetHash;
+    }
+
+}
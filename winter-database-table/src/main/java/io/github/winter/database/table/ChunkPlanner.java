@@ -0,0 +1,395 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 主键区间拆分，输出左闭右开的区间及预估行数
+ * <p>
+ * 单列整数主键按 MIN / MAX 及行密度拆分；
+ * 复合主键优先按首列直方图拆分，否则沿主键索引逐段定位边界
+ *
+ * @author changebooks@qq.com
+ */
+public class ChunkPlanner {
+    /**
+     * 整数类型，{@link java.sql.Types}
+     */
+    private static final Set<Integer> INTEGER_TYPES = Set.of(
+            Types.TINYINT,
+            Types.SMALLINT,
+            Types.INTEGER,
+            Types.BIGINT
+    );
+
+    /**
+     * 拆分方式
+     */
+    public enum Strategy {
+        /**
+         * 按主键类型自动选择
+         */
+        AUTO,
+
+        /**
+         * MIN / MAX 等跨度，单列整数主键
+         */
+        MIN_MAX,
+
+        /**
+         * 首列直方图
+         */
+        HISTOGRAM,
+
+        /**
+         * 沿主键索引，每 chunkRows 行定位一个边界，适用于倾斜数据
+         */
+        INDEX_DIVE
+    }
+
+    /**
+     * 每个区间的目标行数
+     */
+    private long chunkRows = 100_000;
+
+    /**
+     * 拆分方式
+     */
+    private Strategy strategy = Strategy.AUTO;
+
+    /**
+     * Plan Ranges
+     *
+     * @param conn  the {@link Connection} instance
+     * @param table the {@link Table} instance
+     * @return [ the {@link KeyRange} instance ], ordered by key
+     * @throws SQLException if a database access error occurs
+     */
+    public List<KeyRange> plan(@NotNull Connection conn, @NotNull Table table) throws SQLException {
+        List<String> keyColumns = readKey(table);
+        String tableName = table.getName();
+
+        Long rawTableRows = TableUtils.readApproximateRows(conn, tableName);
+        long tableRows = rawTableRows != null ? rawTableRows : -1;
+
+        if (keyColumns == null || keyColumns.isEmpty()) {
+            return List.of(KeyRange.unbounded(tableRows));
+        }
+
+        boolean integer = keyColumns.size() == 1 && isInteger(table, keyColumns.get(0));
+
+        Strategy current = strategy;
+        if (current == Strategy.AUTO) {
+            current = integer ? Strategy.MIN_MAX : Strategy.HISTOGRAM;
+        }
+
+        if (current == Strategy.MIN_MAX && integer) {
+            return planByMinMax(conn, table, keyColumns.get(0), tableRows);
+        }
+
+        if (current == Strategy.HISTOGRAM && tableRows > 0) {
+            List<KeyRange> result = planByHistogram(conn, tableName, keyColumns.get(0), tableRows);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        return planByIndexDive(conn, tableName, keyColumns, tableRows);
+    }
+
+    /**
+     * 拆分所用的键，主键优先，否则取首个非空唯一索引
+     *
+     * @param table the {@link Table} instance
+     * @return [ Key Column Name ]
+     */
+    public List<String> readKey(@NotNull Table table) {
+        return KeysetUtils.readKey(table);
+    }
+
+    /**
+     * MIN / MAX 拆分，自增主键以 AUTO_INCREMENT 为上界，跨度按行密度折算；
+     * 首个区间下界、末个区间上界无界，空表为一个无界区间，计划可用于另一张表
+     *
+     * @param conn      the {@link Connection} instance
+     * @param table     the {@link Table} instance
+     * @param keyColumn Key Column Name
+     * @param tableRows 预估行数，未知为 -1
+     * @return [ the {@link KeyRange} instance ]
+     * @throws SQLException if a database access error occurs
+     */
+    protected List<KeyRange> planByMinMax(@NotNull Connection conn, @NotNull Table table,
+                                          @NotNull String keyColumn, long tableRows) throws SQLException {
+        String tableName = table.getName();
+        List<KeyRange> result = new ArrayList<>();
+
+        Long autoIncrement = isAutoIncrement(table, keyColumn) ? TableUtils.readAutoIncrement(conn, tableName) : null;
+        boolean useAutoIncrement = autoIncrement != null && autoIncrement > 1;
+
+        String command = useAutoIncrement ?
+                "SELECT MIN(" + keyColumn + ") FROM " + tableName :
+                "SELECT MIN(" + keyColumn + "), MAX(" + keyColumn + ") FROM " + tableName;
+
+        long min;
+        long max;
+        try (Statement stat = conn.createStatement(); ResultSet rs = stat.executeQuery(command)) {
+            if (!rs.next()) {
+                return List.of(KeyRange.unbounded(tableRows));
+            }
+
+            min = rs.getLong(1);
+            if (rs.wasNull()) {
+                return List.of(KeyRange.unbounded(tableRows));
+            }
+
+            max = useAutoIncrement ? autoIncrement - 1 : rs.getLong(2);
+        }
+
+        if (max < min) {
+            max = min;
+        }
+
+        // 行密度，主键空洞越多，跨度越大
+        double span = (double) max - min + 1;
+        double density = tableRows > 0 ? Math.min(1.0, tableRows / span) : 1.0;
+        long step = Math.max(1, (long) Math.ceil(chunkRows / density));
+
+        for (long lower = min; ; lower += step) {
+            // 首个区间下界无界，容纳小于 MIN 的键
+            List<Object> lowerKey = lower == min ? null : List.of(lower);
+
+            // 末个区间上界无界，避免 max + 1 溢出，并容纳读取期间新增的行
+            if (Long.compareUnsigned(max - lower, step) < 0) {
+                long rows = Math.round((max - lower + 1) * density);
+                result.add(new KeyRange(lowerKey, null, rows));
+                break;
+            }
+
+            result.add(new KeyRange(lowerKey, List.of(lower + step), Math.round(step * density)));
+        }
+
+        return result;
+    }
+
+    /**
+     * 首列直方图拆分，按累计频率等分
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @param keyColumn Leading Key Column Name
+     * @param tableRows 预估行数
+     * @return [ the {@link KeyRange} instance ], or null if no usable histogram
+     * @throws SQLException if a database access error occurs
+     */
+    protected List<KeyRange> planByHistogram(@NotNull Connection conn, @NotNull String tableName,
+                                             @NotNull String keyColumn, long tableRows) throws SQLException {
+        Histogram histogram;
+        try {
+            histogram = Histogram.parse(ColumnUtils.readHistogram(conn, tableName, keyColumn));
+        } catch (SQLException e) {
+            // 非 MySQL 8，无 COLUMN_STATISTICS 时退回，超时、取消等抛出
+            if (!isMissingStatistics(e)) {
+                throw e;
+            }
+
+            return null;
+        }
+
+        if (histogram == null) {
+            return null;
+        }
+
+        List<Long> upperBounds = histogram.getUpperBounds();
+        List<Double> frequencies = histogram.getCumulativeFrequencies();
+
+        long chunks = Math.max(1, (tableRows + chunkRows - 1) / chunkRows);
+        List<KeyRange> result = new ArrayList<>();
+
+        Long lower = null;
+        double lowerFrequency = 0;
+        int bucket = 0;
+        for (long i = 1; i < chunks && bucket < upperBounds.size(); i++) {
+            double target = (double) i / chunks;
+            while (bucket < upperBounds.size() - 1 && frequencies.get(bucket) < target) {
+                bucket++;
+            }
+
+            long upper = upperBounds.get(bucket) + 1;
+            if (lower != null && upper <= lower) {
+                continue;
+            }
+
+            double frequency = frequencies.get(bucket);
+            result.add(new KeyRange(lower != null ? List.of(lower) : null, List.of(upper), Math.round((frequency - lowerFrequency) * tableRows)));
+
+            lower = upper;
+            lowerFrequency = frequency;
+            bucket++;
+        }
+
+        result.add(new KeyRange(lower != null ? List.of(lower) : null, null, Math.round((1 - lowerFrequency) * tableRows)));
+        return result;
+    }
+
+    /**
+     * 沿主键索引定位边界，每个区间恰好 chunkRows 行
+     *
+     * @param conn       the {@link Connection} instance
+     * @param tableName  Table Name
+     * @param keyColumns [ Key Column Name ]
+     * @param tableRows  预估行数，未知为 -1
+     * @return [ the {@link KeyRange} instance ]
+     * @throws SQLException if a database access error occurs
+     */
+    protected List<KeyRange> planByIndexDive(@NotNull Connection conn, @NotNull String tableName,
+                                             @NotNull List<String> keyColumns, long tableRows) throws SQLException {
+        String joinedColumns = String.join(", ", keyColumns);
+        String orderBy = KeysetUtils.buildOrderBy(keyColumns);
+        String first = "SELECT " + joinedColumns + " FROM " + tableName +
+                " ORDER BY " + orderBy + " LIMIT 1 OFFSET ?";
+        String next = "SELECT " + joinedColumns + " FROM " + tableName +
+                " WHERE " + KeyRangeUtils.buildComparison(keyColumns, keyColumns.size(), " >= ") +
+                " ORDER BY " + orderBy + " LIMIT 1 OFFSET ?";
+
+        List<KeyRange> result = new ArrayList<>();
+        List<Object> lower = null;
+        long remaining = tableRows;
+
+        while (true) {
+            List<Object> upper = dive(conn, lower == null ? first : next, lower, keyColumns.size());
+            if (upper == null) {
+                break;
+            }
+
+            result.add(new KeyRange(lower, upper, chunkRows));
+            lower = upper;
+            remaining -= chunkRows;
+        }
+
+        result.add(new KeyRange(lower, null, tableRows >= 0 ? Math.max(0, remaining) : -1));
+        return result;
+    }
+
+    /**
+     * 自 lower 起，跳过 chunkRows 行，取下一个边界
+     *
+     * @param conn    the {@link Connection} instance
+     * @param command SELECT key ... LIMIT 1 OFFSET ?
+     * @param lower   下界，含
+     * @param width   主键字段数
+     * @return 边界，不存在时为 null
+     * @throws SQLException if a database access error occurs
+     */
+    private List<Object> dive(@NotNull Connection conn, @NotNull String command,
+                              List<Object> lower, int width) throws SQLException {
+        try (PreparedStatement stat = conn.prepareStatement(command)) {
+            int index = 1;
+            if (lower != null) {
+                index = KeysetUtils.bind(stat, index, lower, true);
+            }
+
+            stat.setLong(index, chunkRows);
+
+            try (ResultSet rs = stat.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+
+                List<Object> result = new ArrayList<>(width);
+                for (int i = 1; i <= width; i++) {
+                    result.add(rs.getObject(i));
+                }
+
+                return result;
+            }
+        }
+    }
+
+    /**
+     * 无 COLUMN_STATISTICS？Unknown table (1109)、表不存在 (1146)、字段不存在 (1054)
+     *
+     * @param e the {@link SQLException} instance
+     * @return Missing ?
+     */
+    private static boolean isMissingStatistics(@NotNull SQLException e) {
+        int errorCode = e.getErrorCode();
+        if (errorCode == 1109 || errorCode == 1146 || errorCode == 1054) {
+            return true;
+        }
+
+        return "42S02".equals(e.getSQLState()) || "42S22".equals(e.getSQLState());
+    }
+
+    /**
+     * 整数？
+     *
+     * @param table      the {@link Table} instance
+     * @param columnName Column Name
+     * @return Integer ?
+     */
+    protected boolean isInteger(@NotNull Table table, @NotNull String columnName) {
+        Column column = findColumn(table, columnName);
+        return column != null && INTEGER_TYPES.contains(column.getType());
+    }
+
+    /**
+     * 自增？
+     *
+     * @param table      the {@link Table} instance
+     * @param columnName Column Name
+     * @return Auto Increment ?
+     */
+    protected boolean isAutoIncrement(@NotNull Table table, @NotNull String columnName) {
+        Column column = findColumn(table, columnName);
+        return column != null && column.isAutoIncrement();
+    }
+
+    /**
+     * 按名取字段
+     *
+     * @param table      the {@link Table} instance
+     * @param columnName Column Name
+     * @return the {@link Column} instance
+     */
+    private static Column findColumn(@NotNull Table table, @NotNull String columnName) {
+        List<Column> columns = table.getColumns();
+        if (columns == null) {
+            return null;
+        }
+
+        return columns.stream()
+                .filter(Objects::nonNull)
+                .filter(x -> columnName.equalsIgnoreCase(x.getName()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public long getChunkRows() {
+        return chunkRows;
+    }
+
+    public void setChunkRows(long chunkRows) {
+        if (chunkRows <= 0) {
+            throw new RuntimeException("chunkRows must be greater than 0");
+        }
+
+        this.chunkRows = chunkRows;
+    }
+
+    @NotNull
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(@NotNull Strategy strategy) {
+        Objects.requireNonNull(strategy, "strategy must not be null");
+
+        this.strategy = strategy;
+    }
+
+}
@@ -100,6 +100,25 @@ public final class Column implements Serializable {
      */
     private boolean autoIncrement;
 
+    /**
+     * 生成列表达式，GENERATED ALWAYS AS (...)，非生成列为 null
+     */
+    private String generationExpression;
+
+    /**
+     * 生成列持久化？STORED 写入行内，否则 VIRTUAL 读取时计算
+     */
+    private boolean generatedStored;
+
+    /**
+     * 生成列？不可写入
+     *
+     * @return Generated ?
+     */
+    public boolean isGenerated() {
+        return generationExpression != null && !generationExpression.trim().isEmpty();
+    }
+
     public String getName() {
         return name;
     }
@@ -244,4 +263,20 @@ public final class Column implements Serializable {
         this.autoIncrement = autoIncrement;
     }
 
+    public String getGenerationExpression() {
+        return generationExpression;
+    }
+
+    public void setGenerationExpression(String generationExpression) {
+        this.generationExpression = generationExpression;
+    }
+
+    public boolean isGeneratedStored() {
+        return generatedStored;
+    }
+
+    public void setGeneratedStored(boolean generatedStored) {
+        this.generatedStored = generatedStored;
+    }
+
 }
@@ -9,6 +9,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 字段描述
@@ -16,6 +17,21 @@ import java.util.List;
  * @author changebooks@qq.com
  */
 public class ColumnReader {
+    /**
+     * the {@link TypeMap} instance
+     */
+    private final TypeMap typeMap;
+
+    public ColumnReader() {
+        this(TypeMap.MYSQL);
+    }
+
+    public ColumnReader(@NotNull TypeMap typeMap) {
+        Objects.requireNonNull(typeMap, "typeMap must not be null");
+
+        this.typeMap = typeMap;
+    }
+
     /**
      * Read Column
      *
@@ -31,23 +47,27 @@ public class ColumnReader {
      */
     public Column read(@NotNull ResultSet rs, @NotNull Connection conn, @NotBlank String tableName,
                        List<String> primaryKey) throws SQLException {
-        Column result = new Column();
-
-        setName(result, rs, conn, tableName);
-        setRemark(result, rs, conn, tableName);
-        setType(result, rs, conn, tableName);
-        setTypeName(result, rs, conn, tableName);
-        setClazz(result, rs, conn, tableName);
-        setSize(result, rs, conn, tableName);
-        setScale(result, rs, conn, tableName);
-        setDefaultValue(result, rs, conn, tableName);
-        setNullable(result, rs, conn, tableName);
-        setUnsigned(result, rs, conn, tableName);
-        setId(result, rs, conn, tableName, primaryKey);
-        setAutoIncrement(result, rs, conn, tableName);
-
-        afterPropertiesSet(result, rs, conn, tableName);
-        return result;
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.COLUMN, null, tableName)) {
+            Column result = new Column();
+
+            setName(result, rs, conn, tableName);
+            trace.setName(result.getName());
+            setRemark(result, rs, conn, tableName);
+            setType(result, rs, conn, tableName);
+            setTypeName(result, rs, conn, tableName);
+            setUnsigned(result, rs, conn, tableName);
+            setSize(result, rs, conn, tableName);
+            setScale(result, rs, conn, tableName);
+            setNullable(result, rs, conn, tableName);
+            setClazz(result, rs, conn, tableName);
+            setDefaultValue(result, rs, conn, tableName);
+            setId(result, rs, conn, tableName, primaryKey);
+            setAutoIncrement(result, rs, conn, tableName);
+            setGenerated(result, rs, conn, tableName);
+
+            afterPropertiesSet(result, rs, conn, tableName);
+            return result;
+        }
     }
 
     /**
@@ -140,7 +160,7 @@ public class ColumnReader {
     }
 
     /**
-     * 值类型
+     * 值类型，按类型、非负、长度、可空查表，须在其后读取
      *
      * @param record    the {@link Column} instance
      * @param rs        the {@link ResultSet} instance
@@ -155,7 +175,7 @@ public class ColumnReader {
                             @NotNull ResultSet rs,
                             @NotNull Connection conn, @NotNull String tableName) throws SQLException {
         int type = record.getType();
-        Class<?> clazz = TypeMap.lookup(type);
+        Class<?> clazz = getTypeMap().lookup(type, record.isUnsigned(), record.getSize(), record.isNullable());
         record.setClazz(clazz);
     }
 
@@ -212,11 +232,13 @@ public class ColumnReader {
     protected void setDefaultValue(@NotNull Column record,
                                    @NotNull ResultSet rs,
                                    @NotNull Connection conn, @NotNull String tableName) throws SQLException {
-        Class<?> clazz = record.getClazz();
-        if (clazz == null) {
+        Class<?> rawClazz = record.getClazz();
+        if (rawClazz == null) {
             throw new RuntimeException(String.format("clazz must not be null, columnName: %s", record.getName()));
         }
 
+        Class<?> clazz = TypeMap.readDefaultType(rawClazz);
+
         if (clazz == String.class) {
             setDefaultString(record, rs, conn, tableName);
             return;
@@ -242,7 +264,7 @@ public class ColumnReader {
             return;
         }
 
-        throw new RuntimeException(String.format("unsupported clazz, clazz: %s, columnName: %s", clazz, record.getName()));
+        throw new RuntimeException(String.format("unsupported clazz, clazz: %s, columnName: %s", rawClazz, record.getName()));
     }
 
     /**
@@ -498,6 +520,52 @@ public class ColumnReader {
         }
     }
 
+    /**
+     * 生成列，表达式及 VIRTUAL | STORED
+     *
+     * @param record    the {@link Column} instance
+     * @param rs        the {@link ResultSet} instance
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    protected void setGenerated(@NotNull Column record,
+                                @NotNull ResultSet rs,
+                                @NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        String generated = rs.getString("IS_GENERATEDCOLUMN");
+        if (!"YES".equalsIgnoreCase(generated)) {
+            return;
+        }
+
+        String columnName = record.getName();
+        if (columnName == null) {
+            return;
+        }
+
+        String expression = ColumnUtils.readGenerationExpression(conn, tableName, columnName);
+        if (expression == null) {
+            return;
+        }
+
+        record.setGenerationExpression(expression);
+
+        String extra = ColumnUtils.readExtra(conn, tableName, columnName);
+        if (extra != null && extra.toUpperCase().contains("STORED GENERATED")) {
+            record.setGeneratedStored(true);
+        }
+
+        // 生成列没有默认值
+        record.setDefaultString(null);
+        record.setDefaultInteger(null);
+        record.setDefaultLong(null);
+        record.setDefaultBigDecimal(null);
+        record.setDefaultCurrentDateOnInsert(false);
+        record.setDefaultCurrentDateOnUpdate(false);
+    }
+
     /**
      * After Properties Set
      *
@@ -515,4 +583,8 @@ public class ColumnReader {
                                       @NotNull Connection conn, @NotNull String tableName) throws SQLException {
     }
 
+    public TypeMap getTypeMap() {
+        return typeMap;
+    }
+
 }
@@ -0,0 +1,207 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 字段描述
+ *
+ * @author changebooks@qq.com
+ */
+public final class ColumnUtils {
+
+    private ColumnUtils() {
+    }
+
+    /**
+     * 整数类型的最大值
+     *
+     * @param typeName 类型名，如 INT、BIGINT，可含 UNSIGNED
+     * @param unsigned 非负？
+     * @return Max Value, or null if not an integer type
+     */
+    public static BigInteger readMaxValue(String typeName, boolean unsigned) {
+        if (typeName == null) {
+            return null;
+        }
+
+        String upperTypeName = typeName.trim().toUpperCase();
+        if (upperTypeName.contains(" UNSIGNED")) {
+            unsigned = true;
+            upperTypeName = upperTypeName.replace(" UNSIGNED", "").trim();
+        }
+
+        // ZEROFILL 隐含 UNSIGNED
+        if (upperTypeName.contains(" ZEROFILL")) {
+            unsigned = true;
+            upperTypeName = upperTypeName.replace(" ZEROFILL", "").trim();
+        }
+
+        int paren = upperTypeName.indexOf('(');
+        if (paren > 0) {
+            // INT(11)
+            upperTypeName = upperTypeName.substring(0, paren).trim();
+        }
+
+        int bytes = switch (upperTypeName) {
+            case "TINYINT" -> 1;
+            case "SMALLINT" -> 2;
+            case "MEDIUMINT" -> 3;
+            case "INT", "INTEGER" -> 4;
+            case "BIGINT" -> 8;
+            default -> 0;
+        };
+
+        if (bytes == 0) {
+            return null;
+        }
+
+        return BigInteger.ONE.shiftLeft(unsigned ? bytes * 8 : bytes * 8 - 1).subtract(BigInteger.ONE);
+    }
+
+    /**
+     * 扩展
+     *
+     * @param conn       the {@link Connection} instance
+     * @param tableName  Table Name
+     * @param columnName Column Name
+     * @return Column Extra
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static String readExtra(@NotNull Connection conn, @NotNull String tableName, @NotNull String columnName) throws SQLException {
+        String command = "SELECT EXTRA FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+        PreparedStatement stat = conn.prepareStatement(command);
+        if (stat == null) {
+            return null;
+        }
+
+        try (stat) {
+            MetadataTimeout.apply(stat);
+
+            String tableSchema = conn.getCatalog();
+
+            stat.setString(1, tableSchema);
+            stat.setString(2, tableName);
+            stat.setString(3, columnName);
+
+            ResultSet rs = stat.executeQuery();
+            MetadataTrace.roundTrip();
+            if (rs == null) {
+                return null;
+            }
+
+            try (rs) {
+                if (rs.next()) {
+                    MetadataTrace.rows(1);
+                    return rs.getString("EXTRA");
+                } else {
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 生成列表达式，去除 INFORMATION_SCHEMA 中单引号的转义
+     *
+     * @param conn       the {@link Connection} instance
+     * @param tableName  Table Name
+     * @param columnName Column Name
+     * @return Generation Expression，非生成列为 null
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static String readGenerationExpression(@NotNull Connection conn, @NotNull String tableName, @NotNull String columnName) throws SQLException {
+        String command = "SELECT GENERATION_EXPRESSION FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+        PreparedStatement stat = conn.prepareStatement(command);
+        if (stat == null) {
+            return null;
+        }
+
+        try (stat) {
+            MetadataTimeout.apply(stat);
+
+            String tableSchema = conn.getCatalog();
+
+            stat.setString(1, tableSchema);
+            stat.setString(2, tableName);
+            stat.setString(3, columnName);
+
+            ResultSet rs = stat.executeQuery();
+            MetadataTrace.roundTrip();
+            if (rs == null) {
+                return null;
+            }
+
+            try (rs) {
+                if (rs.next()) {
+                    MetadataTrace.rows(1);
+                    String expression = rs.getString("GENERATION_EXPRESSION");
+                    if (expression == null || expression.trim().isEmpty()) {
+                        return null;
+                    }
+
+                    return expression.replace("\\'", "'");
+                } else {
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 直方图，MySQL 8 INFORMATION_SCHEMA.COLUMN_STATISTICS
+     *
+     * @param conn       the {@link Connection} instance
+     * @param tableName  Table Name
+     * @param columnName Column Name
+     * @return Histogram JSON
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static String readHistogram(@NotNull Connection conn, @NotNull String tableName, @NotNull String columnName) throws SQLException {
+        String command = "SELECT HISTOGRAM FROM INFORMATION_SCHEMA.COLUMN_STATISTICS WHERE SCHEMA_NAME = ? AND TABLE_NAME = ? AND COLUMN_NAME = ?";
+        PreparedStatement stat = conn.prepareStatement(command);
+        if (stat == null) {
+            return null;
+        }
+
+        try (stat) {
+            MetadataTimeout.apply(stat);
+
+            String tableSchema = conn.getCatalog();
+
+            stat.setString(1, tableSchema);
+            stat.setString(2, tableName);
+            stat.setString(3, columnName);
+
+            ResultSet rs = stat.executeQuery();
+            MetadataTrace.roundTrip();
+            if (rs == null) {
+                return null;
+            }
+
+            try (rs) {
+                if (rs.next()) {
+                    MetadataTrace.rows(1);
+                    return rs.getString("HISTOGRAM");
+                } else {
+                    return null;
+                }
+            }
+        }
+    }
+
+}
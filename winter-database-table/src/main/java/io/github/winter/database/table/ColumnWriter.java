@@ -2,6 +2,8 @@ package io.github.winter.database.table;
 
 import jakarta.validation.constraints.NotNull;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.Date;
 import java.util.List;
@@ -46,17 +48,98 @@ public class ColumnWriter {
      * Build SQL
      *
      * @param record the {@link Column} instance
-     * @return name type[(size,scale)] [ unsigned ] [ NOT NULL ] [ DEFAULT | AUTO_INCREMENT ] [ COMMENT ]
+     * @return name type[(size,scale)] [ unsigned ] [ GENERATED ALWAYS AS (...) ] [ NOT NULL ] [ DEFAULT | AUTO_INCREMENT ] [ COMMENT ]
      */
     public String write(@NotNull Column record) {
-        String name = getName(record);
-        String type = getType(record);
-        String unsigned = getUnsigned(record);
-        String nullable = getNullable(record);
-        String defaultValue = getDefaultValue(record);
-        String remark = getRemark(record);
-
-        return name + type + unsigned + nullable + defaultValue + remark;
+        StringBuilder result = new StringBuilder(64);
+        try {
+            write(record, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Append SQL，跳过空字段，同 {@link #write(List)}
+     *
+     * @param list      [ the {@link Column} instance ]
+     * @param out       the {@link Appendable} instance
+     * @param separator 元素间的分隔符
+     * @param count     已写出的元素数
+     * @return 写出后的元素数
+     * @throws IOException if an I/O error occurs
+     */
+    public int write(@NotNull List<Column> list, @NotNull Appendable out, String separator, int count) throws IOException {
+        for (Column record : list) {
+            if (record == null) {
+                continue;
+            }
+
+            String sql = write(record);
+            if (AppendUtils.isBlank(sql)) {
+                continue;
+            }
+
+            if (count > 0 && separator != null) {
+                out.append(separator);
+            }
+
+            AppendUtils.appendTrimmed(out, sql);
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Append SQL，按扩展点拼接
+     *
+     * @param record the {@link Column} instance
+     * @param out    the {@link Appendable} instance
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(@NotNull Column record, @NotNull Appendable out) throws IOException {
+        out.append(getName(record));
+        out.append(getType(record));
+        out.append(getUnsigned(record));
+        out.append(getGenerated(record));
+        out.append(getNullable(record));
+
+        if (!record.isGenerated()) {
+            out.append(getDefaultValue(record));
+        }
+
+        out.append(getRemark(record));
+    }
+
+    /**
+     * 类型
+     */
+    private static void appendType(@NotNull Column record, @NotNull Appendable out) throws IOException {
+        String typeName = record.getTypeName();
+        if (AppendUtils.isBlank(typeName)) {
+            return;
+        }
+
+        out.append(' ');
+        AppendUtils.appendTrimmed(out, typeName);
+
+        int size = record.getSize();
+        int scale = record.getScale();
+        if (size <= 0 && scale <= 0) {
+            return;
+        }
+
+        out.append('(');
+        AppendUtils.appendNumber(out, Math.max(size, 0));
+        if (scale > 0) {
+            out.append(',');
+            AppendUtils.appendNumber(out, scale);
+        }
+
+        out.append(')');
     }
 
     /**
@@ -81,31 +164,14 @@ public class ColumnWriter {
      * @return Type[(Size, Scale)]
      */
     protected String getType(@NotNull Column record) {
-        String rawTypeName = record.getTypeName();
-        if (rawTypeName == null) {
-            return "";
+        StringBuilder result = new StringBuilder(32);
+        try {
+            appendType(record, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
-        String typeName = rawTypeName.trim();
-        if (typeName.isEmpty()) {
-            return "";
-        }
-
-        int size = record.getSize();
-        int scale = record.getScale();
-        if (size > 0) {
-            if (scale > 0) {
-                return " " + typeName + "(" + size + "," + scale + ")";
-            } else {
-                return " " + typeName + "(" + size + ")";
-            }
-        } else {
-            if (scale > 0) {
-                return " " + typeName + "(0," + scale + ")";
-            } else {
-                return " " + typeName;
-            }
-        }
+        return result.toString();
     }
 
     /**
@@ -123,6 +189,22 @@ public class ColumnWriter {
         }
     }
 
+    /**
+     * 生成列，无默认值
+     *
+     * @param record the {@link Column} instance
+     * @return GENERATED ALWAYS AS (expression) VIRTUAL | STORED
+     */
+    protected String getGenerated(@NotNull Column record) {
+        if (!record.isGenerated()) {
+            return "";
+        }
+
+        String expression = record.getGenerationExpression();
+        String kind = record.isGeneratedStored() ? "STORED" : "VIRTUAL";
+        return " GENERATED ALWAYS AS (" + (expression != null ? expression.trim() : "") + ") " + kind;
+    }
+
     /**
      * 可空
      *
@@ -150,7 +232,7 @@ public class ColumnWriter {
             return autoIncrement;
         }
 
-        Class<?> clazz = record.getClazz();
+        Class<?> clazz = TypeMap.readDefaultType(record.getClazz());
         if (clazz == null) {
             return "";
         }
@@ -0,0 +1,62 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * 并行任务
+ *
+ * @author changebooks@qq.com
+ */
+public final class ConcurrentUtils {
+
+    private ConcurrentUtils() {
+    }
+
+    /**
+     * 等待全部任务完成，首个失败抛出
+     *
+     * @param futures [ the {@link Future} instance ]
+     * @param name    任务名，用于异常信息
+     * @throws SQLException if a database access error occurs
+     */
+    public static void await(@NotNull List<? extends Future<?>> futures, @NotNull String name) throws SQLException {
+        for (Future<?> future : futures) {
+            get(future, name);
+        }
+    }
+
+    /**
+     * 等待单个任务完成，失败抛出
+     *
+     * @param future the {@link Future} instance
+     * @param name   任务名，用于异常信息
+     * @param <T>    结果类型
+     * @return 任务结果
+     * @throws SQLException if a database access error occurs
+     */
+    public static <T> T get(@NotNull Future<T> future, @NotNull String name) throws SQLException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(String.format("interrupted, name: %s", name), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new RuntimeException(String.format("failed, name: %s", name), cause);
+        }
+    }
+
+}
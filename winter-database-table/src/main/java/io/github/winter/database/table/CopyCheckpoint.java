@@ -0,0 +1,89 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 复制断点，区间计划及已提交的区间
+ * <p>
+ * 区间边界取决于预估行数及 AUTO_INCREMENT，复制期间会变化，续传时沿用首次的计划，不重新拆分
+ *
+ * @author changebooks@qq.com
+ */
+public final class CopyCheckpoint implements Serializable {
+    /**
+     * [ the {@link KeyRange} instance ]，首次复制时的计划，null 为尚未拆分
+     */
+    private volatile List<KeyRange> ranges;
+
+    /**
+     * [ {@link KeyRange#getId()} ]
+     */
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+
+    public CopyCheckpoint() {
+    }
+
+    public CopyCheckpoint(List<KeyRange> ranges, Collection<String> completed) {
+        if (ranges != null) {
+            this.ranges = List.copyOf(ranges);
+        }
+
+        if (completed != null) {
+            this.completed.addAll(completed);
+        }
+    }
+
+    /**
+     * 已提交？
+     *
+     * @param range the {@link KeyRange} instance
+     * @return Completed ?
+     */
+    public boolean isCompleted(@NotNull KeyRange range) {
+        return completed.contains(range.getId());
+    }
+
+    /**
+     * 标记已提交
+     *
+     * @param range the {@link KeyRange} instance
+     */
+    public void complete(@NotNull KeyRange range) {
+        completed.add(range.getId());
+    }
+
+    /**
+     * 已提交的区间，用于持久化
+     *
+     * @return [ {@link KeyRange#getId()} ]
+     */
+    @NotNull
+    public Set<String> getCompleted() {
+        return new TreeSet<>(completed);
+    }
+
+    /**
+     * 区间计划，用于持久化
+     *
+     * @return [ the {@link KeyRange} instance ], or null if not planned
+     */
+    public List<KeyRange> getRanges() {
+        return ranges;
+    }
+
+    /**
+     * 记入区间计划
+     *
+     * @param ranges [ the {@link KeyRange} instance ]
+     */
+    public void setRanges(@NotNull List<KeyRange> ranges) {
+        Objects.requireNonNull(ranges, "ranges must not be null");
+
+        this.ranges = List.copyOf(ranges);
+    }
+
+}
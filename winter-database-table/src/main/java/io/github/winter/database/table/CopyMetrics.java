@@ -0,0 +1,116 @@
+package io.github.winter.database.table;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 复制指标
+ *
+ * @author changebooks@qq.com
+ */
+public final class CopyMetrics {
+    /**
+     * 已复制行数
+     */
+    private final AtomicLong rows = new AtomicLong();
+
+    /**
+     * 已执行的 INSERT 数
+     */
+    private final AtomicLong batches = new AtomicLong();
+
+    /**
+     * 已提交的区间数
+     */
+    private final AtomicLong chunks = new AtomicLong();
+
+    /**
+     * 断点跳过的区间数
+     */
+    private final AtomicLong skippedChunks = new AtomicLong();
+
+    /**
+     * 开始时间，纳秒
+     */
+    private volatile long startNanos;
+
+    /**
+     * 结束时间，纳秒，0 为未结束
+     */
+    private volatile long endNanos;
+
+    public void start() {
+        startNanos = System.nanoTime();
+        endNanos = 0;
+    }
+
+    public void stop() {
+        endNanos = System.nanoTime();
+    }
+
+    public void addRows(long delta) {
+        rows.addAndGet(delta);
+    }
+
+    public void addBatch() {
+        batches.incrementAndGet();
+    }
+
+    public void addChunk() {
+        chunks.incrementAndGet();
+    }
+
+    public void addSkippedChunk() {
+        skippedChunks.incrementAndGet();
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    public long getBatches() {
+        return batches.get();
+    }
+
+    public long getChunks() {
+        return chunks.get();
+    }
+
+    public long getSkippedChunks() {
+        return skippedChunks.get();
+    }
+
+    /**
+     * 耗时，毫秒
+     *
+     * @return Elapsed Millis
+     */
+    public long getElapsedMillis() {
+        if (startNanos == 0) {
+            return 0;
+        }
+
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000;
+    }
+
+    /**
+     * 吞吐，行每秒
+     *
+     * @return Rows Per Second
+     */
+    public double getRowsPerSecond() {
+        long elapsedMillis = getElapsedMillis();
+        if (elapsedMillis <= 0) {
+            return 0;
+        }
+
+        return getRows() * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rows: %d, batches: %d, chunks: %d, skippedChunks: %d, elapsedMillis: %d, rowsPerSecond: %.1f",
+                getRows(), getBatches(), getChunks(), getSkippedChunks(), getElapsedMillis(), getRowsPerSecond());
+    }
+
+}
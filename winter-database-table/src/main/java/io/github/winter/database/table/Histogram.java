@@ -0,0 +1,109 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 整数字段直方图，MySQL 8 INFORMATION_SCHEMA.COLUMN_STATISTICS
+ *
+ * @author changebooks@qq.com
+ */
+public final class Histogram implements Serializable {
+    /**
+     * [ 桶上界，含 ]
+     */
+    private final List<Long> upperBounds;
+
+    /**
+     * [ 累计频率，0 ~ 1 ]
+     */
+    private final List<Double> cumulativeFrequencies;
+
+    public Histogram(List<Long> upperBounds, List<Double> cumulativeFrequencies) {
+        this.upperBounds = Collections.unmodifiableList(new ArrayList<>(upperBounds));
+        this.cumulativeFrequencies = Collections.unmodifiableList(new ArrayList<>(cumulativeFrequencies));
+    }
+
+    /**
+     * 解析，仅支持整数字段的 singleton / equi-height 直方图
+     *
+     * @param json HISTOGRAM
+     * @return the {@link Histogram} instance, or null if unsupported
+     */
+    public static Histogram parse(String json) {
+        if (json == null) {
+            return null;
+        }
+
+        if (!json.matches("(?s).*\"data-type\"\\s*:\\s*\"int\".*")) {
+            return null;
+        }
+
+        boolean singleton = json.matches("(?s).*\"histogram-type\"\\s*:\\s*\"singleton\".*");
+
+        int start = json.indexOf("\"buckets\"");
+        if (start < 0) {
+            return null;
+        }
+
+        start = json.indexOf('[', start);
+        if (start < 0) {
+            return null;
+        }
+
+        List<Long> upperBounds = new ArrayList<>();
+        List<Double> cumulativeFrequencies = new ArrayList<>();
+
+        int index = start + 1;
+        while (index < json.length()) {
+            char c = json.charAt(index);
+            if (c == ']') {
+                break;
+            }
+
+            if (c != '[') {
+                index++;
+                continue;
+            }
+
+            int end = json.indexOf(']', index);
+            if (end < 0) {
+                return null;
+            }
+
+            String[] values = json.substring(index + 1, end).split(",");
+            try {
+                if (singleton && values.length >= 2) {
+                    upperBounds.add(Long.parseLong(values[0].trim()));
+                    cumulativeFrequencies.add(Double.parseDouble(values[1].trim()));
+                } else if (!singleton && values.length >= 3) {
+                    upperBounds.add(Long.parseLong(values[1].trim()));
+                    cumulativeFrequencies.add(Double.parseDouble(values[2].trim()));
+                } else {
+                    return null;
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+
+            index = end + 1;
+        }
+
+        if (upperBounds.isEmpty()) {
+            return null;
+        }
+
+        return new Histogram(upperBounds, cumulativeFrequencies);
+    }
+
+    public List<Long> getUpperBounds() {
+        return upperBounds;
+    }
+
+    public List<Double> getCumulativeFrequencies() {
+        return cumulativeFrequencies;
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 批量插入
+ *
+ * @author changebooks@qq.com
+ */
+public final class InsertUtils {
+
+    private InsertUtils() {
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param tableName   Table Name
+     * @param columnNames [ Column Name ]
+     * @param rows        行数
+     * @return INSERT INTO table (column, column) VALUES (?, ?), (?, ?)
+     */
+    public static String build(@NotNull String tableName, @NotNull List<String> columnNames, int rows) {
+        if (columnNames.isEmpty()) {
+            throw new RuntimeException(String.format("columnNames must not be empty, tableName: %s", tableName));
+        }
+
+        if (rows <= 0) {
+            throw new RuntimeException(String.format("rows must be greater than 0, tableName: %s", tableName));
+        }
+
+        int width = columnNames.size();
+        StringBuilder result = new StringBuilder(32 + width * 16 + rows * width * 3)
+                .append("INSERT INTO ")
+                .append(tableName)
+                .append(" (")
+                .append(String.join(", ", columnNames))
+                .append(") VALUES ");
+
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+
+            result.append("(");
+            for (int j = 0; j < width; j++) {
+                if (j > 0) {
+                    result.append(", ");
+                }
+
+                result.append("?");
+            }
+
+            result.append(")");
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * 绑定多行，{@link java.io.Reader}、{@link java.io.InputStream}、{@link java.nio.ByteBuffer} 流式绑定
+     *
+     * @param stat the {@link PreparedStatement} instance
+     * @param rows [ [ Value ] ]，每行按字段顺序
+     * @throws SQLException if parameterIndex does not correspond to a parameter marker in the SQL statement;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed PreparedStatement
+     */
+    public static void bind(@NotNull PreparedStatement stat, @NotNull List<Object[]> rows) throws SQLException {
+        int index = 1;
+
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                LobUtils.bind(stat, index++, value);
+            }
+        }
+    }
+
+}
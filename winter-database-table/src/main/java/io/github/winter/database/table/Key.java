@@ -0,0 +1,160 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * 索引描述
+ *
+ * @author changebooks@qq.com
+ */
+public final class Key implements Serializable {
+    /**
+     * 索引类型
+     */
+    public enum Type {
+        /**
+         * B+ 树，InnoDB 默认
+         */
+        BTREE,
+
+        /**
+         * 哈希，MEMORY 引擎
+         */
+        HASH,
+
+        /**
+         * 全文
+         */
+        FULLTEXT,
+
+        /**
+         * 空间
+         */
+        SPATIAL
+    }
+
+    /**
+     * 索引名
+     */
+    private String name;
+
+    /**
+     * [ 字段名 ]
+     */
+    private List<String> columnNames;
+
+    /**
+     * 主键？
+     */
+    private boolean primary;
+
+    /**
+     * 唯一？
+     */
+    private boolean unique;
+
+    /**
+     * 索引类型，null 为默认 BTREE
+     */
+    private Type type;
+
+    /**
+     * 不可见？优化器不使用，仍需维护
+     */
+    private boolean invisible;
+
+    /**
+     * 前缀索引
+     * [ 字段名 : 前缀长度 ]，仅含前缀字段
+     */
+    private Map<String, Integer> subParts;
+
+    /**
+     * [ 倒序字段名 ]
+     */
+    private Set<String> descColumnNames;
+
+    /**
+     * 默认选项？BTREE、可见、无前缀、全部正序
+     *
+     * @return Plain ?
+     */
+    public boolean isPlain() {
+        return (type == null || type == Type.BTREE) && !invisible &&
+                (subParts == null || subParts.isEmpty()) && (descColumnNames == null || descColumnNames.isEmpty());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public void setColumnNames(List<String> columnNames) {
+        this.columnNames = columnNames;
+    }
+
+    public boolean isPrimary() {
+        return primary;
+    }
+
+    public void setPrimary(boolean primary) {
+        this.primary = primary;
+    }
+
+    public boolean isUnique() {
+        return unique;
+    }
+
+    public void setUnique(boolean unique) {
+        this.unique = unique;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public boolean isInvisible() {
+        return invisible;
+    }
+
+    public void setInvisible(boolean invisible) {
+        this.invisible = invisible;
+    }
+
+    public Map<String, Integer> getSubParts() {
+        if (subParts == null) {
+            subParts = new LinkedHashMap<>();
+        }
+
+        return subParts;
+    }
+
+    public void setSubParts(Map<String, Integer> subParts) {
+        this.subParts = subParts;
+    }
+
+    public Set<String> getDescColumnNames() {
+        if (descColumnNames == null) {
+            descColumnNames = new LinkedHashSet<>();
+        }
+
+        return descColumnNames;
+    }
+
+    public void setDescColumnNames(Set<String> descColumnNames) {
+        this.descColumnNames = descColumnNames;
+    }
+
+}
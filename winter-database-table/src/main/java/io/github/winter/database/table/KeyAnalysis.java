@@ -0,0 +1,108 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 索引分析结果
+ *
+ * @author changebooks@qq.com
+ */
+public final class KeyAnalysis implements Serializable {
+    /**
+     * 表名
+     */
+    private String tableName;
+
+    /**
+     * 二级索引数
+     */
+    private int secondaryKeys;
+
+    /**
+     * [ the {@link RedundantKey} instance ]
+     */
+    private List<RedundantKey> redundantKeys = new ArrayList<>();
+
+    /**
+     * 可回收空间，字节，未知为 -1
+     */
+    private long savedBytes = -1;
+
+    /**
+     * 每行写入少维护的索引项数
+     */
+    private int savedWritesPerRow;
+
+    /**
+     * 写放大降低比例，0 ~ 1，以聚簇索引 + 二级索引的项数计
+     */
+    private double writeReduction;
+
+    /**
+     * ALTER TABLE ... DROP INDEX ...，无冗余时为 ""
+     */
+    private String sql = "";
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public int getSecondaryKeys() {
+        return secondaryKeys;
+    }
+
+    public void setSecondaryKeys(int secondaryKeys) {
+        this.secondaryKeys = secondaryKeys;
+    }
+
+    public List<RedundantKey> getRedundantKeys() {
+        if (redundantKeys == null) {
+            redundantKeys = new ArrayList<>();
+        }
+
+        return redundantKeys;
+    }
+
+    public void setRedundantKeys(List<RedundantKey> redundantKeys) {
+        this.redundantKeys = redundantKeys;
+    }
+
+    public long getSavedBytes() {
+        return savedBytes;
+    }
+
+    public void setSavedBytes(long savedBytes) {
+        this.savedBytes = savedBytes;
+    }
+
+    public int getSavedWritesPerRow() {
+        return savedWritesPerRow;
+    }
+
+    public void setSavedWritesPerRow(int savedWritesPerRow) {
+        this.savedWritesPerRow = savedWritesPerRow;
+    }
+
+    public double getWriteReduction() {
+        return writeReduction;
+    }
+
+    public void setWriteReduction(double writeReduction) {
+        this.writeReduction = writeReduction;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
+}
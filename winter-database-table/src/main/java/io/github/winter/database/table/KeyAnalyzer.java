@@ -0,0 +1,398 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * 冗余索引分析
+ * <p>
+ * 找出字段完全相同的索引、作为其它索引最左前缀的普通索引、末尾显式包含主键的普通索引，
+ * 生成合并的 ALTER TABLE，按 InnoDB 索引统计估算可回收空间及写放大降低比例
+ * <p>
+ * 唯一索引承载约束，仅在与主键或其它唯一索引完全相同时视为冗余
+ *
+ * @author changebooks@qq.com
+ */
+public class KeyAnalyzer {
+    /**
+     * 主键索引名
+     */
+    private static final String PRIMARY = "PRIMARY";
+
+    /**
+     * the {@link TableDiffer} instance
+     */
+    private final TableDiffer tableDiffer;
+
+    public KeyAnalyzer() {
+        this(new TableDiffer());
+    }
+
+    public KeyAnalyzer(@NotNull TableDiffer tableDiffer) {
+        Objects.requireNonNull(tableDiffer, "tableDiffer must not be null");
+
+        this.tableDiffer = tableDiffer;
+    }
+
+    /**
+     * 分析，读取索引占用空间；无 mysql 库权限时不估算空间，savedBytes 为 -1
+     *
+     * @param conn  the {@link Connection} instance
+     * @param table the {@link Table} instance
+     * @return the {@link KeyAnalysis} instance
+     * @throws SQLException if a database access error occurs
+     */
+    public KeyAnalysis analyze(@NotNull Connection conn, @NotNull Table table) throws SQLException {
+        Map<String, Long> sizes = TableUtils.readIndexSizes(conn, table.getName());
+        return analyze(table, sizes);
+    }
+
+    /**
+     * 分析
+     *
+     * @param table the {@link Table} instance
+     * @param sizes [ Key Name : Bytes ]，为 null 时不估算空间
+     * @return the {@link KeyAnalysis} instance
+     */
+    public KeyAnalysis analyze(@NotNull Table table, Map<String, Long> sizes) {
+        Objects.requireNonNull(table, "table must not be null");
+
+        List<String> primaryKey = normalize(table.getPrimaryKey(), KeyUtils.findOption(table.getKeyOptions(), PRIMARY));
+        List<Candidate> candidates = readCandidates(table, primaryKey);
+
+        KeyAnalysis result = new KeyAnalysis();
+        result.setTableName(table.getName());
+        result.setSecondaryKeys((int) candidates.stream().filter(x -> !x.primary).count());
+
+        // 逆序检查，优先保留主键、唯一索引及名字靠前的索引
+        Set<Candidate> dropped = new HashSet<>();
+        List<RedundantKey> redundantKeys = new ArrayList<>();
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            Candidate candidate = candidates.get(i);
+            if (candidate.primary) {
+                continue;
+            }
+
+            RedundantKey redundantKey = check(candidate, candidates, dropped);
+            if (redundantKey == null) {
+                continue;
+            }
+
+            if (redundantKey.getKind() != RedundantKey.Kind.PK_SUFFIX) {
+                dropped.add(candidate);
+            }
+
+            redundantKey.setSavedBytes(readSavedBytes(redundantKey, sizes));
+            redundantKeys.add(0, redundantKey);
+        }
+
+        result.setRedundantKeys(redundantKeys);
+
+        if (sizes != null) {
+            result.setSavedBytes(redundantKeys.stream()
+                    .mapToLong(RedundantKey::getSavedBytes)
+                    .filter(x -> x > 0)
+                    .sum());
+        }
+
+        // 聚簇索引 + 二级索引，每行写入各维护一项
+        result.setSavedWritesPerRow(dropped.size());
+        result.setWriteReduction((double) dropped.size() / (1 + result.getSecondaryKeys()));
+
+        if (!redundantKeys.isEmpty()) {
+            result.setSql(tableDiffer.write(table, buildTarget(table, redundantKeys)));
+        }
+
+        return result;
+    }
+
+    /**
+     * 检查单个索引
+     *
+     * @param candidate  待检查的索引
+     * @param candidates [ 全部索引 ]
+     * @param dropped    [ 已判定删除的索引 ]
+     * @return the {@link RedundantKey} instance, or null if not redundant
+     */
+    protected RedundantKey check(@NotNull Candidate candidate, @NotNull List<Candidate> candidates,
+                                 @NotNull Set<Candidate> dropped) {
+        for (Candidate other : candidates) {
+            if (other == candidate || dropped.contains(other)) {
+                continue;
+            }
+
+            if (candidate.unique) {
+                if ((other.primary || other.unique) && other.columns.equals(candidate.columns)) {
+                    return newRedundantKey(candidate, RedundantKey.Kind.DUPLICATE, other.name);
+                }
+
+                continue;
+            }
+
+            boolean duplicate = other.columns.equals(candidate.columns) ||
+                    (!other.primary && !other.unique && other.stripped.equals(candidate.stripped));
+            if (duplicate) {
+                return newRedundantKey(candidate, RedundantKey.Kind.DUPLICATE, other.name);
+            }
+        }
+
+        for (Candidate other : candidates) {
+            if (other == candidate || dropped.contains(other)) {
+                continue;
+            }
+
+            if (!candidate.unique && other.columns.size() > candidate.stripped.size() &&
+                    other.columns.subList(0, candidate.stripped.size()).equals(candidate.stripped)) {
+                return newRedundantKey(candidate, RedundantKey.Kind.LEFT_PREFIX, other.name);
+            }
+        }
+
+        if (!candidate.unique && candidate.stripped.size() < candidate.columns.size()) {
+            RedundantKey result = newRedundantKey(candidate, RedundantKey.Kind.PK_SUFFIX, null);
+            result.setReplacement(candidate.columnNames.subList(0, candidate.stripped.size()));
+            return result;
+        }
+
+        return null;
+    }
+
+    /**
+     * 可回收空间，去除主键后缀不改变物理存储
+     *
+     * @param redundantKey the {@link RedundantKey} instance
+     * @param sizes        [ Key Name : Bytes ]
+     * @return Bytes，未知为 -1
+     */
+    protected long readSavedBytes(@NotNull RedundantKey redundantKey, Map<String, Long> sizes) {
+        if (redundantKey.getKind() == RedundantKey.Kind.PK_SUFFIX) {
+            return 0;
+        }
+
+        if (sizes == null) {
+            return -1;
+        }
+
+        for (Map.Entry<String, Long> entry : sizes.entrySet()) {
+            if (redundantKey.getName().equalsIgnoreCase(entry.getKey()) && entry.getValue() != null) {
+                return entry.getValue();
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * 目标结构，删除冗余索引，去除主键后缀
+     *
+     * @param table         the {@link Table} instance
+     * @param redundantKeys [ the {@link RedundantKey} instance ]
+     * @return the {@link Table} instance
+     */
+    private static Table buildTarget(@NotNull Table table, @NotNull List<RedundantKey> redundantKeys) {
+        Map<String, RedundantKey> redundantMap = new HashMap<>();
+        for (RedundantKey redundantKey : redundantKeys) {
+            redundantMap.put(redundantKey.getName(), redundantKey);
+        }
+
+        Table result = new Table();
+        result.setName(table.getName());
+        result.setRemark(table.getRemark());
+        result.setEngine(table.getEngine());
+        result.setCharset(table.getCharset());
+        result.setCollate(table.getCollate());
+        result.setAutoIncrement(table.getAutoIncrement());
+        result.setColumns(table.getColumns());
+        result.setPrimaryKey(table.getPrimaryKey());
+        result.setUniqueKeys(buildTargetKeys(table.getUniqueKeys(), redundantMap));
+        result.setKeys(buildTargetKeys(table.getKeys(), redundantMap));
+        result.setKeyOptions(table.getKeyOptions());
+        result.setOptions(table.getOptions());
+        result.setPartitioning(table.getPartitioning());
+        return result;
+    }
+
+    private static Map<String, List<String>> buildTargetKeys(Map<String, List<String>> keys,
+                                                             @NotNull Map<String, RedundantKey> redundantMap) {
+        if (keys == null) {
+            return null;
+        }
+
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entry : keys.entrySet()) {
+            RedundantKey redundantKey = entry.getKey() != null ? redundantMap.get(entry.getKey().trim()) : null;
+            if (redundantKey == null) {
+                result.put(entry.getKey(), entry.getValue());
+            } else if (redundantKey.getKind() == RedundantKey.Kind.PK_SUFFIX) {
+                result.put(entry.getKey(), redundantKey.getReplacement());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 主键、唯一索引、普通索引，各自按名排序
+     *
+     * @param table      the {@link Table} instance
+     * @param primaryKey [ Column Name ]，小写
+     * @return [ the {@link Candidate} instance ]
+     */
+    private static List<Candidate> readCandidates(@NotNull Table table, @NotNull List<String> primaryKey) {
+        List<Candidate> result = new ArrayList<>();
+        if (!primaryKey.isEmpty()) {
+            Key option = KeyUtils.findOption(table.getKeyOptions(), PRIMARY);
+            result.add(new Candidate(PRIMARY, table.getPrimaryKey(), option, true, true, primaryKey));
+        }
+
+        addCandidates(result, table.getUniqueKeys(), table.getKeyOptions(), true, primaryKey);
+        addCandidates(result, table.getKeys(), table.getKeyOptions(), false, primaryKey);
+        return result;
+    }
+
+    private static void addCandidates(@NotNull List<Candidate> result, Map<String, List<String>> keys,
+                                      Map<String, Key> options, boolean unique, @NotNull List<String> primaryKey) {
+        if (keys == null) {
+            return;
+        }
+
+        for (Map.Entry<String, List<String>> entry : new TreeMap<>(keys).entrySet()) {
+            String name = entry.getKey();
+            if (name == null || name.trim().isEmpty() || normalize(entry.getValue()).isEmpty()) {
+                continue;
+            }
+
+            // 全文、空间索引不是 B+ 树，不与其他索引比较
+            Key option = KeyUtils.findOption(options, name);
+            Key.Type type = option != null ? option.getType() : null;
+            if (type == Key.Type.FULLTEXT || type == Key.Type.SPATIAL) {
+                continue;
+            }
+
+            result.add(new Candidate(name.trim(), entry.getValue(), option, false, unique, primaryKey));
+        }
+    }
+
+    private static RedundantKey newRedundantKey(@NotNull Candidate candidate, @NotNull RedundantKey.Kind kind,
+                                                String coveredBy) {
+        RedundantKey result = new RedundantKey();
+        result.setName(candidate.name);
+        result.setColumnNames(candidate.columnNames);
+        result.setKind(kind);
+        result.setCoveredBy(coveredBy);
+        return result;
+    }
+
+    /**
+     * 字段名去空、小写
+     *
+     * @param columnNames [ Column Name ]
+     * @return [ Column Name ]
+     */
+    private static List<String> normalize(List<String> columnNames) {
+        if (columnNames == null) {
+            return Collections.emptyList();
+        }
+
+        return columnNames.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(x -> !x.isEmpty())
+                .map(String::toLowerCase)
+                .toList();
+    }
+
+    /**
+     * 字段名去空、小写，含前缀长度及倒序；前缀或倒序不同的字段视为不同
+     *
+     * @param columnNames [ Column Name ]
+     * @param option      the {@link Key} instance，索引选项，可为 null
+     * @return [ column(length) desc ]
+     */
+    private static List<String> normalize(List<String> columnNames, Key option) {
+        if (option == null) {
+            return normalize(columnNames);
+        }
+
+        return normalize(columnNames).stream()
+                .map(x -> KeyUtils.buildPart(x, option))
+                .toList();
+    }
+
+    /**
+     * 待检查的索引
+     */
+    protected static final class Candidate {
+        /**
+         * 索引名
+         */
+        private final String name;
+
+        /**
+         * [ 字段名 ]，原样
+         */
+        private final List<String> columnNames;
+
+        /**
+         * 主键？
+         */
+        private final boolean primary;
+
+        /**
+         * 唯一？
+         */
+        private final boolean unique;
+
+        /**
+         * [ 字段名 ]，小写，含前缀长度及倒序
+         */
+        private final List<String> columns;
+
+        /**
+         * [ 字段名 ]，小写，普通索引去除末尾的主键
+         */
+        private final List<String> stripped;
+
+        private Candidate(String name, List<String> columnNames, Key option, boolean primary, boolean unique,
+                          List<String> primaryKey) {
+            this.name = name;
+            this.columnNames = columnNames.stream()
+                    .filter(Objects::nonNull)
+                    .map(String::trim)
+                    .filter(x -> !x.isEmpty())
+                    .toList();
+            this.primary = primary;
+            this.unique = unique;
+            this.columns = normalize(columnNames, option);
+
+            int width = columns.size() - primaryKey.size();
+            boolean suffix = !primary && !unique && width > 0 && !primaryKey.isEmpty() &&
+                    columns.subList(width, columns.size()).equals(primaryKey);
+            this.stripped = suffix ? columns.subList(0, width) : columns;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getColumnNames() {
+            return columnNames;
+        }
+
+        public boolean isPrimary() {
+            return primary;
+        }
+
+        public boolean isUnique() {
+            return unique;
+        }
+    }
+
+    @NotNull
+    public TableDiffer getTableDiffer() {
+        return tableDiffer;
+    }
+
+}
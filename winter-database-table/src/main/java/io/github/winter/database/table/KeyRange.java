@@ -0,0 +1,71 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 主键区间，左闭右开 [ lower, upper )
+ *
+ * @author changebooks@qq.com
+ */
+public final class KeyRange implements Serializable {
+    /**
+     * 下界，含，null 为无界
+     */
+    private final List<Object> lower;
+
+    /**
+     * 上界，不含，null 为无界
+     */
+    private final List<Object> upper;
+
+    /**
+     * 预估行数
+     */
+    private final long estimatedRows;
+
+    public KeyRange(List<Object> lower, List<Object> upper, long estimatedRows) {
+        this.lower = lower != null ? Collections.unmodifiableList(new ArrayList<>(lower)) : null;
+        this.upper = upper != null ? Collections.unmodifiableList(new ArrayList<>(upper)) : null;
+        this.estimatedRows = estimatedRows;
+    }
+
+    /**
+     * 全表
+     *
+     * @param estimatedRows 预估行数
+     * @return [ -∞, +∞ )
+     */
+    public static KeyRange unbounded(long estimatedRows) {
+        return new KeyRange(null, null, estimatedRows);
+    }
+
+    /**
+     * 区间标识，用于断点续传
+     *
+     * @return [lower, upper)
+     */
+    public String getId() {
+        return "[" + lower + ", " + upper + ")";
+    }
+
+    public List<Object> getLower() {
+        return lower;
+    }
+
+    public List<Object> getUpper() {
+        return upper;
+    }
+
+    public long getEstimatedRows() {
+        return estimatedRows;
+    }
+
+    @Override
+    public String toString() {
+        return getId() + " ~" + estimatedRows + " rows";
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 主键区间
+ *
+ * @author changebooks@qq.com
+ */
+public final class KeyRangeUtils {
+
+    private KeyRangeUtils() {
+    }
+
+    /**
+     * Build SQL，界值个数少于主键字段数时，按主键前缀比较
+     *
+     * @param keyColumns [ Key Column Name ]
+     * @param range      the {@link KeyRange} instance
+     * @return "" | key &gt;= ? | key &lt; ? | key &gt;= ? AND key &lt; ?
+     */
+    public static String buildPredicate(@NotNull List<String> keyColumns, @NotNull KeyRange range) {
+        List<Object> lower = range.getLower();
+        List<Object> upper = range.getUpper();
+        if (lower == null && upper == null) {
+            return "";
+        }
+
+        String lowerPredicate = lower != null ? buildComparison(keyColumns, lower.size(), " >= ") : "";
+        String upperPredicate = upper != null ? buildComparison(keyColumns, upper.size(), " < ") : "";
+
+        if (lowerPredicate.isEmpty()) {
+            return upperPredicate;
+        }
+
+        if (upperPredicate.isEmpty()) {
+            return lowerPredicate;
+        }
+
+        return lowerPredicate + " AND " + upperPredicate;
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param keyColumns [ Key Column Name ]
+     * @param range      the {@link KeyRange} instance
+     * @return "" | WHERE predicate
+     */
+    public static String buildWhere(@NotNull List<String> keyColumns, @NotNull KeyRange range) {
+        String predicate = buildPredicate(keyColumns, range);
+        return predicate.isEmpty() ? "" : " WHERE " + predicate;
+    }
+
+    /**
+     * 绑定区间
+     *
+     * @param stat  the {@link PreparedStatement} instance
+     * @param index first parameter index
+     * @param range the {@link KeyRange} instance
+     * @return next parameter index
+     * @throws SQLException if parameterIndex does not correspond to a parameter marker in the SQL statement;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed PreparedStatement
+     */
+    public static int bind(@NotNull PreparedStatement stat, int index, @NotNull KeyRange range) throws SQLException {
+        List<Object> lower = range.getLower();
+        if (lower != null) {
+            for (Object value : lower) {
+                stat.setObject(index++, value);
+            }
+        }
+
+        List<Object> upper = range.getUpper();
+        if (upper != null) {
+            for (Object value : upper) {
+                stat.setObject(index++, value);
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * a &gt;= ? | (a, b) &gt;= (?, ?)
+     *
+     * @param keyColumns [ Key Column Name ]
+     * @param width      界值个数
+     * @param operator   " &gt;= " | " &lt; "
+     * @return Comparison
+     */
+    public static String buildComparison(@NotNull List<String> keyColumns, int width, @NotNull String operator) {
+        if (width <= 0 || width > keyColumns.size()) {
+            throw new RuntimeException(String.format("bound size must be in [1, %d], keyColumns: %s", keyColumns.size(), keyColumns));
+        }
+
+        if (width == 1) {
+            return keyColumns.get(0) + operator + "?";
+        }
+
+        List<String> prefix = keyColumns.subList(0, width);
+        return "(" + String.join(", ", prefix) + ")" + operator + "(" + String.join(", ", Collections.nCopies(width, "?")) + ")";
+    }
+
+}
@@ -0,0 +1,222 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * 索引描述
+ *
+ * @author changebooks@qq.com
+ */
+public class KeyReader {
+    /**
+     * Read Key
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return [ the {@link Key} instance ]
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public List<Key> read(@NotNull Connection conn, @NotBlank String tableName) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.KEYS, null, tableName)) {
+            DatabaseMetaData metaData = conn.getMetaData();
+            String catalog = conn.getCatalog();
+
+            MetadataTimeout.check();
+            ResultSet rs = metaData.getIndexInfo(catalog, null, tableName, false, false);
+            trace.addRoundTrip();
+            if (rs == null) {
+                return null;
+            }
+
+            // [ Index Name : Key ]
+            Map<String, Key> data = new HashMap<>();
+
+            try (rs) {
+                while (rs.next()) {
+                    trace.addRows(1);
+                    String rawIndexName = rs.getString("INDEX_NAME");
+                    if (rawIndexName == null) {
+                        continue;
+                    }
+
+                    String rawColumnName = rs.getString("COLUMN_NAME");
+                    if (rawColumnName == null) {
+                        continue;
+                    }
+
+                    String indexName = rawIndexName.trim();
+                    String columnName = rawColumnName.trim();
+
+                    Key record = data.getOrDefault(indexName, new Key());
+                    record.setName(indexName);
+
+                    List<String> rawColumnNames = record.getColumnNames();
+                    List<String> columnNames = Optional.ofNullable(rawColumnNames).orElse(new ArrayList<>());
+                    columnNames.add(columnName);
+                    record.setColumnNames(columnNames);
+
+                    if (isPrimary(indexName)) {
+                        record.setPrimary(true);
+                    }
+
+                    if (isUnique(rs)) {
+                        record.setUnique(true);
+                    }
+
+                    if (isDesc(rs)) {
+                        record.getDescColumnNames().add(columnName);
+                    }
+
+                    data.put(indexName, record);
+                }
+            }
+
+            setOptions(data, conn, tableName);
+            return new ArrayList<>(data.values());
+        }
+    }
+
+    /**
+     * 前缀长度、索引类型、可见性，一次查询全部索引
+     *
+     * @param data      [ Index Name : the {@link Key} instance ]
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    protected void setOptions(@NotNull Map<String, Key> data,
+                              @NotNull Connection conn, @NotBlank String tableName) throws SQLException {
+        if (data.isEmpty()) {
+            return;
+        }
+
+        // IS_VISIBLE 自 MySQL 8.0 起
+        String command = "SELECT * FROM INFORMATION_SCHEMA.STATISTICS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+
+        try (PreparedStatement stat = conn.prepareStatement(command)) {
+            MetadataTimeout.apply(stat);
+
+            String tableSchema = conn.getCatalog();
+
+            stat.setString(1, tableSchema);
+            stat.setString(2, tableName);
+
+            try (ResultSet rs = stat.executeQuery()) {
+                MetadataTrace.roundTrip();
+                boolean hasVisible = hasColumn(rs, "IS_VISIBLE");
+                while (rs.next()) {
+                    MetadataTrace.rows(1);
+                    String indexName = rs.getString("INDEX_NAME");
+                    String columnName = rs.getString("COLUMN_NAME");
+                    Key record = indexName != null ? data.get(indexName.trim()) : null;
+                    if (record == null || columnName == null) {
+                        continue;
+                    }
+
+                    int subPart = rs.getInt("SUB_PART");
+                    if (!rs.wasNull() && subPart > 0) {
+                        record.getSubParts().put(columnName.trim(), subPart);
+                    }
+
+                    if ("D".equalsIgnoreCase(rs.getString("COLLATION"))) {
+                        record.getDescColumnNames().add(columnName.trim());
+                    }
+
+                    Key.Type type = readType(rs.getString("INDEX_TYPE"));
+                    if (type != null) {
+                        record.setType(type);
+                    }
+
+                    if (hasVisible && "NO".equalsIgnoreCase(rs.getString("IS_VISIBLE"))) {
+                        record.setInvisible(true);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 倒序？
+     *
+     * @param rs the {@link ResultSet} instance
+     * @return Descending ?
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    protected boolean isDesc(@NotNull ResultSet rs) throws SQLException {
+        String ascOrDesc = rs.getString("ASC_OR_DESC");
+        return "D".equalsIgnoreCase(ascOrDesc);
+    }
+
+    /**
+     * 索引类型
+     *
+     * @param indexType BTREE | HASH | FULLTEXT | SPATIAL
+     * @return the {@link Key.Type} instance, or null if unknown
+     */
+    protected Key.Type readType(String indexType) {
+        if (indexType == null) {
+            return null;
+        }
+
+        try {
+            return Key.Type.valueOf(indexType.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasColumn(@NotNull ResultSet rs, @NotNull String columnLabel) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (columnLabel.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 主键？
+     *
+     * @param indexName 索引名
+     * @return Primary Key ?
+     */
+    protected boolean isPrimary(@NotNull String indexName) {
+        return "PRIMARY".equalsIgnoreCase(indexName);
+    }
+
+    /**
+     * 唯一？
+     *
+     * @param rs the {@link ResultSet} instance
+     * @return Unique Key ?
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    protected boolean isUnique(@NotNull ResultSet rs) throws SQLException {
+        boolean nonUnique = rs.getBoolean("NON_UNIQUE");
+        return !nonUnique;
+    }
+
+}
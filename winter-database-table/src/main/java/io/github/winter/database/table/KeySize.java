@@ -0,0 +1,89 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+
+/**
+ * 索引大小预估
+ *
+ * @author changebooks@qq.com
+ */
+public final class KeySize implements Serializable {
+    /**
+     * 索引名，主键为 PRIMARY
+     */
+    private String name;
+
+    /**
+     * 索引键最大长度，字节，不含主键后缀，与 InnoDB 索引键长度上限比较
+     */
+    private long keyLength;
+
+    /**
+     * 超出索引键长度上限？
+     */
+    private boolean exceedsLimit;
+
+    /**
+     * 每个索引项最大字节数，含记录头及主键后缀；主键为页内最大行长
+     */
+    private long maxEntryBytes;
+
+    /**
+     * 每个索引项平均字节数，含记录头及主键后缀；主键为平均行长，含溢出页
+     */
+    private long avgEntryBytes;
+
+    /**
+     * 每百万行占用，字节，按页填充率折算
+     */
+    private long bytesPerMillionRows;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getKeyLength() {
+        return keyLength;
+    }
+
+    public void setKeyLength(long keyLength) {
+        this.keyLength = keyLength;
+    }
+
+    public boolean isExceedsLimit() {
+        return exceedsLimit;
+    }
+
+    public void setExceedsLimit(boolean exceedsLimit) {
+        this.exceedsLimit = exceedsLimit;
+    }
+
+    public long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public void setMaxEntryBytes(long maxEntryBytes) {
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    public long getAvgEntryBytes() {
+        return avgEntryBytes;
+    }
+
+    public void setAvgEntryBytes(long avgEntryBytes) {
+        this.avgEntryBytes = avgEntryBytes;
+    }
+
+    public long getBytesPerMillionRows() {
+        return bytesPerMillionRows;
+    }
+
+    public void setBytesPerMillionRows(long bytesPerMillionRows) {
+        this.bytesPerMillionRows = bytesPerMillionRows;
+    }
+
+}
@@ -0,0 +1,70 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 索引统计信息，来自 INFORMATION_SCHEMA.STATISTICS，均为预估值
+ *
+ * @author changebooks@qq.com
+ */
+public final class KeyStatistics implements Serializable {
+    /**
+     * 索引名，主键为 PRIMARY
+     */
+    private String name;
+
+    /**
+     * [ 字段名 ]，按索引顺序
+     */
+    private List<String> columnNames = new ArrayList<>();
+
+    /**
+     * [ 基数 ]，与字段一一对应，第 n 项为前 n 个字段组合的不同值数，无统计为 -1
+     */
+    private List<Long> cardinalities = new ArrayList<>();
+
+    /**
+     * 整个索引的基数
+     *
+     * @return Cardinality，无统计为 -1
+     */
+    public long getCardinality() {
+        List<Long> data = getCardinalities();
+        return data.isEmpty() ? -1 : data.get(data.size() - 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getColumnNames() {
+        if (columnNames == null) {
+            columnNames = new ArrayList<>();
+        }
+
+        return columnNames;
+    }
+
+    public void setColumnNames(List<String> columnNames) {
+        this.columnNames = columnNames;
+    }
+
+    public List<Long> getCardinalities() {
+        if (cardinalities == null) {
+            cardinalities = new ArrayList<>();
+        }
+
+        return cardinalities;
+    }
+
+    public void setCardinalities(List<Long> cardinalities) {
+        this.cardinalities = cardinalities;
+    }
+
+}
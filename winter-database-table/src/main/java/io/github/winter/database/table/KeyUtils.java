@@ -0,0 +1,324 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 索引描述
+ *
+ * @author changebooks@qq.com
+ */
+public final class KeyUtils {
+
+    private KeyUtils() {
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param prefix PRIMARY | UNIQUE | ""
+     * @param data   [ Key Name : [ Column Name ] ]
+     * @return [ KEY SQL ]
+     */
+    public static List<String> build(String prefix, Map<String, List<String>> data) {
+        return build(prefix, data, null);
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param prefix  PRIMARY | UNIQUE | ""
+     * @param data    [ Key Name : [ Column Name ] ]
+     * @param options [ Key Name : the {@link Key} instance ]，索引选项
+     * @return [ KEY SQL ]
+     */
+    public static List<String> build(String prefix, Map<String, List<String>> data, Map<String, Key> options) {
+        if (data == null) {
+            return null;
+        }
+
+        List<String> result = new ArrayList<>();
+
+        for (Map.Entry<String, List<String>> entry : data.entrySet()) {
+            if (entry == null) {
+                continue;
+            }
+
+            String name = entry.getKey();
+            if (name == null) {
+                continue;
+            }
+
+            List<String> columnNames = entry.getValue();
+            if (columnNames == null) {
+                continue;
+            }
+
+            String sql = build(prefix, name, columnNames, findOption(options, name));
+            if (sql == null || sql.isEmpty()) {
+                continue;
+            }
+
+            result.add(sql);
+        }
+
+        return result;
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param prefix      PRIMARY | UNIQUE | ""
+     * @param name        Key Name
+     * @param columnNames [ Column Name ]
+     * @return KEY SQL
+     */
+    public static String build(String prefix, String name, List<String> columnNames) {
+        return build(prefix, name, columnNames, null);
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param prefix      PRIMARY | UNIQUE | ""
+     * @param name        Key Name
+     * @param columnNames [ Column Name ]
+     * @param option      the {@link Key} instance，索引选项，可为 null
+     * @return [ FULLTEXT | SPATIAL ] KEY name (column(length) DESC, ...) [ USING HASH ] [ INVISIBLE ]，无有效字段时为空串
+     */
+    public static String build(String prefix, String name, List<String> columnNames, Key option) {
+        if (columnNames == null) {
+            return null;
+        }
+
+        StringBuilder result = new StringBuilder();
+        try {
+            build(result, null, prefix, name, columnNames, option);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Append SQL，无有效字段时不写出
+     *
+     * @param out         the {@link Appendable} instance
+     * @param separator   写出前的分隔符
+     * @param prefix      PRIMARY | UNIQUE | ""
+     * @param name        Key Name
+     * @param columnNames [ Column Name ]
+     * @return 写出？
+     * @throws IOException if an I/O error occurs
+     */
+    public static boolean build(Appendable out, String separator, String prefix, String name,
+                                List<String> columnNames) throws IOException {
+        return build(out, separator, prefix, name, columnNames, null);
+    }
+
+    /**
+     * Append SQL，无有效字段时不写出
+     *
+     * @param out         the {@link Appendable} instance
+     * @param separator   写出前的分隔符
+     * @param prefix      PRIMARY | UNIQUE | ""
+     * @param name        Key Name
+     * @param columnNames [ Column Name ]
+     * @param option      the {@link Key} instance，索引选项，可为 null
+     * @return 写出？
+     * @throws IOException if an I/O error occurs
+     */
+    public static boolean build(Appendable out, String separator, String prefix, String name,
+                                List<String> columnNames, Key option) throws IOException {
+        if (columnNames == null) {
+            return false;
+        }
+
+        boolean empty = true;
+        for (String columnName : columnNames) {
+            if (!AppendUtils.isBlank(columnName)) {
+                empty = false;
+                break;
+            }
+        }
+
+        if (empty) {
+            return false;
+        }
+
+        if (separator != null) {
+            out.append(separator);
+        }
+
+        if (AppendUtils.appendTrimmed(out, readPrefix(prefix, option))) {
+            out.append(' ');
+        }
+
+        out.append("KEY ");
+
+        if (AppendUtils.appendTrimmed(out, name)) {
+            out.append(' ');
+        }
+
+        out.append('(');
+
+        boolean first = true;
+        for (String columnName : columnNames) {
+            if (AppendUtils.isBlank(columnName)) {
+                continue;
+            }
+
+            if (!first) {
+                out.append(", ");
+            }
+
+            AppendUtils.appendTrimmed(out, columnName);
+            if (option != null) {
+                appendPart(out, columnName.trim(), option);
+            }
+
+            first = false;
+        }
+
+        out.append(')');
+        if (option != null) {
+            out.append(buildSuffix(option));
+        }
+
+        return true;
+    }
+
+    /**
+     * 索引字段
+     *
+     * @param columnName Column Name，已去空
+     * @param option     the {@link Key} instance，索引选项，可为 null
+     * @return column[(length)][ DESC]
+     */
+    public static String buildPart(String columnName, Key option) {
+        if (option == null) {
+            return columnName;
+        }
+
+        StringBuilder result = new StringBuilder(columnName);
+        try {
+            appendPart(result, columnName, option);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * 按名取索引选项，忽略大小写
+     *
+     * @param options [ Key Name : the {@link Key} instance ]
+     * @param name    Key Name
+     * @return the {@link Key} instance, or null if default
+     */
+    public static Key findOption(Map<String, Key> options, String name) {
+        if (options == null || options.isEmpty() || name == null) {
+            return null;
+        }
+
+        String cleanedName = name.trim();
+        Key result = options.get(cleanedName);
+        if (result != null) {
+            return result;
+        }
+
+        for (Map.Entry<String, Key> entry : options.entrySet()) {
+            if (cleanedName.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 前缀长度，忽略大小写
+     *
+     * @param option     the {@link Key} instance
+     * @param columnName Column Name
+     * @return 前缀长度，全字段为 null
+     */
+    public static Integer readSubPart(@NotNull Key option, @NotNull String columnName) {
+        Map<String, Integer> subParts = option.getSubParts();
+        Integer result = subParts.get(columnName);
+        if (result != null) {
+            return result;
+        }
+
+        for (Map.Entry<String, Integer> entry : subParts.entrySet()) {
+            if (columnName.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 倒序？忽略大小写
+     *
+     * @param option     the {@link Key} instance
+     * @param columnName Column Name
+     * @return Descending ?
+     */
+    public static boolean isDesc(@NotNull Key option, @NotNull String columnName) {
+        for (String descColumnName : option.getDescColumnNames()) {
+            if (columnName.equalsIgnoreCase(descColumnName)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static void appendPart(@NotNull Appendable out, @NotNull String columnName,
+                                   @NotNull Key option) throws IOException {
+        Integer subPart = readSubPart(option, columnName);
+        if (subPart != null && subPart > 0) {
+            out.append('(');
+            AppendUtils.appendNumber(out, subPart);
+            out.append(')');
+        }
+
+        if (isDesc(option, columnName)) {
+            out.append(" DESC");
+        }
+    }
+
+    /**
+     * 全文、空间索引替换前缀
+     */
+    private static String readPrefix(String prefix, Key option) {
+        Key.Type type = option != null ? option.getType() : null;
+        if (type == Key.Type.FULLTEXT || type == Key.Type.SPATIAL) {
+            return type.name();
+        }
+
+        return prefix == null ? "" : prefix.trim();
+    }
+
+    /**
+     * 索引类型、可见性
+     */
+    private static String buildSuffix(Key option) {
+        if (option == null) {
+            return "";
+        }
+
+        String using = option.getType() == Key.Type.HASH ? " USING HASH" : "";
+        return option.isInvisible() ? using + " INVISIBLE" : using;
+    }
+
+}
@@ -0,0 +1,198 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 索引描述
+ *
+ * @author changebooks@qq.com
+ */
+public class KeyWriter {
+    /**
+     * 子类覆盖了不含索引选项的 {@link #buildPrimaryKey(List)}？覆盖时调用之，不带选项
+     */
+    private final boolean legacyPrimaryKey = AppendUtils.isOverridden(getClass(), KeyWriter.class,
+            "buildPrimaryKey", List.class);
+
+    /**
+     * 子类覆盖了不含索引选项的 {@link #buildUniqueKeys(Map)}？
+     */
+    private final boolean legacyUniqueKeys = AppendUtils.isOverridden(getClass(), KeyWriter.class,
+            "buildUniqueKeys", Map.class);
+
+    /**
+     * 子类覆盖了不含索引选项的 {@link #buildKeys(Map)}？
+     */
+    private final boolean legacyKeys = AppendUtils.isOverridden(getClass(), KeyWriter.class,
+            "buildKeys", Map.class);
+
+    /**
+     * Build SQL，跳过空索引
+     *
+     * @param table the {@link Table} instance
+     * @return [ KEY SQL ]
+     */
+    public List<String> write(@NotNull Table table) {
+        List<String> result = new ArrayList<>();
+
+        add(result, getPrimaryKey(table));
+
+        List<String> uniqueKeys = getUniqueKeys(table);
+        if (uniqueKeys != null) {
+            uniqueKeys.forEach(x -> add(result, x));
+        }
+
+        List<String> keys = getKeys(table);
+        if (keys != null) {
+            keys.forEach(x -> add(result, x));
+        }
+
+        return result;
+    }
+
+    /**
+     * 非空索引加入结果
+     */
+    private static void add(@NotNull List<String> result, String sql) {
+        if (!AppendUtils.isBlank(sql)) {
+            result.add(sql.trim());
+        }
+    }
+
+    /**
+     * Append SQL，同 {@link #write(Table)}
+     *
+     * @param table     the {@link Table} instance
+     * @param out       the {@link Appendable} instance
+     * @param separator 元素间的分隔符
+     * @param count     已写出的元素数
+     * @return 写出后的元素数
+     * @throws IOException if an I/O error occurs
+     */
+    public int write(@NotNull Table table, @NotNull Appendable out, String separator, int count) throws IOException {
+        for (String key : write(table)) {
+            if (count > 0 && separator != null) {
+                out.append(separator);
+            }
+
+            out.append(key);
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * 主键索引
+     *
+     * @param table the {@link Table} instance
+     * @return PRIMARY KEY (column, column, ...)
+     */
+    protected String getPrimaryKey(@NotNull Table table) {
+        List<String> primaryKey = table.getPrimaryKey();
+        if (legacyPrimaryKey) {
+            return buildPrimaryKey(primaryKey);
+        }
+
+        return buildPrimaryKey(primaryKey, KeyUtils.findOption(table.getKeyOptions(), "PRIMARY"));
+    }
+
+    /**
+     * 唯一索引
+     *
+     * @param table the {@link Table} instance
+     * @return [ UNIQUE KEY (column, column, ...) ]
+     */
+    protected List<String> getUniqueKeys(@NotNull Table table) {
+        Map<String, List<String>> uniqueKeys = table.getUniqueKeys();
+        if (legacyUniqueKeys) {
+            return buildUniqueKeys(uniqueKeys);
+        }
+
+        return buildUniqueKeys(uniqueKeys, table.getKeyOptions());
+    }
+
+    /**
+     * 普通索引
+     *
+     * @param table the {@link Table} instance
+     * @return [ KEY (column, column, ...) ]
+     */
+    protected List<String> getKeys(@NotNull Table table) {
+        Map<String, List<String>> keys = table.getKeys();
+        if (legacyKeys) {
+            return buildKeys(keys);
+        }
+
+        return buildKeys(keys, table.getKeyOptions());
+    }
+
+    /**
+     * 主键索引
+     *
+     * @param columnNames [ Column Name ]
+     * @return PRIMARY KEY (column, column, ...)
+     */
+    protected String buildPrimaryKey(List<String> columnNames) {
+        return buildPrimaryKey(columnNames, null);
+    }
+
+    /**
+     * 主键索引
+     *
+     * @param columnNames [ Column Name ]
+     * @param option      the {@link Key} instance，索引选项，可为 null
+     * @return PRIMARY KEY (column(length) DESC, ...)
+     */
+    protected String buildPrimaryKey(List<String> columnNames, Key option) {
+        return KeyUtils.build("PRIMARY", "", columnNames, option);
+    }
+
+    /**
+     * 唯一索引
+     *
+     * @param data [ Key Name : [ Column Name ] ]
+     * @return [ UNIQUE KEY (column, column, ...) ]
+     */
+    protected List<String> buildUniqueKeys(Map<String, List<String>> data) {
+        return buildUniqueKeys(data, null);
+    }
+
+    /**
+     * 唯一索引
+     *
+     * @param data    [ Key Name : [ Column Name ] ]
+     * @param options [ Key Name : the {@link Key} instance ]
+     * @return [ UNIQUE KEY (column(length) DESC, ...) [ INVISIBLE ] ]
+     */
+    protected List<String> buildUniqueKeys(Map<String, List<String>> data, Map<String, Key> options) {
+        return KeyUtils.build("UNIQUE", data, options);
+    }
+
+    /**
+     * 普通索引
+     *
+     * @param data [ Key Name : [ Column Name ] ]
+     * @return [ KEY (column, column, ...) ]
+     */
+    protected List<String> buildKeys(Map<String, List<String>> data) {
+        return buildKeys(data, null);
+    }
+
+    /**
+     * 普通索引
+     *
+     * @param data    [ Key Name : [ Column Name ] ]
+     * @param options [ Key Name : the {@link Key} instance ]
+     * @return [ [ FULLTEXT | SPATIAL ] KEY (column(length) DESC, ...) [ USING HASH ] [ INVISIBLE ] ]
+     */
+    protected List<String> buildKeys(Map<String, List<String>> data, Map<String, Key> options) {
+        return KeyUtils.build("", data, options);
+    }
+
+}
@@ -0,0 +1,240 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * 键集分页，逐页携带上一页末行的键值
+ *
+ * @author changebooks@qq.com
+ */
+public class KeysetIterator {
+    /**
+     * the {@link TableSchema} instance
+     */
+    private final TableSchema tableSchema;
+
+    /**
+     * the {@link Projection} instance
+     */
+    private final Projection projection;
+
+    /**
+     * [ Key Column Name ]
+     */
+    private final List<String> keyColumns;
+
+    /**
+     * 每页行数
+     */
+    private final int pageSize;
+
+    /**
+     * (a, b) &gt; (?, ?) ? or a &gt; ? OR (a = ? AND b &gt; ?)
+     */
+    private final boolean rowValue;
+
+    /**
+     * SELECT ... ORDER BY key LIMIT ?
+     */
+    private final String firstPageSql;
+
+    /**
+     * SELECT ... WHERE key &gt; last ORDER BY key LIMIT ?
+     */
+    private final String nextPageSql;
+
+    /**
+     * 上一页末行的键值
+     */
+    private List<Object> lastKey;
+
+    /**
+     * 还有下一页？
+     */
+    private boolean hasNext = true;
+
+    public KeysetIterator(@NotNull TableSchema tableSchema, @NotNull List<String> keyColumns, int pageSize) {
+        this(tableSchema, keyColumns, pageSize, true);
+    }
+
+    public KeysetIterator(@NotNull TableSchema tableSchema, @NotNull List<String> keyColumns, int pageSize, boolean rowValue) {
+        this(tableSchema, new Projection(Projection.ALL, tableSchema.getColumnNames()), keyColumns, pageSize, rowValue);
+    }
+
+    public KeysetIterator(@NotNull TableSchema tableSchema, @NotNull Projection projection,
+                          @NotNull List<String> keyColumns, int pageSize, boolean rowValue) {
+        Objects.requireNonNull(tableSchema, "tableSchema must not be null");
+        Objects.requireNonNull(projection, "projection must not be null");
+        Objects.requireNonNull(keyColumns, "keyColumns must not be null");
+
+        if (keyColumns.isEmpty()) {
+            throw new RuntimeException("keyColumns must not be empty");
+        }
+
+        if (pageSize <= 0) {
+            throw new RuntimeException("pageSize must be greater than 0");
+        }
+
+        // 末行的键值取自投影，键须在投影中
+        List<String> columnNames = projection.getColumnNames();
+        for (String keyColumn : keyColumns) {
+            if (keyColumn == null || !columnNames.contains(keyColumn.trim())) {
+                throw new RuntimeException(String.format("key column must be selected, columnName: %s, projection: %s",
+                        keyColumn, projection.getName()));
+            }
+        }
+
+        this.tableSchema = tableSchema;
+        this.projection = projection;
+        this.keyColumns = List.copyOf(keyColumns);
+        this.pageSize = pageSize;
+        this.rowValue = rowValue;
+
+        String tableName = tableSchema.getTableName();
+        String joinedColumns = projection.getJoinedColumnsOnSelect();
+        this.firstPageSql = KeysetUtils.buildFirstPage(tableName, joinedColumns, this.keyColumns);
+        this.nextPageSql = KeysetUtils.buildNextPage(tableName, joinedColumns, this.keyColumns, rowValue);
+    }
+
+    /**
+     * 还有下一页？
+     *
+     * @return Has Next ?
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * Read Next Page
+     *
+     * @param conn the {@link Connection} instance
+     * @return [ [ Column Name : Value ] ]
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public List<Map<String, Object>> next(@NotNull Connection conn) throws SQLException {
+        if (!hasNext) {
+            throw new RuntimeException(String.format("no more pages, tableName: %s", tableSchema.getTableName()));
+        }
+
+        String command = lastKey == null ? firstPageSql : nextPageSql;
+        PreparedStatement stat = conn.prepareStatement(command);
+        if (stat == null) {
+            hasNext = false;
+            return Collections.emptyList();
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>(pageSize);
+
+        try (stat) {
+            int index = 1;
+            if (lastKey != null) {
+                index = KeysetUtils.bind(stat, index, lastKey, rowValue);
+            }
+
+            stat.setInt(index, pageSize);
+
+            ResultSet rs = stat.executeQuery();
+            if (rs == null) {
+                hasNext = false;
+                return result;
+            }
+
+            try (rs) {
+                RowDecoder rowDecoder = projection.getRowDecoder();
+                while (rs.next()) {
+                    Map<String, Object> row = rowDecoder.decode(rs);
+                    result.add(row);
+                }
+            }
+        }
+
+        if (result.size() < pageSize) {
+            hasNext = false;
+        }
+
+        if (!result.isEmpty()) {
+            Map<String, Object> last = result.get(result.size() - 1);
+            lastKey = readKey(last);
+        }
+
+        return result;
+    }
+
+    /**
+     * 行的键值
+     *
+     * @param row [ Column Name : Value ]
+     * @return [ Key Value ]
+     */
+    protected List<Object> readKey(@NotNull Map<String, Object> row) {
+        List<Object> result = new ArrayList<>(keyColumns.size());
+
+        for (String keyColumn : keyColumns) {
+            String columnName = keyColumn.trim();
+            if (!row.containsKey(columnName)) {
+                throw new RuntimeException(String.format("key column must be selected, columnName: %s", columnName));
+            }
+
+            Object value = row.get(columnName);
+            if (value == null) {
+                throw new RuntimeException(String.format("key value must not be null, columnName: %s", columnName));
+            }
+
+            result.add(value);
+        }
+
+        return result;
+    }
+
+    @NotNull
+    public TableSchema getTableSchema() {
+        return tableSchema;
+    }
+
+    @NotNull
+    public Projection getProjection() {
+        return projection;
+    }
+
+    @NotNull
+    public List<String> getKeyColumns() {
+        return keyColumns;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public boolean isRowValue() {
+        return rowValue;
+    }
+
+    /**
+     * 上一页末行的键值，用于断点续读
+     *
+     * @return [ Key Value ]
+     */
+    public List<Object> getLastKey() {
+        return lastKey;
+    }
+
+    public void setLastKey(List<Object> lastKey) {
+        if (lastKey != null && lastKey.size() != keyColumns.size()) {
+            throw new RuntimeException("lastKey size must equal keyColumns size");
+        }
+
+        this.lastKey = lastKey != null ? new ArrayList<>(lastKey) : null;
+        this.hasNext = true;
+    }
+
+}
@@ -0,0 +1,223 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * 键集分页
+ *
+ * @author changebooks@qq.com
+ */
+public final class KeysetUtils {
+
+    private KeysetUtils() {
+    }
+
+    /**
+     * 分页键，主键优先，否则取首个非空唯一索引
+     *
+     * @param table the {@link Table} instance
+     * @return [ Column Name ]
+     */
+    public static List<String> readKey(@NotNull Table table) {
+        List<String> primaryKey = table.getPrimaryKey();
+        if (primaryKey != null && !primaryKey.isEmpty()) {
+            return primaryKey;
+        }
+
+        Map<String, List<String>> uniqueKeys = table.getUniqueKeys();
+        if (uniqueKeys == null) {
+            return null;
+        }
+
+        // 按索引名排序，结果稳定
+        List<String> names = uniqueKeys.keySet()
+                .stream()
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+
+        for (String name : names) {
+            List<String> columnNames = uniqueKeys.get(name);
+            if (columnNames == null || columnNames.isEmpty()) {
+                continue;
+            }
+
+            if (isNotNull(table, columnNames)) {
+                return columnNames;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 全部字段非空？
+     *
+     * @param table       the {@link Table} instance
+     * @param columnNames [ Column Name ]
+     * @return Not Null ?
+     */
+    public static boolean isNotNull(@NotNull Table table, @NotNull List<String> columnNames) {
+        List<Column> columns = table.getColumns();
+        if (columns == null) {
+            return false;
+        }
+
+        for (String columnName : columnNames) {
+            if (columnName == null) {
+                return false;
+            }
+
+            Column column = columns.stream()
+                    .filter(Objects::nonNull)
+                    .filter(x -> columnName.equalsIgnoreCase(x.getName()))
+                    .findFirst()
+                    .orElse(null);
+            if (column == null || column.isNullable()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Build SQL，首页
+     *
+     * @param tableName     Table Name
+     * @param joinedColumns "column, column" used for SELECT
+     * @param keyColumns    [ Key Column Name ]
+     * @return SELECT column, column FROM table ORDER BY key LIMIT ?
+     */
+    public static String buildFirstPage(@NotNull String tableName, @NotNull String joinedColumns,
+                                        @NotNull List<String> keyColumns) {
+        return "SELECT " + joinedColumns + " FROM " + tableName +
+                " ORDER BY " + buildOrderBy(keyColumns) +
+                " LIMIT ?";
+    }
+
+    /**
+     * Build SQL，下一页
+     *
+     * @param tableName     Table Name
+     * @param joinedColumns "column, column" used for SELECT
+     * @param keyColumns    [ Key Column Name ]
+     * @param rowValue      (a, b) &gt; (?, ?) ? or a &gt; ? OR (a = ? AND b &gt; ?)
+     * @return SELECT column, column FROM table WHERE key &gt; last ORDER BY key LIMIT ?
+     */
+    public static String buildNextPage(@NotNull String tableName, @NotNull String joinedColumns,
+                                       @NotNull List<String> keyColumns, boolean rowValue) {
+        return "SELECT " + joinedColumns + " FROM " + tableName +
+                " WHERE " + buildPredicate(keyColumns, rowValue) +
+                " ORDER BY " + buildOrderBy(keyColumns) +
+                " LIMIT ?";
+    }
+
+    /**
+     * 大于上一页末行
+     *
+     * @param keyColumns [ Key Column Name ]
+     * @param rowValue   (a, b) &gt; (?, ?) ? or a &gt; ? OR (a = ? AND b &gt; ?)
+     * @return WHERE predicate
+     */
+    public static String buildPredicate(@NotNull List<String> keyColumns, boolean rowValue) {
+        List<String> columnNames = clean(keyColumns);
+        if (columnNames.isEmpty()) {
+            throw new RuntimeException("keyColumns must not be empty");
+        }
+
+        int size = columnNames.size();
+        if (size == 1) {
+            return columnNames.get(0) + " > ?";
+        }
+
+        if (rowValue) {
+            String placeholders = String.join(", ", Collections.nCopies(size, "?"));
+            return "(" + String.join(", ", columnNames) + ") > (" + placeholders + ")";
+        }
+
+        StringBuilder result = new StringBuilder("(");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                result.append(" OR ");
+            }
+
+            result.append("(");
+            for (int j = 0; j < i; j++) {
+                result.append(columnNames.get(j)).append(" = ? AND ");
+            }
+
+            result.append(columnNames.get(i)).append(" > ?)");
+        }
+
+        return result.append(")").toString();
+    }
+
+    /**
+     * ORDER BY
+     *
+     * @param keyColumns [ Key Column Name ]
+     * @return column, column
+     */
+    public static String buildOrderBy(@NotNull List<String> keyColumns) {
+        List<String> columnNames = clean(keyColumns);
+        if (columnNames.isEmpty()) {
+            throw new RuntimeException("keyColumns must not be empty");
+        }
+
+        return String.join(", ", columnNames);
+    }
+
+    /**
+     * 绑定上一页末行
+     *
+     * @param stat     the {@link PreparedStatement} instance
+     * @param index    first parameter index
+     * @param lastKey  [ Key Value ]
+     * @param rowValue (a, b) &gt; (?, ?) ? or a &gt; ? OR (a = ? AND b &gt; ?)
+     * @return next parameter index
+     * @throws SQLException if parameterIndex does not correspond to a parameter marker in the SQL statement;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed PreparedStatement
+     */
+    public static int bind(@NotNull PreparedStatement stat, int index,
+                           @NotNull List<Object> lastKey, boolean rowValue) throws SQLException {
+        int size = lastKey.size();
+        if (size == 1 || rowValue) {
+            for (Object value : lastKey) {
+                stat.setObject(index++, value);
+            }
+
+            return index;
+        }
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j <= i; j++) {
+                stat.setObject(index++, lastKey.get(j));
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * 去空
+     *
+     * @param columnNames [ Column Name ]
+     * @return [ Column Name ]
+     */
+    private static List<String> clean(@NotNull List<String> columnNames) {
+        return columnNames.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(Predicate.not(String::isEmpty))
+                .toList();
+    }
+
+}
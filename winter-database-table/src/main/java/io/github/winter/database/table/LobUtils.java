@@ -0,0 +1,204 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.sql.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 大字段，流式读写
+ * <p>
+ * 长度超过阈值的 TEXT / BLOB 以 {@link Reader} / {@link InputStream} 读取及绑定，不生成 String / byte[] 副本；
+ * 流仅在结果集停留在当前行时有效，须在 next() 前读完；
+ * 驱动仍会缓冲当前行，结果集须流式读取（MySQL Connector/J fetchSize 为 {@link Integer#MIN_VALUE}），否则整个结果集驻留内存
+ *
+ * @author changebooks@qq.com
+ */
+public final class LobUtils {
+    /**
+     * 流式阈值，字段长度超过即流式，TEXT 的长度；MEDIUMTEXT、LONGTEXT、JSON 等流式；
+     * {@link ProjectionUtils#isLob(Column)} 亦以此判断
+     */
+    public static final long STREAM_THRESHOLD = 65535;
+
+    /**
+     * 二进制类型，{@link java.sql.Types}
+     */
+    private static final Set<Integer> BINARY_TYPES = Set.of(
+            Types.BINARY,
+            Types.VARBINARY,
+            Types.LONGVARBINARY,
+            Types.BLOB
+    );
+
+    /**
+     * 大字段读写方式
+     */
+    public enum Kind {
+        /**
+         * {@link Reader}
+         */
+        CHARACTER,
+
+        /**
+         * {@link InputStream}
+         */
+        BINARY
+    }
+
+    private LobUtils() {
+    }
+
+    /**
+     * 读写方式
+     *
+     * @param column the {@link Column} instance
+     * @return the {@link Kind} instance, or null if read as a whole value
+     */
+    public static Kind readKind(@NotNull Column column) {
+        if (!ProjectionUtils.isLob(column)) {
+            return null;
+        }
+
+        // LONGTEXT 等长度超出 int，读出为非正数
+        int size = column.getSize();
+        if (size > 0 && size <= STREAM_THRESHOLD) {
+            return null;
+        }
+
+        return BINARY_TYPES.contains(column.getType()) ? Kind.BINARY : Kind.CHARACTER;
+    }
+
+    /**
+     * 读写方式，按 SELECT 字段顺序
+     *
+     * @param columnNames [ Column Name ] in SELECT order
+     * @param lobs        [ Column Name : the {@link Kind} instance ]
+     * @return [ the {@link Kind} instance ]，整值读写为 null；无大字段为 null
+     */
+    public static Kind[] readKinds(@NotNull List<String> columnNames, Map<String, Kind> lobs) {
+        if (lobs == null || lobs.isEmpty()) {
+            return null;
+        }
+
+        Kind[] result = new Kind[columnNames.size()];
+        boolean found = false;
+        for (int i = 0; i < result.length; i++) {
+            result[i] = lobs.get(columnNames.get(i));
+            found |= result[i] != null;
+        }
+
+        return found ? result : null;
+    }
+
+    /**
+     * 读取字段
+     *
+     * @param rs    the {@link ResultSet} instance
+     * @param index 列序号，从 1 开始
+     * @param kind  the {@link Kind} instance，null 为整值读取
+     * @return Value | {@link Reader} | {@link InputStream}
+     * @throws SQLException if the columnIndex is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static Object read(@NotNull ResultSet rs, int index, Kind kind) throws SQLException {
+        if (kind == Kind.CHARACTER) {
+            return rs.getCharacterStream(index);
+        }
+
+        if (kind == Kind.BINARY) {
+            return rs.getBinaryStream(index);
+        }
+
+        return rs.getObject(index);
+    }
+
+    /**
+     * 绑定参数，{@link Reader}、{@link InputStream}、{@link ByteBuffer}、{@link Blob}、{@link Clob} 流式绑定
+     *
+     * @param stat  the {@link PreparedStatement} instance
+     * @param index 参数序号，从 1 开始
+     * @param value 值
+     * @throws SQLException if parameterIndex does not correspond to a parameter marker in the SQL statement;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed PreparedStatement
+     */
+    public static void bind(@NotNull PreparedStatement stat, int index, Object value) throws SQLException {
+        if (value instanceof Reader reader) {
+            stat.setCharacterStream(index, reader);
+        } else if (value instanceof InputStream stream) {
+            stat.setBinaryStream(index, stream);
+        } else if (value instanceof ByteBuffer buffer) {
+            bind(stat, index, buffer);
+        } else if (value instanceof Blob blob) {
+            stat.setBlob(index, blob);
+        } else if (value instanceof Clob clob) {
+            stat.setClob(index, clob);
+        } else {
+            stat.setObject(index, value);
+        }
+    }
+
+    /**
+     * 整行转写，大字段自源结果集直接流入目标语句
+     *
+     * @param rs    the {@link ResultSet} instance，停留在当前行
+     * @param stat  the {@link PreparedStatement} instance
+     * @param kinds [ the {@link Kind} instance ]，按列序
+     * @throws SQLException if a database access error occurs
+     */
+    public static void pipe(@NotNull ResultSet rs, @NotNull PreparedStatement stat, @NotNull Kind[] kinds) throws SQLException {
+        for (int i = 0; i < kinds.length; i++) {
+            Object value = read(rs, i + 1, kinds[i]);
+            if (value == null && kinds[i] != null) {
+                stat.setNull(i + 1, kinds[i] == Kind.BINARY ? Types.LONGVARBINARY : Types.LONGVARCHAR);
+            } else {
+                bind(stat, i + 1, value);
+            }
+        }
+    }
+
+    /**
+     * 绑定 {@link ByteBuffer}，完整的堆缓冲直接取数组，否则以流读取剩余字节，不复制
+     */
+    private static void bind(@NotNull PreparedStatement stat, int index, @NotNull ByteBuffer buffer) throws SQLException {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 &&
+                buffer.remaining() == buffer.array().length) {
+            stat.setBytes(index, buffer.array());
+            return;
+        }
+
+        ByteBuffer duplicate = buffer.duplicate();
+        stat.setBinaryStream(index, new InputStream() {
+            @Override
+            public int read() {
+                return duplicate.hasRemaining() ? duplicate.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (!duplicate.hasRemaining()) {
+                    return -1;
+                }
+
+                int count = Math.min(len, duplicate.remaining());
+                duplicate.get(b, off, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return duplicate.remaining();
+            }
+        }, duplicate.remaining());
+    }
+
+}
@@ -0,0 +1,137 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+
+/**
+ * 元数据读取事件，一个阶段一个事件，含嵌套阶段的往返及行数
+ *
+ * @author changebooks@qq.com
+ */
+public final class MetadataEvent implements Serializable {
+    /**
+     * 阶段
+     */
+    public enum Phase {
+        /**
+         * 表概要，{@link TableSchemaReader}
+         */
+        SCHEMA,
+
+        /**
+         * 表描述，{@link TableReader}
+         */
+        TABLE,
+
+        /**
+         * 全部字段，{@link TableReader}
+         */
+        COLUMNS,
+
+        /**
+         * 单个字段，{@link ColumnReader}
+         */
+        COLUMN,
+
+        /**
+         * 索引，{@link KeyReader}
+         */
+        KEYS,
+
+        /**
+         * 单条查询，{@link TableUtils}
+         */
+        QUERY
+    }
+
+    /**
+     * 阶段
+     */
+    private Phase phase;
+
+    /**
+     * 名称，如查询名 ENGINE、字段名
+     */
+    private String name;
+
+    /**
+     * 库名
+     */
+    private String catalog;
+
+    /**
+     * 表名，全库查询为 null
+     */
+    private String tableName;
+
+    /**
+     * 耗时，纳秒
+     */
+    private long durationNanos;
+
+    /**
+     * JDBC 往返次数
+     */
+    private int roundTrips;
+
+    /**
+     * 读取行数
+     */
+    private long rows;
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public void setPhase(Phase phase) {
+        this.phase = phase;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCatalog() {
+        return catalog;
+    }
+
+    public void setCatalog(String catalog) {
+        this.catalog = catalog;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public void setDurationNanos(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    public int getRoundTrips() {
+        return roundTrips;
+    }
+
+    public void setRoundTrips(int roundTrips) {
+        this.roundTrips = roundTrips;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+}
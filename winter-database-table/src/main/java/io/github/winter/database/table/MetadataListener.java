@@ -0,0 +1,21 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 元数据读取监听，对接监控系统
+ * <p>
+ * 经 {@link MetadataTrace#addListener} 注册，或在 META-INF/services 声明，由 {@link java.util.ServiceLoader} 加载；
+ * 在读取线程同步回调，应尽快返回，异常不影响读取
+ *
+ * @author changebooks@qq.com
+ */
+public interface MetadataListener {
+    /**
+     * 阶段结束
+     *
+     * @param event the {@link MetadataEvent} instance
+     */
+    void onEvent(@NotNull MetadataEvent event);
+
+}
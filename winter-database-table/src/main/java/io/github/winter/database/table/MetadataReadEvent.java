@@ -0,0 +1,35 @@
+package io.github.winter.database.table;
+
+import jdk.jfr.*;
+
+/**
+ * JFR 事件，元数据读取
+ *
+ * @author changebooks@qq.com
+ */
+@Name("io.github.winter.database.MetadataRead")
+@Label("Metadata Read")
+@Category({"Winter", "Database"})
+@Description("Schema metadata read phase, with JDBC round trips and rows scanned")
+@StackTrace(false)
+final class MetadataReadEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Name")
+    String name;
+
+    @Label("Catalog")
+    String catalog;
+
+    @Label("Table Name")
+    String tableName;
+
+    @Label("Round Trips")
+    int roundTrips;
+
+    @Label("Rows")
+    long rows;
+
+}
@@ -0,0 +1,281 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 元数据读取超时及取消
+ * <p>
+ * 以 {@link #enter()} 绑定到当前线程，可多线程共用同一实例，嵌套时取最严格的限制；
+ * 读取语句经 {@link #apply(Statement)} 设置 queryTimeout，为单语句超时与剩余时间的较小者；
+ * {@link #cancel()} 可由其它线程调用，取消执行中的语句，后续读取立即失败
+ * <p>
+ * DatabaseMetaData 的查询无法设置超时，仅在执行前检查
+ *
+ * @author changebooks@qq.com
+ */
+public final class MetadataTimeout {
+    /**
+     * 当前线程的绑定
+     */
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /**
+     * [ the {@link Scope} instance ]，各线程的绑定
+     */
+    private final Set<Scope> scopes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 单语句超时，null 为不限
+     */
+    private final Duration statementTimeout;
+
+    /**
+     * 截止时间，纳秒；readTimeout 为 null 时不限
+     */
+    private final long deadlineNanos;
+
+    /**
+     * 有截止时间？
+     */
+    private final boolean hasDeadline;
+
+    /**
+     * 已取消？
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * 最近检查时的阶段
+     */
+    private volatile String phase;
+
+    /**
+     * 最近检查时的表名
+     */
+    private volatile String tableName;
+
+    /**
+     * 计时自创建起
+     *
+     * @param statementTimeout 单语句超时，null 为不限
+     * @param readTimeout      总超时，null 为不限
+     */
+    public MetadataTimeout(Duration statementTimeout, Duration readTimeout) {
+        if (statementTimeout != null && (statementTimeout.isNegative() || statementTimeout.isZero())) {
+            throw new RuntimeException("statementTimeout must be greater than 0");
+        }
+
+        if (readTimeout != null && (readTimeout.isNegative() || readTimeout.isZero())) {
+            throw new RuntimeException("readTimeout must be greater than 0");
+        }
+
+        this.statementTimeout = statementTimeout;
+        this.hasDeadline = readTimeout != null;
+        this.deadlineNanos = readTimeout != null ? System.nanoTime() + readTimeout.toNanos() : 0;
+    }
+
+    /**
+     * 绑定到当前线程
+     *
+     * @return the {@link Scope} instance，以 try-with-resources 解除
+     */
+    public Scope enter() {
+        Scope result = new Scope(CURRENT.get());
+        CURRENT.set(result);
+        scopes.add(result);
+        return result;
+    }
+
+    /**
+     * 取消，执行中的语句一并取消
+     */
+    public void cancel() {
+        cancelled = true;
+
+        for (Scope scope : scopes) {
+            Statement statement = scope.statement;
+            if (statement == null) {
+                continue;
+            }
+
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                // 语句已关闭
+            }
+        }
+    }
+
+    /**
+     * 已超时？
+     *
+     * @return 超过截止时间？
+     */
+    public boolean isExpired() {
+        return hasDeadline && deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 转换驱动的超时、取消异常，注明超时的阶段
+     *
+     * @param e the {@link SQLException} instance
+     * @return the {@link SQLException} instance，非超时、取消时原样返回
+     */
+    public SQLException translate(@NotNull SQLException e) {
+        Objects.requireNonNull(e, "e must not be null");
+
+        if (e.getMessage() != null && e.getMessage().startsWith("metadata read ")) {
+            return e;
+        }
+
+        if (cancelled) {
+            return newException(e);
+        }
+
+        if (e instanceof SQLTimeoutException || isExpired()) {
+            return newException(e);
+        }
+
+        return e;
+    }
+
+    /**
+     * 当前线程有绑定？
+     *
+     * @return bound?
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 执行前检查，已取消或已超时抛出
+     *
+     * @throws SQLException metadata read cancelled;
+     *                      {@link SQLTimeoutException} metadata read timed out
+     */
+    public static void check() throws SQLException {
+        Scope current = CURRENT.get();
+        if (current == null) {
+            return;
+        }
+
+        String phase = MetadataTrace.readPhase();
+        String tableName = MetadataTrace.readTableName();
+
+        for (Scope scope = current; scope != null; scope = scope.previous) {
+            MetadataTimeout timeout = scope.getTimeout();
+            timeout.phase = phase;
+            timeout.tableName = tableName;
+
+            if (timeout.cancelled || timeout.isExpired()) {
+                throw timeout.newException(null);
+            }
+        }
+    }
+
+    /**
+     * 设置语句超时，执行前检查
+     *
+     * @param stat the {@link Statement} instance
+     * @throws SQLException metadata read cancelled;
+     *                      {@link SQLTimeoutException} metadata read timed out;
+     *                      if a database access error occurs
+     */
+    public static void apply(@NotNull Statement stat) throws SQLException {
+        Scope current = CURRENT.get();
+        if (current == null) {
+            return;
+        }
+
+        check();
+
+        long nanos = Long.MAX_VALUE;
+        for (Scope scope = current; scope != null; scope = scope.previous) {
+            MetadataTimeout timeout = scope.getTimeout();
+            if (timeout.statementTimeout != null) {
+                nanos = Math.min(nanos, timeout.statementTimeout.toNanos());
+            }
+
+            if (timeout.hasDeadline) {
+                nanos = Math.min(nanos, timeout.deadlineNanos - System.nanoTime());
+            }
+
+            scope.statement = stat;
+        }
+
+        if (nanos != Long.MAX_VALUE) {
+            // queryTimeout 为秒，向上取整，0 为不限
+            long seconds = Math.max(1, (nanos + 999_999_999L) / 1_000_000_000L);
+            stat.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, seconds));
+        }
+    }
+
+    private SQLException newException(Throwable cause) {
+        if (cancelled) {
+            return new SQLException(String.format("metadata read cancelled, phase: %s, tableName: %s",
+                    phase, tableName), "70100", cause);
+        } else {
+            return new SQLTimeoutException(String.format("metadata read timed out, phase: %s, tableName: %s",
+                    phase, tableName), "HYT00", cause);
+        }
+    }
+
+    public Duration getStatementTimeout() {
+        return statementTimeout;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * 线程绑定
+     */
+    public final class Scope implements AutoCloseable {
+        /**
+         * 上层绑定
+         */
+        private final Scope previous;
+
+        /**
+         * 最近设置超时的语句，取消时取消
+         */
+        private volatile Statement statement;
+
+        private Scope(Scope previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * 解除绑定
+         */
+        @Override
+        public void close() {
+            scopes.remove(this);
+            CURRENT.set(previous);
+        }
+
+        public MetadataTimeout getTimeout() {
+            return MetadataTimeout.this;
+        }
+
+    }
+
+}
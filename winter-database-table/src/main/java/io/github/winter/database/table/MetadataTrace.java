@@ -0,0 +1,278 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+import jdk.jfr.EventType;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 元数据读取计时，按线程嵌套，结束时往返及行数累加到上层阶段
+ * <p>
+ * 结束时提交 JFR 事件 {@link MetadataReadEvent}，并回调 {@link MetadataListener}；
+ * 无监听、JFR 事件未启用且无 {@link MetadataTimeout} 时，不计时
+ *
+ * @author changebooks@qq.com
+ */
+public final class MetadataTrace implements AutoCloseable {
+    /**
+     * [ the {@link MetadataListener} instance ]
+     */
+    private static final List<MetadataListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /**
+     * 当前线程的阶段
+     */
+    private static final ThreadLocal<MetadataTrace> CURRENT = new ThreadLocal<>();
+
+    /**
+     * the {@link EventType} instance
+     */
+    private static final EventType EVENT_TYPE = EventType.getEventType(MetadataReadEvent.class);
+
+    /**
+     * 不计时
+     */
+    private static final MetadataTrace NOOP = new MetadataTrace(null, null, null, null);
+
+    static {
+        for (MetadataListener listener : ServiceLoader.load(MetadataListener.class)) {
+            LISTENERS.add(listener);
+        }
+    }
+
+    /**
+     * 阶段
+     */
+    private final MetadataEvent.Phase phase;
+
+    /**
+     * 表名
+     */
+    private final String tableName;
+
+    /**
+     * 上层阶段
+     */
+    private final MetadataTrace parent;
+
+    /**
+     * the {@link MetadataReadEvent} instance
+     */
+    private final MetadataReadEvent event;
+
+    /**
+     * 名称
+     */
+    private String name;
+
+    /**
+     * 库名，未设置时取上层阶段
+     */
+    private String catalog;
+
+    /**
+     * 开始时间，纳秒
+     */
+    private long startNanos;
+
+    /**
+     * JDBC 往返次数
+     */
+    private int roundTrips;
+
+    /**
+     * 读取行数
+     */
+    private long rows;
+
+    private MetadataTrace(MetadataEvent.Phase phase, String name, String tableName, MetadataTrace parent) {
+        this.phase = phase;
+        this.name = name;
+        this.tableName = tableName;
+        this.parent = parent;
+        this.event = phase != null ? new MetadataReadEvent() : null;
+    }
+
+    /**
+     * 开始阶段
+     *
+     * @param phase     the {@link MetadataEvent.Phase} instance
+     * @param name      名称，如查询名
+     * @param tableName Table Name，全库为 null
+     * @return the {@link MetadataTrace} instance，以 try-with-resources 结束
+     */
+    public static MetadataTrace start(@NotNull MetadataEvent.Phase phase, String name, String tableName) {
+        if (LISTENERS.isEmpty() && !EVENT_TYPE.isEnabled() && !MetadataTimeout.isActive()) {
+            return NOOP;
+        }
+
+        MetadataTrace result = new MetadataTrace(phase, name, tableName, CURRENT.get());
+        CURRENT.set(result);
+        result.event.begin();
+        result.startNanos = System.nanoTime();
+        return result;
+    }
+
+    /**
+     * 当前阶段加一次往返，无阶段时忽略
+     */
+    public static void roundTrip() {
+        MetadataTrace current = CURRENT.get();
+        if (current != null) {
+            current.roundTrips++;
+        }
+    }
+
+    /**
+     * 当前阶段加读取行数，无阶段时忽略
+     *
+     * @param delta 行数
+     */
+    public static void rows(long delta) {
+        MetadataTrace current = CURRENT.get();
+        if (current != null) {
+            current.rows += delta;
+        }
+    }
+
+    /**
+     * 当前阶段，如 QUERY ENGINE
+     *
+     * @return Phase [ Name ], or null if not traced
+     */
+    public static String readPhase() {
+        MetadataTrace current = CURRENT.get();
+        if (current == null) {
+            return null;
+        }
+
+        return current.name != null ? current.phase.name() + " " + current.name : current.phase.name();
+    }
+
+    /**
+     * 当前阶段的表名
+     *
+     * @return Table Name, or null if not traced
+     */
+    public static String readTableName() {
+        MetadataTrace current = CURRENT.get();
+        return current != null ? current.tableName : null;
+    }
+
+    /**
+     * 注册监听
+     *
+     * @param listener the {@link MetadataListener} instance
+     */
+    public static void addListener(@NotNull MetadataListener listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * 移除监听
+     *
+     * @param listener the {@link MetadataListener} instance
+     */
+    public static void removeListener(MetadataListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * 结束阶段，累加到上层阶段
+     */
+    @Override
+    public void close() {
+        if (phase == null) {
+            return;
+        }
+
+        long durationNanos = System.nanoTime() - startNanos;
+        event.end();
+        CURRENT.set(parent);
+
+        String resolvedCatalog = readCatalog();
+        if (parent != null) {
+            parent.roundTrips += roundTrips;
+            parent.rows += rows;
+        }
+
+        if (event.shouldCommit()) {
+            event.phase = phase.name();
+            event.name = name;
+            event.catalog = resolvedCatalog;
+            event.tableName = tableName;
+            event.roundTrips = roundTrips;
+            event.rows = rows;
+            event.commit();
+        }
+
+        if (LISTENERS.isEmpty()) {
+            return;
+        }
+
+        MetadataEvent metadataEvent = new MetadataEvent();
+        metadataEvent.setPhase(phase);
+        metadataEvent.setName(name);
+        metadataEvent.setCatalog(resolvedCatalog);
+        metadataEvent.setTableName(tableName);
+        metadataEvent.setDurationNanos(durationNanos);
+        metadataEvent.setRoundTrips(roundTrips);
+        metadataEvent.setRows(rows);
+
+        for (MetadataListener listener : LISTENERS) {
+            try {
+                listener.onEvent(metadataEvent);
+            } catch (RuntimeException e) {
+                // 监听异常不影响读取
+            }
+        }
+    }
+
+    private String readCatalog() {
+        for (MetadataTrace trace = this; trace != null; trace = trace.parent) {
+            if (trace.catalog != null) {
+                return trace.catalog;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 本阶段加一次往返
+     */
+    public void addRoundTrip() {
+        if (phase != null) {
+            roundTrips++;
+        }
+    }
+
+    /**
+     * 本阶段加读取行数
+     *
+     * @param delta 行数
+     */
+    public void addRows(long delta) {
+        if (phase != null) {
+            rows += delta;
+        }
+    }
+
+    public void setName(String name) {
+        if (phase != null) {
+            this.name = name;
+        }
+    }
+
+    public void setCatalog(String catalog) {
+        if (phase != null) {
+            this.catalog = catalog;
+        }
+    }
+
+}
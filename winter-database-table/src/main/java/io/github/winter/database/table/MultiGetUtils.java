@@ -0,0 +1,204 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * 按主键批量查询
+ * <p>
+ * IN 列表长度取固定档位，不足补齐，超出拆分，预编译语句数量有界
+ *
+ * @author changebooks@qq.com
+ */
+public final class MultiGetUtils {
+    /**
+     * IN 列表长度档位，升序
+     */
+    public static final int[] BUCKETS = {1, 2, 4, 8, 16, 32, 64, 128, 256};
+
+    private MultiGetUtils() {
+    }
+
+    /**
+     * 最小可容纳的档位
+     *
+     * @param size 主键个数
+     * @return IN-list Size
+     */
+    public static int bucket(int size) {
+        for (int bucket : BUCKETS) {
+            if (bucket >= size) {
+                return bucket;
+            }
+        }
+
+        return BUCKETS[BUCKETS.length - 1];
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param tableName     Table Name
+     * @param joinedColumns "column, column" used for SELECT
+     * @param idNames       Primary Key，[ Column Name ]
+     * @param size          IN-list Size
+     * @return SELECT column, column FROM table WHERE id IN (?, ?) | WHERE (a, b) IN ((?, ?), (?, ?))
+     */
+    public static String build(@NotNull String tableName, @NotNull String joinedColumns,
+                               @NotNull List<String> idNames, int size) {
+        if (idNames.isEmpty()) {
+            throw new RuntimeException(String.format("idNames must not be empty, tableName: %s", tableName));
+        }
+
+        if (size <= 0) {
+            throw new RuntimeException(String.format("size must be greater than 0, tableName: %s", tableName));
+        }
+
+        int width = idNames.size();
+        String tuple = width == 1 ? "?" : "(" + String.join(", ", Collections.nCopies(width, "?")) + ")";
+        String left = width == 1 ? idNames.get(0) : "(" + String.join(", ", idNames) + ")";
+
+        StringBuilder result = new StringBuilder("SELECT ")
+                .append(joinedColumns)
+                .append(" FROM ")
+                .append(tableName)
+                .append(" WHERE ")
+                .append(left)
+                .append(" IN (");
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+
+            result.append(tuple);
+        }
+
+        return result.append(")").toString();
+    }
+
+    /**
+     * 按最大档位拆分
+     *
+     * @param ids [ [ Id Value ] ]
+     * @return [ [ [ Id Value ] ] ]
+     */
+    public static List<List<List<Object>>> split(@NotNull List<List<Object>> ids) {
+        List<List<List<Object>>> result = new ArrayList<>();
+
+        int max = BUCKETS[BUCKETS.length - 1];
+        int total = ids.size();
+        for (int from = 0; from < total; from += max) {
+            int to = Math.min(from + max, total);
+            result.add(ids.subList(from, to));
+        }
+
+        return result;
+    }
+
+    /**
+     * Read Rows
+     *
+     * @param conn        the {@link Connection} instance
+     * @param tableSchema the {@link TableSchema} instance
+     * @param ids         [ Id Value ] for a single-column primary key
+     * @return [ [ Column Name : Value ] ]
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static List<Map<String, Object>> readByIds(@NotNull Connection conn, @NotNull TableSchema tableSchema,
+                                                      @NotNull Collection<?> ids) throws SQLException {
+        List<List<Object>> keys = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            keys.add(Collections.singletonList(id));
+        }
+
+        return readByKeys(conn, tableSchema, keys);
+    }
+
+    /**
+     * Read Rows
+     *
+     * @param conn        the {@link Connection} instance
+     * @param tableSchema the {@link TableSchema} instance
+     * @param keys        [ [ Id Value ] ] in primary key order
+     * @return [ [ Column Name : Value ] ]
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static List<Map<String, Object>> readByKeys(@NotNull Connection conn, @NotNull TableSchema tableSchema,
+                                                       @NotNull List<List<Object>> keys) throws SQLException {
+        List<String> idNames = tableSchema.getIdNames();
+        if (idNames.isEmpty()) {
+            throw new RuntimeException(String.format("idNames must not be empty, tableName: %s", tableSchema.getTableName()));
+        }
+
+        List<String> columnNames = tableSchema.getColumnNames();
+        List<Map<String, Object>> result = new ArrayList<>(keys.size());
+
+        for (List<List<Object>> batch : split(keys)) {
+            int size = bucket(batch.size());
+            String command = getSelectByIds(tableSchema, size);
+
+            PreparedStatement stat = conn.prepareStatement(command);
+            if (stat == null) {
+                continue;
+            }
+
+            try (stat) {
+                int index = 1;
+                for (int i = 0; i < size; i++) {
+                    // 不足补齐，重复末个主键
+                    List<Object> key = batch.get(Math.min(i, batch.size() - 1));
+                    if (key == null || key.size() != idNames.size()) {
+                        throw new RuntimeException(String.format("key size must equal idNames size, tableName: %s", tableSchema.getTableName()));
+                    }
+
+                    for (Object value : key) {
+                        stat.setObject(index++, value);
+                    }
+                }
+
+                ResultSet rs = stat.executeQuery();
+                if (rs == null) {
+                    continue;
+                }
+
+                try (rs) {
+                    while (rs.next()) {
+                        Map<String, Object> row = RowUtils.read(rs, columnNames);
+                        result.add(row);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * SELECT ... WHERE id IN (...)，优先取预生成
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param size        IN-list Size
+     * @return SQL
+     */
+    private static String getSelectByIds(@NotNull TableSchema tableSchema, int size) {
+        String command = tableSchema.getSelectByIds().get(size);
+        if (command != null) {
+            return command;
+        }
+
+        return build(tableSchema.getTableName(), tableSchema.getJoinedColumnsOnSelect(), tableSchema.getIdNames(), size);
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+
+/**
+ * 分区描述
+ *
+ * @author changebooks@qq.com
+ */
+public final class Partition implements Serializable {
+    /**
+     * 分区名
+     */
+    private String name;
+
+    /**
+     * 分区边界，INFORMATION_SCHEMA.PARTITIONS.PARTITION_DESCRIPTION
+     * <p>
+     * RANGE 为上界，不含，如 738886 | MAXVALUE；LIST 为值列表，如 1,2,3；HASH / KEY 为 null
+     */
+    private String description;
+
+    /**
+     * 备注
+     */
+    private String remark;
+
+    public Partition() {
+    }
+
+    public Partition(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getRemark() {
+        return remark;
+    }
+
+    public void setRemark(String remark) {
+        this.remark = remark;
+    }
+
+}
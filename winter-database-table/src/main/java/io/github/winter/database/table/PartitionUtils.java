@@ -0,0 +1,214 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * 分区
+ *
+ * @author changebooks@qq.com
+ */
+public final class PartitionUtils {
+    /**
+     * 上界无穷大
+     */
+    public static final String MAXVALUE = "MAXVALUE";
+
+    private PartitionUtils() {
+    }
+
+    /**
+     * Read Partitioning
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return the {@link Partitioning} instance, or null if not partitioned
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static Partitioning read(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        return read(conn, tableName, " AND TABLE_NAME = ?").get(tableName);
+    }
+
+    /**
+     * Read All Partitioning，一次查询全库
+     *
+     * @param conn the {@link Connection} instance
+     * @return [ Table Name : the {@link Partitioning} instance ]，仅含分区表
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static Map<String, Partitioning> readAll(@NotNull Connection conn) throws SQLException {
+        return read(conn, null, "");
+    }
+
+    private static Map<String, Partitioning> read(@NotNull Connection conn, String tableName,
+                                                  @NotNull String condition) throws SQLException {
+        String command = "SELECT TABLE_NAME, PARTITION_NAME, PARTITION_METHOD, PARTITION_EXPRESSION, " +
+                "PARTITION_DESCRIPTION, PARTITION_COMMENT FROM INFORMATION_SCHEMA.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = ?" + condition + " AND PARTITION_NAME IS NOT NULL " +
+                "ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION, SUBPARTITION_ORDINAL_POSITION";
+
+        Map<String, Partitioning> result = new TreeMap<>();
+        try (PreparedStatement stat = conn.prepareStatement(command)) {
+            MetadataTimeout.apply(stat);
+
+            String tableSchema = conn.getCatalog();
+
+            stat.setString(1, tableSchema);
+            if (tableName != null) {
+                stat.setString(2, tableName);
+            }
+
+            try (ResultSet rs = stat.executeQuery()) {
+                MetadataTrace.roundTrip();
+                while (rs.next()) {
+                    MetadataTrace.rows(1);
+                    String name = rs.getString("TABLE_NAME");
+                    String partitionName = rs.getString("PARTITION_NAME");
+                    if (name == null || partitionName == null) {
+                        continue;
+                    }
+
+                    Partitioning partitioning = result.computeIfAbsent(name, x -> new Partitioning());
+                    partitioning.setMethod(rs.getString("PARTITION_METHOD"));
+                    partitioning.setExpression(rs.getString("PARTITION_EXPRESSION"));
+
+                    // 子分区各占一行，取首行
+                    List<Partition> partitions = partitioning.getPartitions();
+                    if (!partitions.isEmpty() && partitionName.equals(partitions.get(partitions.size() - 1).getName())) {
+                        continue;
+                    }
+
+                    Partition partition = new Partition(partitionName, rs.getString("PARTITION_DESCRIPTION"));
+                    String remark = rs.getString("PARTITION_COMMENT");
+                    partition.setRemark(remark != null && !remark.isEmpty() ? remark : null);
+                    partitions.add(partition);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param partitioning the {@link Partitioning} instance
+     * @return PARTITION BY method (expression) (PARTITION name VALUES ..., ...)
+     */
+    public static String build(Partitioning partitioning) {
+        if (partitioning == null || AppendUtils.isBlank(partitioning.getMethod())) {
+            return "";
+        }
+
+        String method = partitioning.getMethod().trim().toUpperCase();
+        String expression = partitioning.getExpression() != null ? partitioning.getExpression().trim() : "";
+
+        StringBuilder result = new StringBuilder("PARTITION BY ").append(method).append(" (").append(expression).append(')');
+
+        List<Partition> partitions = partitioning.getPartitions();
+        if (partitions.isEmpty()) {
+            return result.toString();
+        }
+
+        result.append("\n(");
+        for (int i = 0; i < partitions.size(); i++) {
+            if (i > 0) {
+                result.append(",\n ");
+            }
+
+            result.append(build(method, partitions.get(i)));
+        }
+
+        return result.append(')').toString();
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param method    分区方法
+     * @param partition the {@link Partition} instance
+     * @return PARTITION name VALUES LESS THAN (...) | VALUES IN (...) [ COMMENT = '' ]
+     */
+    public static String build(@NotNull String method, @NotNull Partition partition) {
+        String name = partition.getName() != null ? partition.getName().trim() : "";
+        String description = partition.getDescription() != null ? partition.getDescription().trim() : "";
+        String upperMethod = method.trim().toUpperCase();
+
+        StringBuilder result = new StringBuilder("PARTITION ").append(name);
+        if (upperMethod.startsWith("RANGE")) {
+            result.append(" VALUES LESS THAN ");
+            if (upperMethod.equals("RANGE") && MAXVALUE.equalsIgnoreCase(description)) {
+                result.append(MAXVALUE);
+            } else {
+                result.append('(').append(description).append(')');
+            }
+        } else if (upperMethod.startsWith("LIST")) {
+            result.append(" VALUES IN (").append(description).append(')');
+        }
+
+        if (partition.getRemark() != null) {
+            result.append(" COMMENT = '").append(partition.getRemark()).append('\'');
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * 新增分区，末尾不能有 MAXVALUE 分区，否则用 {@link #buildReorganize}
+     *
+     * @param tableName  Table Name
+     * @param method     分区方法
+     * @param partitions [ the {@link Partition} instance ]
+     * @return ALTER TABLE name ADD PARTITION (...);
+     */
+    public static String buildAdd(@NotNull String tableName, @NotNull String method, @NotNull List<Partition> partitions) {
+        return "ALTER TABLE " + tableName + " ADD PARTITION (" + buildDefinitions(method, partitions) + ");\n";
+    }
+
+    /**
+     * 删除分区，只改元数据，代替大批量 DELETE
+     *
+     * @param tableName      Table Name
+     * @param partitionNames [ Partition Name ]
+     * @return ALTER TABLE name DROP PARTITION p1, p2;
+     */
+    public static String buildDrop(@NotNull String tableName, @NotNull List<String> partitionNames) {
+        return "ALTER TABLE " + tableName + " DROP PARTITION " + String.join(", ", partitionNames) + ";\n";
+    }
+
+    /**
+     * 重组分区，如拆分末尾的 MAXVALUE 分区；空分区只改元数据
+     *
+     * @param tableName      Table Name
+     * @param method         分区方法
+     * @param partitionNames [ Partition Name ]，被重组的分区
+     * @param into           [ the {@link Partition} instance ]，重组后的分区
+     * @return ALTER TABLE name REORGANIZE PARTITION p INTO (...);
+     */
+    public static String buildReorganize(@NotNull String tableName, @NotNull String method,
+                                         @NotNull List<String> partitionNames, @NotNull List<Partition> into) {
+        return "ALTER TABLE " + tableName + " REORGANIZE PARTITION " + String.join(", ", partitionNames) +
+                " INTO (" + buildDefinitions(method, into) + ");\n";
+    }
+
+    private static String buildDefinitions(@NotNull String method, @NotNull List<Partition> partitions) {
+        StringJoiner result = new StringJoiner(", ");
+        for (Partition partition : partitions) {
+            result.add(build(method, partition));
+        }
+
+        return result.toString();
+    }
+
+}
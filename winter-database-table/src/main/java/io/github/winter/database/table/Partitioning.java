@@ -0,0 +1,56 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 分区方式，不含子分区
+ *
+ * @author changebooks@qq.com
+ */
+public final class Partitioning implements Serializable {
+    /**
+     * 分区方法，RANGE | RANGE COLUMNS | LIST | LIST COLUMNS | HASH | LINEAR HASH | KEY | LINEAR KEY
+     */
+    private String method;
+
+    /**
+     * 分区表达式，如 to_days(created_at)；COLUMNS 为字段列表
+     */
+    private String expression;
+
+    /**
+     * [ the {@link Partition} instance ]，按序
+     */
+    private List<Partition> partitions = new ArrayList<>();
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public void setExpression(String expression) {
+        this.expression = expression;
+    }
+
+    public List<Partition> getPartitions() {
+        if (partitions == null) {
+            partitions = new ArrayList<>();
+        }
+
+        return partitions;
+    }
+
+    public void setPartitions(List<Partition> partitions) {
+        this.partitions = partitions;
+    }
+
+}
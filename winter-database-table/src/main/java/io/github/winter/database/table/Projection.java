@@ -0,0 +1,80 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 投影，具名的 SELECT 字段集
+ *
+ * @author changebooks@qq.com
+ */
+public final class Projection implements Serializable {
+    /**
+     * 全部字段
+     */
+    public static final String ALL = "all";
+
+    /**
+     * 排除 TEXT / BLOB 等大字段
+     */
+    public static final String DEFAULT = "default";
+
+    /**
+     * 仅主键
+     */
+    public static final String IDS_ONLY = "ids-only";
+
+    /**
+     * 投影名
+     */
+    private final String name;
+
+    /**
+     * [ Column Name ] in SELECT order
+     */
+    private final List<String> columnNames;
+
+    /**
+     * "column, column" used for SELECT
+     */
+    private final String joinedColumnsOnSelect;
+
+    /**
+     * the {@link RowDecoder} instance
+     */
+    private final RowDecoder rowDecoder;
+
+    public Projection(@NotNull String name, @NotNull List<String> columnNames) {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(columnNames, "columnNames must not be null");
+
+        this.name = name.trim();
+        this.columnNames = List.copyOf(columnNames);
+        this.joinedColumnsOnSelect = String.join(", ", this.columnNames);
+        this.rowDecoder = new RowDecoder(this.columnNames);
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    @NotNull
+    public String getJoinedColumnsOnSelect() {
+        return joinedColumnsOnSelect;
+    }
+
+    @NotNull
+    public RowDecoder getRowDecoder() {
+        return rowDecoder;
+    }
+
+}
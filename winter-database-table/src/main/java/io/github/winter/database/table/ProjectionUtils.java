@@ -0,0 +1,95 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.Types;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * 投影
+ *
+ * @author changebooks@qq.com
+ */
+public final class ProjectionUtils {
+    /**
+     * 大字段类型，{@link java.sql.Types}
+     */
+    private static final Set<Integer> LOB_TYPES = Set.of(
+            Types.LONGVARCHAR,
+            Types.LONGNVARCHAR,
+            Types.LONGVARBINARY,
+            Types.BLOB,
+            Types.CLOB,
+            Types.NCLOB
+    );
+
+    private ProjectionUtils() {
+    }
+
+    /**
+     * 大字段？按类型，或长度超过 {@link LobUtils#STREAM_THRESHOLD}，与流式读写的判断一致
+     *
+     * @param column the {@link Column} instance
+     * @return TEXT / BLOB ?
+     */
+    public static boolean isLob(@NotNull Column column) {
+        if (LOB_TYPES.contains(column.getType())) {
+            return true;
+        }
+
+        return column.getSize() > LobUtils.STREAM_THRESHOLD;
+    }
+
+    /**
+     * 新增投影
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param name        投影名
+     * @param columnNames [ Column Name ]
+     * @return the {@link Projection} instance
+     */
+    @NotNull
+    public static Projection add(@NotNull TableSchema tableSchema, @NotNull String name, @NotNull List<String> columnNames) {
+        List<String> allColumnNames = tableSchema.getColumnNames();
+
+        List<String> cleanedColumnNames = columnNames.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(Predicate.not(String::isEmpty))
+                .distinct()
+                .toList();
+        if (cleanedColumnNames.isEmpty()) {
+            throw new RuntimeException(String.format("columnNames must not be empty, projection: %s", name));
+        }
+
+        for (String columnName : cleanedColumnNames) {
+            if (!allColumnNames.contains(columnName)) {
+                throw new RuntimeException(String.format("unknown column, columnName: %s, tableName: %s", columnName, tableSchema.getTableName()));
+            }
+        }
+
+        Projection result = new Projection(name, cleanedColumnNames);
+        tableSchema.getProjections().put(result.getName(), result);
+        return result;
+    }
+
+    /**
+     * 取投影，不存在时取默认投影
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param name        投影名
+     * @return the {@link Projection} instance
+     */
+    public static Projection get(@NotNull TableSchema tableSchema, String name) {
+        Map<String, Projection> projections = tableSchema.getProjections();
+
+        Projection result = name != null ? projections.get(name.trim()) : null;
+        if (result != null) {
+            return result;
+        }
+
+        return projections.get(Projection.DEFAULT);
+    }
+
+}
@@ -0,0 +1,110 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 冗余索引
+ *
+ * @author changebooks@qq.com
+ */
+public final class RedundantKey implements Serializable {
+    /**
+     * 冗余类型
+     */
+    public enum Kind {
+        /**
+         * 与其它索引字段完全相同
+         */
+        DUPLICATE,
+
+        /**
+         * 普通索引，是其它索引的最左前缀
+         */
+        LEFT_PREFIX,
+
+        /**
+         * 普通索引，末尾显式包含主键，InnoDB 已隐式追加
+         */
+        PK_SUFFIX
+    }
+
+    /**
+     * 索引名
+     */
+    private String name;
+
+    /**
+     * [ 字段名 ]
+     */
+    private List<String> columnNames;
+
+    /**
+     * 冗余类型
+     */
+    private Kind kind;
+
+    /**
+     * 覆盖该索引的索引名，PK_SUFFIX 为 null
+     */
+    private String coveredBy;
+
+    /**
+     * 去除主键后缀后的字段，仅 PK_SUFFIX
+     */
+    private List<String> replacement;
+
+    /**
+     * 可回收空间，字节，未知为 -1
+     */
+    private long savedBytes = -1;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public void setColumnNames(List<String> columnNames) {
+        this.columnNames = columnNames;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public void setKind(Kind kind) {
+        this.kind = kind;
+    }
+
+    public String getCoveredBy() {
+        return coveredBy;
+    }
+
+    public void setCoveredBy(String coveredBy) {
+        this.coveredBy = coveredBy;
+    }
+
+    public List<String> getReplacement() {
+        return replacement;
+    }
+
+    public void setReplacement(List<String> replacement) {
+        this.replacement = replacement;
+    }
+
+    public long getSavedBytes() {
+        return savedBytes;
+    }
+
+    public void setSavedBytes(long savedBytes) {
+        this.savedBytes = savedBytes;
+    }
+
+}
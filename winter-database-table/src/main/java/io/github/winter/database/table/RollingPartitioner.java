@@ -0,0 +1,301 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 滚动分区，按时间窗口预建新分区、删除过期分区
+ * <p>
+ * 支持 RANGE (TO_DAYS(col))、RANGE (UNIX_TIMESTAMP(col))、RANGE COLUMNS (col)；
+ * 删除分区只改元数据，代替大批量 DELETE
+ *
+ * @author changebooks@qq.com
+ */
+public class RollingPartitioner {
+    /**
+     * TO_DAYS('1970-01-01')
+     */
+    private static final long TO_DAYS_EPOCH = 719528L;
+
+    /**
+     * 分区上界类型
+     */
+    public enum Bound {
+        /**
+         * RANGE (TO_DAYS(col))
+         */
+        TO_DAYS,
+
+        /**
+         * RANGE (UNIX_TIMESTAMP(col))
+         */
+        UNIX_TIMESTAMP,
+
+        /**
+         * RANGE COLUMNS (col)，日期字面量
+         */
+        COLUMNS
+    }
+
+    /**
+     * 分区周期，DAYS、WEEKS、MONTHS、YEARS
+     */
+    private ChronoUnit unit = ChronoUnit.MONTHS;
+
+    /**
+     * 预建周期数，当前周期之后
+     */
+    private int ahead = 3;
+
+    /**
+     * 保留周期数，当前周期之前；0 不删除
+     */
+    private int retention = 0;
+
+    /**
+     * 分区名格式，按周期起始日格式化
+     */
+    private String namePattern = "'p'yyyyMMdd";
+
+    /**
+     * 时区，UNIX_TIMESTAMP 换算用
+     */
+    private ZoneId zoneId = ZoneId.systemDefault();
+
+    /**
+     * 滚动计划，先建后删
+     *
+     * @param table the {@link Table} instance
+     * @param today 当前日期
+     * @return [ ALTER TABLE ... PARTITION ...; ]，无需变更为空
+     */
+    public List<String> plan(@NotNull Table table, @NotNull LocalDate today) {
+        Objects.requireNonNull(table, "table must not be null");
+        Objects.requireNonNull(today, "today must not be null");
+
+        List<String> result = new ArrayList<>();
+
+        Partitioning partitioning = table.getPartitioning();
+        if (partitioning == null || partitioning.getPartitions().isEmpty()) {
+            return result;
+        }
+
+        String tableName = table.getName();
+        String method = partitioning.getMethod();
+        Bound bound = readBound(partitioning);
+        if (bound == null) {
+            throw new RuntimeException(String.format("unsupported partition expression, tableName: %s, method: %s, expression: %s",
+                    tableName, method, partitioning.getExpression()));
+        }
+
+        List<Partition> partitions = partitioning.getPartitions();
+        Partition maxPartition = null;
+        LocalDate lastBound = null;
+        for (Partition partition : partitions) {
+            LocalDate date = parse(bound, partition.getDescription());
+            if (date == null) {
+                maxPartition = partition;
+            } else if (lastBound == null || date.isAfter(lastBound)) {
+                lastBound = date;
+            }
+        }
+
+        LocalDate current = truncate(today);
+        LocalDate target = current.plus(ahead + 1L, unit);
+        LocalDate start = lastBound != null ? lastBound : current;
+
+        // 已过期的空档并入首个新分区，不再逐周期补建
+        LocalDate cutoff = current.minus(retention, unit);
+        if (retention > 0 && start.isBefore(cutoff)) {
+            start = cutoff;
+        }
+
+        List<Partition> adds = new ArrayList<>();
+        while (start.isBefore(target)) {
+            LocalDate end = truncate(start).plus(1, unit);
+            adds.add(new Partition(formatName(start), format(bound, end)));
+            start = end;
+        }
+
+        if (!adds.isEmpty()) {
+            if (maxPartition != null) {
+                adds.add(maxPartition);
+                result.add(PartitionUtils.buildReorganize(tableName, method, List.of(maxPartition.getName()), adds));
+            } else {
+                result.add(PartitionUtils.buildAdd(tableName, method, adds));
+            }
+        }
+
+        if (retention > 0) {
+            List<String> drops = new ArrayList<>();
+            for (Partition partition : partitions) {
+                LocalDate date = parse(bound, partition.getDescription());
+                if (date != null && !date.isAfter(cutoff)) {
+                    drops.add(partition.getName());
+                }
+            }
+
+            // 不能删除全部分区
+            if (!drops.isEmpty() && (drops.size() < partitions.size() || !adds.isEmpty())) {
+                result.add(PartitionUtils.buildDrop(tableName, drops));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 上界类型
+     *
+     * @param partitioning the {@link Partitioning} instance
+     * @return the {@link Bound} instance, or null if unsupported
+     */
+    protected Bound readBound(@NotNull Partitioning partitioning) {
+        String method = partitioning.getMethod() != null ? partitioning.getMethod().trim().toUpperCase() : "";
+        String expression = partitioning.getExpression() != null ? partitioning.getExpression().trim().toLowerCase() : "";
+
+        if (method.equals("RANGE COLUMNS")) {
+            return expression.contains(",") ? null : Bound.COLUMNS;
+        }
+
+        if (!method.equals("RANGE")) {
+            return null;
+        }
+
+        if (expression.startsWith("to_days(")) {
+            return Bound.TO_DAYS;
+        }
+
+        if (expression.startsWith("unix_timestamp(")) {
+            return Bound.UNIX_TIMESTAMP;
+        }
+
+        return null;
+    }
+
+    /**
+     * 上界转日期
+     *
+     * @param bound       the {@link Bound} instance
+     * @param description 上界，如 739252、'2024-01-01'
+     * @return 上界日期，MAXVALUE 为 null
+     */
+    protected LocalDate parse(@NotNull Bound bound, String description) {
+        if (description == null) {
+            return null;
+        }
+
+        String value = description.trim();
+        if (value.isEmpty() || value.equalsIgnoreCase(PartitionUtils.MAXVALUE)) {
+            return null;
+        }
+
+        try {
+            return switch (bound) {
+                case TO_DAYS -> LocalDate.ofEpochDay(Long.parseLong(value) - TO_DAYS_EPOCH);
+                case UNIX_TIMESTAMP -> Instant.ofEpochSecond(Long.parseLong(value)).atZone(zoneId).toLocalDate();
+                case COLUMNS -> LocalDate.parse(value.replace("'", "").substring(0, 10));
+            };
+        } catch (DateTimeException | NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new RuntimeException(String.format("unsupported partition description, bound: %s, description: %s",
+                    bound, description), e);
+        }
+    }
+
+    /**
+     * 日期转上界
+     *
+     * @param bound the {@link Bound} instance
+     * @param date  上界日期
+     * @return 上界，如 739252、'2024-01-01'
+     */
+    protected String format(@NotNull Bound bound, @NotNull LocalDate date) {
+        return switch (bound) {
+            case TO_DAYS -> String.valueOf(date.toEpochDay() + TO_DAYS_EPOCH);
+            case UNIX_TIMESTAMP -> String.valueOf(date.atStartOfDay(zoneId).toEpochSecond());
+            case COLUMNS -> "'" + date + "'";
+        };
+    }
+
+    /**
+     * 分区名
+     *
+     * @param start 周期起始日
+     * @return Partition Name
+     */
+    protected String formatName(@NotNull LocalDate start) {
+        return DateTimeFormatter.ofPattern(namePattern).format(start);
+    }
+
+    /**
+     * 周期起始日
+     *
+     * @param date 日期
+     * @return 所在周期第一天
+     */
+    protected LocalDate truncate(@NotNull LocalDate date) {
+        return switch (unit) {
+            case WEEKS -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHS -> date.withDayOfMonth(1);
+            case YEARS -> date.withDayOfYear(1);
+            default -> date;
+        };
+    }
+
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+
+    public void setUnit(ChronoUnit unit) {
+        if (unit != ChronoUnit.DAYS && unit != ChronoUnit.WEEKS && unit != ChronoUnit.MONTHS && unit != ChronoUnit.YEARS) {
+            throw new IllegalArgumentException("unit must be DAYS, WEEKS, MONTHS or YEARS");
+        }
+
+        this.unit = unit;
+    }
+
+    public int getAhead() {
+        return ahead;
+    }
+
+    public void setAhead(int ahead) {
+        this.ahead = Math.max(0, ahead);
+    }
+
+    public int getRetention() {
+        return retention;
+    }
+
+    public void setRetention(int retention) {
+        this.retention = Math.max(0, retention);
+    }
+
+    public String getNamePattern() {
+        return namePattern;
+    }
+
+    public void setNamePattern(String namePattern) {
+        Objects.requireNonNull(namePattern, "namePattern must not be null");
+        DateTimeFormatter.ofPattern(namePattern);
+
+        this.namePattern = namePattern;
+    }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    public void setZoneId(ZoneId zoneId) {
+        Objects.requireNonNull(zoneId, "zoneId must not be null");
+
+        this.zoneId = zoneId;
+    }
+
+}
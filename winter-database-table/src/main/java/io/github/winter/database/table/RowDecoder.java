@@ -0,0 +1,67 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 行解码，按列序号读取，列序与 SELECT 字段一致
+ * <p>
+ * 指定大字段时，大字段解码为 {@link java.io.Reader} / {@link java.io.InputStream}，须在 next() 前读完
+ *
+ * @author changebooks@qq.com
+ */
+public final class RowDecoder implements Serializable {
+    /**
+     * [ Column Name ] in SELECT order
+     */
+    private final String[] columnNames;
+
+    /**
+     * [ the {@link LobUtils.Kind} instance ] in SELECT order，无大字段为 null
+     */
+    private final LobUtils.Kind[] kinds;
+
+    public RowDecoder(@NotNull List<String> columnNames) {
+        this(columnNames, null);
+    }
+
+    public RowDecoder(@NotNull List<String> columnNames, Map<String, LobUtils.Kind> lobs) {
+        Objects.requireNonNull(columnNames, "columnNames must not be null");
+
+        this.columnNames = columnNames.toArray(new String[0]);
+        this.kinds = LobUtils.readKinds(columnNames, lobs);
+    }
+
+    /**
+     * Decode Row
+     *
+     * @param rs the {@link ResultSet} instance
+     * @return [ Column Name : Value ]
+     * @throws SQLException if the columnIndex is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public Map<String, Object> decode(@NotNull ResultSet rs) throws SQLException {
+        Map<String, Object> result = new LinkedHashMap<>(columnNames.length * 2);
+
+        for (int i = 0; i < columnNames.length; i++) {
+            Object value = kinds != null ? LobUtils.read(rs, i + 1, kinds[i]) : rs.getObject(i + 1);
+            result.put(columnNames[i], value);
+        }
+
+        return result;
+    }
+
+    public int size() {
+        return columnNames.length;
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 行差异
+ *
+ * @author changebooks@qq.com
+ */
+public final class RowDiff implements Serializable {
+    /**
+     * 差异类型
+     */
+    public enum Kind {
+        /**
+         * 目标库缺失
+         */
+        MISSING,
+
+        /**
+         * 目标库多余
+         */
+        EXTRA,
+
+        /**
+         * 内容不同
+         */
+        CHANGED
+    }
+
+    /**
+     * [ Key Value ]
+     */
+    private final List<Object> key;
+
+    /**
+     * 差异类型
+     */
+    private final Kind kind;
+
+    public RowDiff(List<Object> key, Kind kind) {
+        this.key = key;
+        this.kind = kind;
+    }
+
+    public List<Object> getKey() {
+        return key;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + key;
+    }
+
+}
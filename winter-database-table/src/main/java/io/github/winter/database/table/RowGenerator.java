@@ -0,0 +1,709 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * 合成数据，按字段类型、长度、精度、非负、可空生成合法值
+ * <p>
+ * 主键、唯一索引的首个字段按序号生成，保证唯一；TIME、BOOLEAN、ENUM 等取值有限，行数不得超过取值个数；
+ * 其余字段按均匀或 Zipfian 分布生成，可空字段按比例置空；
+ * 自增字段、默认当前时间的字段交由数据库生成
+ *
+ * @author changebooks@qq.com
+ */
+public class RowGenerator {
+    /**
+     * 分布
+     */
+    public enum Distribution {
+        /**
+         * 均匀
+         */
+        UNIFORM,
+
+        /**
+         * Zipfian，少数取值高频
+         */
+        ZIPFIAN
+    }
+
+    /**
+     * 字符表
+     */
+    private static final char[] ALPHABET = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    /**
+     * 日期起点，2000-01-01 00:00:00 UTC，秒
+     */
+    private static final long EPOCH_START = 946684800L;
+
+    /**
+     * 日期跨度，30 年，秒
+     */
+    private static final long EPOCH_SPAN = 30L * 365 * 24 * 3600;
+
+    /**
+     * the {@link Table} instance
+     */
+    private final Table table;
+
+    /**
+     * [ Column Name : Distribution ]，未配置为均匀
+     */
+    private final Map<String, Distribution> distributions = new HashMap<>();
+
+    /**
+     * [ Column Name : Null Fraction ]，未配置取 nullFraction
+     */
+    private final Map<String, Double> nullFractions = new HashMap<>();
+
+    /**
+     * 可空字段的默认置空比例
+     */
+    private double nullFraction = 0.0;
+
+    /**
+     * Zipfian 取值个数
+     */
+    private long zipfianItems = 100_000;
+
+    /**
+     * Zipfian 偏斜
+     */
+    private double zipfianTheta = ZipfianGenerator.DEFAULT_THETA;
+
+    /**
+     * 字符串、二进制的最大长度，TEXT / BLOB 按此截断
+     */
+    private int maxLength = 64;
+
+    /**
+     * [ 字段生成规则 ]，配置变更后重建
+     */
+    private volatile Spec[] specs;
+
+    public RowGenerator(@NotNull Table table) {
+        Objects.requireNonNull(table, "table must not be null");
+
+        this.table = table;
+    }
+
+    /**
+     * 新建工作者，每个线程一个
+     *
+     * @param seed 随机种子
+     * @return the {@link Worker} instance
+     */
+    @NotNull
+    public Worker newWorker(long seed) {
+        return new Worker(getSpecs(), seed, maxLength);
+    }
+
+    /**
+     * 检查唯一字段的取值个数，行数超出时抛出
+     *
+     * @param sequenceStart 起始行序号
+     * @param rows          行数
+     */
+    public void checkUnique(long sequenceStart, long rows) {
+        for (Spec spec : getSpecs()) {
+            if (!spec.unique || spec.domain == Long.MAX_VALUE) {
+                continue;
+            }
+
+            if (sequenceStart < 0 || rows > spec.domain - sequenceStart) {
+                throw new RuntimeException(String.format("unique column has too few values, columnName: %s, values: %d, sequenceStart: %d, rows: %d",
+                        spec.name, spec.domain, sequenceStart, rows));
+            }
+        }
+    }
+
+    /**
+     * [ Column Name ] used for INSERT
+     *
+     * @return [ Column Name ]
+     */
+    @NotNull
+    public List<String> getColumnNames() {
+        return Arrays.stream(getSpecs())
+                .map(x -> x.name)
+                .toList();
+    }
+
+    /**
+     * 字段生成规则
+     *
+     * @return [ Spec ]
+     */
+    private Spec[] getSpecs() {
+        Spec[] result = specs;
+        if (result == null) {
+            synchronized (this) {
+                result = specs;
+                if (result == null) {
+                    result = compile();
+                    specs = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 生成规则
+     *
+     * @return [ Spec ]
+     */
+    private Spec[] compile() {
+        List<Column> columns = table.getColumns();
+        if (columns == null || columns.isEmpty()) {
+            throw new RuntimeException(String.format("columns must not be empty, tableName: %s", table.getName()));
+        }
+
+        Set<String> uniqueColumns = readUniqueColumns();
+        Map<Long, ZipfianGenerator> zipfians = new HashMap<>();
+
+        List<Spec> result = new ArrayList<>();
+        for (Column column : columns) {
+            if (column == null || column.getName() == null) {
+                continue;
+            }
+
+            if (column.isAutoIncrement() || column.isDefaultCurrentDateOnInsert() || column.isGenerated()) {
+                continue;
+            }
+
+            Spec spec = compile(column, uniqueColumns.contains(column.getName().trim().toLowerCase()), zipfians);
+            result.add(spec);
+        }
+
+        return result.toArray(new Spec[0]);
+    }
+
+    /**
+     * 字段生成规则
+     *
+     * @param column   the {@link Column} instance
+     * @param unique   唯一？
+     * @param zipfians [ Items : the {@link ZipfianGenerator} instance ]
+     * @return Spec
+     */
+    private Spec compile(@NotNull Column column, boolean unique, @NotNull Map<Long, ZipfianGenerator> zipfians) {
+        Spec result = new Spec();
+        result.name = column.getName().trim();
+        result.sqlType = column.getType();
+        result.unique = unique;
+        result.nullFraction = column.isNullable() && !unique ? nullFractions.getOrDefault(result.name, nullFraction) : 0;
+        result.kind = readKind(column);
+
+        String typeName = column.getTypeName() != null ? column.getTypeName().trim().toUpperCase() : "";
+        int size = column.getSize();
+
+        switch (result.kind) {
+            case INTEGER -> setIntegerRange(result, typeName, column.isUnsigned());
+            case DECIMAL -> {
+                result.scale = Math.max(0, column.getScale());
+                int digits = Math.min(18, Math.max(1, size - result.scale));
+                result.min = column.isUnsigned() ? 0 : -(pow10(digits) - 1);
+                result.max = pow10(digits) - 1;
+            }
+            case STRING, BYTES -> result.length = Math.max(1, Math.min(size > 0 ? size : maxLength, maxLength));
+            case CONSTANT -> result.constant = column.getDefaultString();
+            default -> {
+            }
+        }
+
+        if (result.kind == Kind.NULL && !column.isNullable()) {
+            throw new RuntimeException(String.format("unsupported column, typeName: %s, columnName: %s", typeName, result.name));
+        }
+
+        if (unique) {
+            result.domain = switch (result.kind) {
+                case INTEGER, DECIMAL -> span(result.min, result.max);
+                case STRING, BYTES -> pow36(result.length);
+                case TIME -> 86400;
+                case BOOLEAN -> 2;
+                case CONSTANT -> 1;
+                default -> Long.MAX_VALUE;
+            };
+        }
+
+        if (!unique && distributions.getOrDefault(result.name, Distribution.UNIFORM) == Distribution.ZIPFIAN) {
+            long items = zipfianItems;
+            if (result.kind == Kind.INTEGER || result.kind == Kind.DECIMAL) {
+                items = Math.min(items, span(result.min, result.max));
+            }
+
+            result.zipfian = zipfians.computeIfAbsent(items, x -> new ZipfianGenerator(x, zipfianTheta));
+        }
+
+        return result;
+    }
+
+    /**
+     * 值类别
+     *
+     * @param column the {@link Column} instance
+     * @return Kind
+     */
+    private Kind readKind(@NotNull Column column) {
+        String typeName = column.getTypeName() != null ? column.getTypeName().trim().toUpperCase() : "";
+        if (typeName.equals("YEAR")) {
+            return Kind.INTEGER;
+        }
+
+        if (typeName.equals("ENUM") || typeName.equals("SET")) {
+            return column.getDefaultString() != null ? Kind.CONSTANT : Kind.NULL;
+        }
+
+        return switch (column.getType()) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> Kind.INTEGER;
+            case Types.DECIMAL, Types.NUMERIC -> Kind.DECIMAL;
+            case Types.FLOAT, Types.REAL, Types.DOUBLE -> Kind.DOUBLE;
+            case Types.CHAR, Types.NCHAR, Types.VARCHAR, Types.NVARCHAR,
+                 Types.LONGVARCHAR, Types.LONGNVARCHAR, Types.CLOB, Types.NCLOB -> Kind.STRING;
+            case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB -> Kind.BYTES;
+            case Types.DATE -> Kind.DATE;
+            case Types.TIME, Types.TIME_WITH_TIMEZONE -> Kind.TIME;
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> Kind.TIMESTAMP;
+            case Types.BIT, Types.BOOLEAN -> Kind.BOOLEAN;
+            default -> column.getDefaultString() != null ? Kind.CONSTANT : Kind.NULL;
+        };
+    }
+
+    /**
+     * 唯一字段，主键及唯一索引各取首个字段，含自增字段的索引无需生成
+     *
+     * @return [ lower case Column Name ]
+     */
+    private Set<String> readUniqueColumns() {
+        List<List<String>> keys = new ArrayList<>();
+
+        List<String> primaryKey = table.getPrimaryKey();
+        if (primaryKey != null) {
+            keys.add(primaryKey);
+        }
+
+        Map<String, List<String>> uniqueKeys = table.getUniqueKeys();
+        if (uniqueKeys != null) {
+            keys.addAll(uniqueKeys.values());
+        }
+
+        Set<String> autoIncrement = new HashSet<>();
+        for (Column column : table.getColumns()) {
+            if (column != null && column.getName() != null && column.isAutoIncrement()) {
+                autoIncrement.add(column.getName().trim().toLowerCase());
+            }
+        }
+
+        Set<String> result = new HashSet<>();
+        for (List<String> key : keys) {
+            if (key == null) {
+                continue;
+            }
+
+            List<String> columnNames = key.stream()
+                    .filter(Objects::nonNull)
+                    .map(x -> x.trim().toLowerCase())
+                    .filter(Predicate.not(String::isEmpty))
+                    .toList();
+            if (columnNames.isEmpty() || columnNames.stream().anyMatch(autoIncrement::contains)) {
+                continue;
+            }
+
+            result.add(columnNames.get(0));
+        }
+
+        return result;
+    }
+
+    /**
+     * 整数取值范围
+     *
+     * @param spec     Spec
+     * @param typeName Type Name
+     * @param unsigned 非负？
+     */
+    private static void setIntegerRange(@NotNull Spec spec, @NotNull String typeName, boolean unsigned) {
+        switch (typeName) {
+            case "TINYINT" -> {
+                spec.min = unsigned ? 0 : Byte.MIN_VALUE;
+                spec.max = unsigned ? 255 : Byte.MAX_VALUE;
+            }
+            case "SMALLINT" -> {
+                spec.min = unsigned ? 0 : Short.MIN_VALUE;
+                spec.max = unsigned ? 65535 : Short.MAX_VALUE;
+            }
+            case "MEDIUMINT" -> {
+                spec.min = unsigned ? 0 : -8388608;
+                spec.max = unsigned ? 16777215 : 8388607;
+            }
+            case "INT", "INTEGER" -> {
+                spec.min = unsigned ? 0 : Integer.MIN_VALUE;
+                spec.max = unsigned ? 4294967295L : Integer.MAX_VALUE;
+            }
+            case "YEAR" -> {
+                spec.min = 1901;
+                spec.max = 2155;
+            }
+            default -> {
+                spec.min = unsigned ? 0 : Long.MIN_VALUE;
+                spec.max = Long.MAX_VALUE;
+            }
+        }
+    }
+
+    private static long pow10(int n) {
+        long result = 1;
+        for (int i = 0; i < n; i++) {
+            result *= 10;
+        }
+
+        return result;
+    }
+
+    /**
+     * 取值个数，max - min + 1，溢出时取 Long.MAX_VALUE
+     */
+    private static long span(long min, long max) {
+        long result = max - min;
+        return result < 0 || result == Long.MAX_VALUE ? Long.MAX_VALUE : result + 1;
+    }
+
+    /**
+     * 不超过 n 位的 36 进制串个数，36 ^ n，溢出时取 Long.MAX_VALUE
+     */
+    private static long pow36(int n) {
+        long result = 1;
+        for (int i = 0; i < n; i++) {
+            if (result > Long.MAX_VALUE / 36) {
+                return Long.MAX_VALUE;
+            }
+
+            result *= 36;
+        }
+
+        return result;
+    }
+
+    @NotNull
+    public Table getTable() {
+        return table;
+    }
+
+    /**
+     * 字段分布
+     *
+     * @param columnName   Column Name
+     * @param distribution the {@link Distribution} instance
+     */
+    public void setDistribution(@NotNull String columnName, @NotNull Distribution distribution) {
+        distributions.put(columnName.trim(), distribution);
+        specs = null;
+    }
+
+    /**
+     * 字段置空比例
+     *
+     * @param columnName   Column Name
+     * @param nullFraction 0 ~ 1
+     */
+    public void setNullFraction(@NotNull String columnName, double nullFraction) {
+        nullFractions.put(columnName.trim(), nullFraction);
+        specs = null;
+    }
+
+    public double getNullFraction() {
+        return nullFraction;
+    }
+
+    public void setNullFraction(double nullFraction) {
+        this.nullFraction = nullFraction;
+        specs = null;
+    }
+
+    public long getZipfianItems() {
+        return zipfianItems;
+    }
+
+    public void setZipfianItems(long zipfianItems) {
+        this.zipfianItems = zipfianItems;
+        specs = null;
+    }
+
+    public double getZipfianTheta() {
+        return zipfianTheta;
+    }
+
+    public void setZipfianTheta(double zipfianTheta) {
+        this.zipfianTheta = zipfianTheta;
+        specs = null;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    public void setMaxLength(int maxLength) {
+        this.maxLength = maxLength;
+        specs = null;
+    }
+
+    /**
+     * 值类别
+     */
+    private enum Kind {
+        INTEGER, DECIMAL, DOUBLE, STRING, BYTES, DATE, TIME, TIMESTAMP, BOOLEAN, CONSTANT, NULL
+    }
+
+    /**
+     * 字段生成规则
+     */
+    private static final class Spec {
+        private String name;
+        private int sqlType;
+        private Kind kind;
+        private boolean unique;
+        private double nullFraction;
+        private long min;
+        private long max;
+        private int scale;
+        private int length;
+        private long domain = Long.MAX_VALUE;
+        private String constant;
+        private ZipfianGenerator zipfian;
+    }
+
+    /**
+     * 工作者，非线程安全，复用随机数与字符缓冲
+     */
+    public static final class Worker {
+        private final Spec[] specs;
+        private final SplittableRandom random;
+        private final char[] chars;
+
+        private Worker(Spec[] specs, long seed, int maxLength) {
+            this.specs = specs;
+            this.random = new SplittableRandom(seed);
+            this.chars = new char[Math.max(16, maxLength)];
+        }
+
+        /**
+         * 绑定一行
+         *
+         * @param stat     the {@link PreparedStatement} instance
+         * @param index    first parameter index
+         * @param sequence 行序号，唯一字段据此生成
+         * @return next parameter index
+         * @throws SQLException if a database access error occurs
+         */
+        public int bind(@NotNull PreparedStatement stat, int index, long sequence) throws SQLException {
+            for (Spec spec : specs) {
+                if (spec.nullFraction > 0 && random.nextDouble() < spec.nullFraction) {
+                    stat.setNull(index++, spec.sqlType);
+                    continue;
+                }
+
+                switch (spec.kind) {
+                    case INTEGER -> stat.setLong(index, nextLong(spec, sequence));
+                    case DECIMAL -> stat.setBigDecimal(index, BigDecimal.valueOf(nextLong(spec, sequence), spec.scale));
+                    case DOUBLE -> stat.setDouble(index, nextDouble(spec, sequence));
+                    case STRING -> stat.setString(index, nextString(spec, sequence));
+                    case BYTES -> stat.setBytes(index, nextString(spec, sequence).getBytes(StandardCharsets.US_ASCII));
+                    case DATE -> stat.setDate(index, new Date(nextEpochSecond(spec, sequence) * 1000));
+                    case TIME -> stat.setTime(index, new Time(nextEpochSecond(spec, sequence) % 86400 * 1000));
+                    case TIMESTAMP -> stat.setTimestamp(index, new Timestamp(nextEpochSecond(spec, sequence) * 1000));
+                    case BOOLEAN -> stat.setBoolean(index, nextBoolean(spec, sequence));
+                    case CONSTANT -> stat.setString(index, nextConstant(spec, sequence));
+                    default -> stat.setNull(index, spec.sqlType);
+                }
+
+                index++;
+            }
+
+            return index;
+        }
+
+        /**
+         * 追加一行，制表符分隔，NULL 为 \N，可用于 LOAD DATA INFILE
+         *
+         * @param out      the {@link StringBuilder} instance
+         * @param sequence 行序号，唯一字段据此生成
+         */
+        public void append(@NotNull StringBuilder out, long sequence) {
+            for (int i = 0; i < specs.length; i++) {
+                Spec spec = specs[i];
+                if (i > 0) {
+                    out.append('\t');
+                }
+
+                if (spec.nullFraction > 0 && random.nextDouble() < spec.nullFraction) {
+                    out.append("\\N");
+                    continue;
+                }
+
+                switch (spec.kind) {
+                    case INTEGER -> out.append(nextLong(spec, sequence));
+                    case DECIMAL -> out.append(BigDecimal.valueOf(nextLong(spec, sequence), spec.scale).toPlainString());
+                    case DOUBLE -> out.append(nextDouble(spec, sequence));
+                    case STRING, BYTES -> appendString(out, spec, sequence);
+                    case DATE -> out.append(toDateTime(nextEpochSecond(spec, sequence)).toLocalDate());
+                    case TIME -> out.append(toDateTime(nextEpochSecond(spec, sequence)).toLocalTime());
+                    case TIMESTAMP -> {
+                        LocalDateTime dateTime = toDateTime(nextEpochSecond(spec, sequence));
+                        out.append(dateTime.toLocalDate()).append(' ').append(dateTime.toLocalTime());
+                    }
+                    case BOOLEAN -> out.append(nextBoolean(spec, sequence) ? '1' : '0');
+                    case CONSTANT -> out.append(nextConstant(spec, sequence));
+                    default -> out.append("\\N");
+                }
+            }
+
+            out.append('\n');
+        }
+
+        private long nextLong(Spec spec, long sequence) {
+            if (spec.unique) {
+                // 跨零时先取 0 .. max，再取 -1 .. min
+                long value = spec.min <= 0 && spec.max > 0 ? (sequence <= spec.max ? sequence : spec.max - sequence) : spec.min + sequence;
+                if (value > spec.max || value < spec.min) {
+                    throw new RuntimeException(String.format("unique values exhausted, columnName: %s, sequence: %d", spec.name, sequence));
+                }
+
+                return value;
+            }
+
+            if (spec.zipfian != null) {
+                long rank = spec.zipfian.next(random.nextDouble());
+                return spec.min <= 0 && spec.max > 0 ? rank : spec.min + rank;
+            }
+
+            if (spec.min == Long.MIN_VALUE && spec.max == Long.MAX_VALUE) {
+                return random.nextLong();
+            }
+
+            if (spec.max == Long.MAX_VALUE) {
+                return random.nextLong(spec.min, spec.max);
+            }
+
+            return random.nextLong(spec.min, spec.max + 1);
+        }
+
+        private double nextDouble(Spec spec, long sequence) {
+            if (spec.unique) {
+                return sequence;
+            }
+
+            if (spec.zipfian != null) {
+                return spec.zipfian.next(random.nextDouble());
+            }
+
+            return random.nextDouble() * 1_000_000;
+        }
+
+        private boolean nextBoolean(Spec spec, long sequence) {
+            if (spec.unique) {
+                checkDomain(spec, sequence);
+                return sequence == 1;
+            }
+
+            return random.nextBoolean();
+        }
+
+        private String nextConstant(Spec spec, long sequence) {
+            if (spec.unique) {
+                checkDomain(spec, sequence);
+            }
+
+            return spec.constant;
+        }
+
+        private long nextEpochSecond(Spec spec, long sequence) {
+            if (spec.unique) {
+                if (spec.kind == Kind.TIME) {
+                    checkDomain(spec, sequence);
+                }
+
+                return EPOCH_START + (spec.kind == Kind.DATE ? sequence * 86400 : sequence);
+            }
+
+            if (spec.zipfian != null) {
+                return EPOCH_START + spec.zipfian.next(random.nextDouble()) * 86400 % EPOCH_SPAN;
+            }
+
+            return EPOCH_START + random.nextLong(EPOCH_SPAN);
+        }
+
+        private String nextString(Spec spec, long sequence) {
+            int length = fillChars(spec, sequence);
+            return new String(chars, 0, length);
+        }
+
+        private void appendString(StringBuilder out, Spec spec, long sequence) {
+            int length = fillChars(spec, sequence);
+            out.append(chars, 0, length);
+        }
+
+        /**
+         * 填充字符缓冲，唯一字段取序号的 36 进制，Zipfian 取排名的 36 进制
+         *
+         * @return 长度
+         */
+        private int fillChars(Spec spec, long sequence) {
+            if (spec.unique) {
+                return fillBase36(spec, sequence);
+            }
+
+            if (spec.zipfian != null) {
+                return fillBase36(spec, spec.zipfian.next(random.nextDouble()));
+            }
+
+            int length = 1 + random.nextInt(spec.length);
+            for (int i = 0; i < length; i++) {
+                chars[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+            }
+
+            return length;
+        }
+
+        private int fillBase36(Spec spec, long value) {
+            int length = 0;
+            long rest = value;
+            do {
+                chars[length++] = ALPHABET[(int) (rest % 36)];
+                rest /= 36;
+            } while (rest > 0 && length < chars.length);
+
+            if (rest > 0 || length > spec.length) {
+                throw new RuntimeException(String.format("unique values exhausted, columnName: %s, value: %d", spec.name, value));
+            }
+
+            return length;
+        }
+
+        /**
+         * 唯一字段的取值有限，TIME 一天内的秒数、BOOLEAN 两个、常量一个；整数、字符串由取值本身检查
+         */
+        private static void checkDomain(Spec spec, long sequence) {
+            if (sequence < 0 || sequence >= spec.domain) {
+                throw new RuntimeException(String.format("unique values exhausted, columnName: %s, sequence: %d", spec.name, sequence));
+            }
+        }
+
+        private static LocalDateTime toDateTime(long epochSecond) {
+            return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        }
+
+    }
+
+}
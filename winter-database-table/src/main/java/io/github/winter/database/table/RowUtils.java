@@ -0,0 +1,43 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 行
+ *
+ * @author changebooks@qq.com
+ */
+public final class RowUtils {
+
+    private RowUtils() {
+    }
+
+    /**
+     * Read Row
+     *
+     * @param rs          the {@link ResultSet} instance
+     * @param columnNames [ Column Name ]
+     * @return [ Column Name : Value ]
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static Map<String, Object> read(@NotNull ResultSet rs, @NotNull List<String> columnNames) throws SQLException {
+        Map<String, Object> result = new LinkedHashMap<>(columnNames.size() * 2);
+
+        for (String columnName : columnNames) {
+            Object value = rs.getObject(columnName);
+            result.put(columnName, value);
+        }
+
+        return result;
+    }
+
+}
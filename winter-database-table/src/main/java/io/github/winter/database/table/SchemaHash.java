@@ -0,0 +1,346 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * 表结构哈希，64 位
+ * <p>
+ * 一次遍历字段、类型、默认值、标志、索引、表选项及分区，按名称排序集合与映射，
+ * 结构相同即哈希相同，与读取顺序、大小写写法无关；
+ * 不含 AUTO_INCREMENT、统计信息及 Value Type 等非结构信息
+ * <p>
+ * {@link TableSchema} 读取时计算并缓存，比较为 O(1)；{@link Table} 可变，每次计算
+ *
+ * @author changebooks@qq.com
+ */
+public final class SchemaHash {
+    /**
+     * FNV-1a offset basis
+     */
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    /**
+     * FNV-1a prime
+     */
+    private static final long PRIME = 0x100000001b3L;
+
+    private SchemaHash() {
+    }
+
+    /**
+     * 表结构哈希
+     *
+     * @param table the {@link Table} instance
+     * @return 64 位哈希
+     */
+    public static long hash(@NotNull Table table) {
+        Objects.requireNonNull(table, "table must not be null");
+
+        Hasher hasher = new Hasher();
+        hasher.putString(table.getName());
+        hasher.putString(table.getRemark());
+        hasher.putUpper(table.getEngine());
+        hasher.putUpper(table.getCharset());
+        hasher.putUpper(table.getCollate());
+        putOptions(hasher, table.getOptions());
+
+        List<Column> columns = table.getColumns();
+        hasher.putInt(columns != null ? columns.size() : 0);
+        if (columns != null) {
+            for (Column column : columns) {
+                putColumn(hasher, column);
+            }
+        }
+
+        hasher.putStrings(table.getPrimaryKey());
+        putKeys(hasher, table.getUniqueKeys());
+        putKeys(hasher, table.getKeys());
+        putKeyOptions(hasher, table.getKeyOptions());
+        putPartitioning(hasher, table.getPartitioning());
+        return hasher.finish();
+    }
+
+    /**
+     * 字段哈希
+     *
+     * @param column the {@link Column} instance
+     * @return 64 位哈希
+     */
+    public static long hash(@NotNull Column column) {
+        Objects.requireNonNull(column, "column must not be null");
+
+        Hasher hasher = new Hasher();
+        putColumn(hasher, column);
+        return hasher.finish();
+    }
+
+    /**
+     * 十六进制，16 位定长
+     *
+     * @param hash 64 位哈希
+     * @return Hex
+     */
+    public static String toHex(long hash) {
+        return String.format("%016x", hash);
+    }
+
+    private static void putColumn(@NotNull Hasher hasher, Column column) {
+        if (column == null) {
+            hasher.putNull();
+            return;
+        }
+
+        hasher.putString(column.getName());
+        hasher.putString(column.getRemark());
+        hasher.putInt(column.getType());
+        hasher.putUpper(column.getTypeName());
+        hasher.putInt(column.getSize());
+        hasher.putInt(column.getScale());
+        hasher.putString(column.getDefaultString());
+        hasher.putLong(column.getDefaultInteger());
+        hasher.putLong(column.getDefaultLong());
+        hasher.putDecimal(column.getDefaultBigDecimal());
+        hasher.putLong(column.getDefaultDate() != null ? column.getDefaultDate().getTime() : null);
+        hasher.putBoolean(column.isDefaultCurrentDateOnInsert());
+        hasher.putBoolean(column.isDefaultCurrentDateOnUpdate());
+        hasher.putBoolean(column.isNullable());
+        hasher.putBoolean(column.isUnsigned());
+        hasher.putBoolean(column.isId());
+        hasher.putBoolean(column.isAutoIncrement());
+        hasher.putString(column.getGenerationExpression());
+        hasher.putBoolean(column.isGeneratedStored());
+    }
+
+    /**
+     * [ Key Name : [ Column Name ] ]，按索引名排序
+     */
+    private static void putKeys(@NotNull Hasher hasher, Map<String, List<String>> keys) {
+        if (keys == null || keys.isEmpty()) {
+            hasher.putInt(0);
+            return;
+        }
+
+        hasher.putInt(keys.size());
+        for (Map.Entry<String, List<String>> entry : new TreeMap<>(keys).entrySet()) {
+            hasher.putString(entry.getKey());
+            hasher.putStrings(entry.getValue());
+        }
+    }
+
+    /**
+     * [ Key Name : the {@link Key} instance ]，按索引名排序，类型缺省为 BTREE
+     */
+    private static void putKeyOptions(@NotNull Hasher hasher, Map<String, Key> keyOptions) {
+        if (keyOptions == null || keyOptions.isEmpty()) {
+            hasher.putInt(0);
+            return;
+        }
+
+        hasher.putInt(keyOptions.size());
+        for (Map.Entry<String, Key> entry : new TreeMap<>(keyOptions).entrySet()) {
+            Key key = entry.getValue();
+            hasher.putString(entry.getKey());
+            if (key == null) {
+                hasher.putNull();
+                continue;
+            }
+
+            hasher.putStrings(key.getColumnNames());
+            hasher.putBoolean(key.isPrimary());
+            hasher.putBoolean(key.isUnique());
+            hasher.putString((key.getType() != null ? key.getType() : Key.Type.BTREE).name());
+            hasher.putBoolean(key.isInvisible());
+
+            Map<String, Integer> subParts = new TreeMap<>(key.getSubParts());
+            hasher.putInt(subParts.size());
+            subParts.forEach((columnName, subPart) -> {
+                hasher.putString(columnName);
+                hasher.putLong(subPart);
+            });
+
+            hasher.putStrings(new ArrayList<>(new TreeSet<>(key.getDescColumnNames())));
+        }
+    }
+
+    /**
+     * 表选项，与 {@link TableDiffer} 相同的规整：名称大写、去除空值，按名称排序
+     */
+    private static void putOptions(@NotNull Hasher hasher, Map<String, String> options) {
+        Map<String, String> normalized = new TreeMap<>();
+        if (options != null) {
+            for (Map.Entry<String, String> entry : options.entrySet()) {
+                if (AppendUtils.isBlank(entry.getKey()) || AppendUtils.isBlank(entry.getValue())) {
+                    continue;
+                }
+
+                normalized.put(entry.getKey().trim().toUpperCase(), entry.getValue().trim());
+            }
+        }
+
+        hasher.putInt(normalized.size());
+        normalized.forEach((name, value) -> {
+            hasher.putString(name);
+            hasher.putString(value);
+        });
+    }
+
+    /**
+     * 分区，按分区顺序
+     */
+    private static void putPartitioning(@NotNull Hasher hasher, Partitioning partitioning) {
+        if (partitioning == null) {
+            hasher.putNull();
+            return;
+        }
+
+        hasher.putUpper(partitioning.getMethod());
+        hasher.putString(partitioning.getExpression());
+
+        List<Partition> partitions = partitioning.getPartitions();
+        hasher.putInt(partitions.size());
+        for (Partition partition : partitions) {
+            if (partition == null) {
+                hasher.putNull();
+                continue;
+            }
+
+            hasher.putString(partition.getName());
+            hasher.putString(partition.getDescription());
+            hasher.putString(partition.getRemark());
+        }
+    }
+
+    /**
+     * FNV-1a，每个值带类型标记及长度，避免拼接歧义；结束时 fmix64 打散
+     */
+    private static final class Hasher {
+        /**
+         * 标记，null
+         */
+        private static final int NULL = 0;
+
+        /**
+         * 标记，字符串
+         */
+        private static final int STRING = 1;
+
+        /**
+         * 标记，数值
+         */
+        private static final int NUMBER = 2;
+
+        /**
+         * 标记，true
+         */
+        private static final int TRUE = 3;
+
+        /**
+         * 标记，false
+         */
+        private static final int FALSE = 4;
+
+        /**
+         * 标记，列表
+         */
+        private static final int LIST = 5;
+
+        /**
+         * 当前哈希
+         */
+        private long hash = OFFSET_BASIS;
+
+        void putNull() {
+            putByte(NULL);
+        }
+
+        void putBoolean(boolean value) {
+            putByte(value ? TRUE : FALSE);
+        }
+
+        void putInt(int value) {
+            putByte(NUMBER);
+            putRaw(value);
+        }
+
+        void putLong(Number value) {
+            if (value == null) {
+                putNull();
+                return;
+            }
+
+            putByte(NUMBER);
+            long bits = value.longValue();
+            putRaw((int) (bits >>> 32));
+            putRaw((int) bits);
+        }
+
+        /**
+         * 按数值，0.00 与 0 相同
+         */
+        void putDecimal(BigDecimal value) {
+            putString(value != null ? value.stripTrailingZeros().toPlainString() : null);
+        }
+
+        void putString(String value) {
+            if (value == null) {
+                putNull();
+                return;
+            }
+
+            putByte(STRING);
+            putRaw(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                putByte(c >>> 8);
+                putByte(c & 0xFF);
+            }
+        }
+
+        /**
+         * 大小写无关，如类型名、引擎
+         */
+        void putUpper(String value) {
+            putString(value != null ? value.trim().toUpperCase(Locale.ROOT) : null);
+        }
+
+        /**
+         * 按顺序，null 与空列表相同
+         */
+        void putStrings(List<String> values) {
+            putByte(LIST);
+            putRaw(values != null ? values.size() : 0);
+            if (values != null) {
+                for (String value : values) {
+                    putString(value);
+                }
+            }
+        }
+
+        long finish() {
+            long h = hash;
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+
+        private void putRaw(int value) {
+            putByte(value >>> 24);
+            putByte((value >>> 16) & 0xFF);
+            putByte((value >>> 8) & 0xFF);
+            putByte(value & 0xFF);
+        }
+
+        private void putByte(int b) {
+            hash ^= b & 0xFF;
+            hash *= PRIME;
+        }
+
+    }
+
+}
@@ -0,0 +1,181 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 行大小、索引大小预估
+ *
+ * @author changebooks@qq.com
+ */
+public final class SizeEstimate implements Serializable {
+    /**
+     * 表名
+     */
+    private String tableName;
+
+    /**
+     * 最大行长，字节，与 MySQL 行长上限 65535 比较，大字段计指针及长度
+     */
+    private long maxRowBytes;
+
+    /**
+     * MySQL 行长上限
+     */
+    private long rowSizeLimit = 65535;
+
+    /**
+     * 页内最大行长，字节，长变长字段计溢出指针，与 InnoDB 行长上限比较
+     */
+    private long maxInPageRowBytes;
+
+    /**
+     * InnoDB 行长上限，约半页
+     */
+    private long innodbRowSizeLimit;
+
+    /**
+     * 平均行长，字节，含记录头及隐藏字段
+     */
+    private long avgRowBytes;
+
+    /**
+     * 实测平均行长，AVG_ROW_LENGTH，未读取为 -1
+     */
+    private long measuredAvgRowBytes = -1;
+
+    /**
+     * 校准系数，实测 / 预估，未校准为 1
+     */
+    private double calibration = 1.0;
+
+    /**
+     * 聚簇索引每百万行占用，字节，已校准
+     */
+    private long bytesPerMillionRows;
+
+    /**
+     * [ the {@link KeySize} instance ]，主键在前
+     */
+    private List<KeySize> keys = new ArrayList<>();
+
+    /**
+     * 超出 MySQL 行长上限？
+     *
+     * @return Exceeds ?
+     */
+    public boolean isExceedsRowSizeLimit() {
+        return maxRowBytes > rowSizeLimit;
+    }
+
+    /**
+     * 超出 InnoDB 行长上限？
+     *
+     * @return Exceeds ?
+     */
+    public boolean isExceedsInnodbRowSizeLimit() {
+        return innodbRowSizeLimit > 0 && maxInPageRowBytes > innodbRowSizeLimit;
+    }
+
+    /**
+     * 每百万行总占用，字节，聚簇索引 + 二级索引
+     *
+     * @return Bytes
+     */
+    public long getTotalBytesPerMillionRows() {
+        long result = bytesPerMillionRows;
+        for (KeySize key : getKeys()) {
+            if (!"PRIMARY".equals(key.getName())) {
+                result += key.getBytesPerMillionRows();
+            }
+        }
+
+        return result;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public long getMaxRowBytes() {
+        return maxRowBytes;
+    }
+
+    public void setMaxRowBytes(long maxRowBytes) {
+        this.maxRowBytes = maxRowBytes;
+    }
+
+    public long getRowSizeLimit() {
+        return rowSizeLimit;
+    }
+
+    public void setRowSizeLimit(long rowSizeLimit) {
+        this.rowSizeLimit = rowSizeLimit;
+    }
+
+    public long getMaxInPageRowBytes() {
+        return maxInPageRowBytes;
+    }
+
+    public void setMaxInPageRowBytes(long maxInPageRowBytes) {
+        this.maxInPageRowBytes = maxInPageRowBytes;
+    }
+
+    public long getInnodbRowSizeLimit() {
+        return innodbRowSizeLimit;
+    }
+
+    public void setInnodbRowSizeLimit(long innodbRowSizeLimit) {
+        this.innodbRowSizeLimit = innodbRowSizeLimit;
+    }
+
+    public long getAvgRowBytes() {
+        return avgRowBytes;
+    }
+
+    public void setAvgRowBytes(long avgRowBytes) {
+        this.avgRowBytes = avgRowBytes;
+    }
+
+    public long getMeasuredAvgRowBytes() {
+        return measuredAvgRowBytes;
+    }
+
+    public void setMeasuredAvgRowBytes(long measuredAvgRowBytes) {
+        this.measuredAvgRowBytes = measuredAvgRowBytes;
+    }
+
+    public double getCalibration() {
+        return calibration;
+    }
+
+    public void setCalibration(double calibration) {
+        this.calibration = calibration;
+    }
+
+    public long getBytesPerMillionRows() {
+        return bytesPerMillionRows;
+    }
+
+    public void setBytesPerMillionRows(long bytesPerMillionRows) {
+        this.bytesPerMillionRows = bytesPerMillionRows;
+    }
+
+    public List<KeySize> getKeys() {
+        if (keys == null) {
+            keys = new ArrayList<>();
+        }
+
+        return keys;
+    }
+
+    public void setKeys(List<KeySize> keys) {
+        this.keys = keys;
+    }
+
+}
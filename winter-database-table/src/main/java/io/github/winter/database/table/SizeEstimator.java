@@ -0,0 +1,495 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * 行大小、索引大小预估，按字段类型、长度及表字符集计算，适用 InnoDB DYNAMIC 行格式
+ * <p>
+ * 最大行长与 MySQL 行长上限比较，页内最大行长与 InnoDB 约半页的上限比较，
+ * 索引键长度与索引键长度上限比较；平均值按变长字段填充率及大字段平均长度估算，
+ * 可按 AVG_ROW_LENGTH 校准
+ *
+ * @author changebooks@qq.com
+ */
+public class SizeEstimator {
+    /**
+     * 记录头，字节
+     */
+    private static final int RECORD_HEADER = 5;
+
+    /**
+     * 隐藏字段 DB_TRX_ID + DB_ROLL_PTR，字节
+     */
+    private static final int HIDDEN_COLUMNS = 13;
+
+    /**
+     * 隐藏主键 DB_ROW_ID，字节
+     */
+    private static final int HIDDEN_ROW_ID = 6;
+
+    /**
+     * 页内保存的变长字段上限，字节，超出可溢出；
+     * 可溢出的字段，值不超过上限时仍留在页内，页内最多计 INLINE_LIMIT + 1 字节
+     */
+    private static final int INLINE_LIMIT = 40;
+
+    /**
+     * 页大小，字节
+     */
+    private int pageSize = 16384;
+
+    /**
+     * 页填充率
+     */
+    private double fillFactor = 15.0 / 16;
+
+    /**
+     * 字符平均字节数，不超过字符集最大字节数
+     */
+    private double averageCharBytes = 1.0;
+
+    /**
+     * 变长字段平均填充率，0 ~ 1
+     */
+    private double variableFill = 0.5;
+
+    /**
+     * 大字段平均长度，字节
+     */
+    private long lobAverageBytes = 256;
+
+    /**
+     * 预估，按 AVG_ROW_LENGTH 校准
+     *
+     * @param conn  the {@link Connection} instance
+     * @param table the {@link Table} instance
+     * @return the {@link SizeEstimate} instance
+     * @throws SQLException if a database access error occurs
+     */
+    public SizeEstimate estimate(@NotNull Connection conn, @NotNull Table table) throws SQLException {
+        SizeEstimate result = estimate(table);
+
+        Long avgRowLength = TableUtils.readAvgRowLength(conn, table.getName());
+        Long tableRows = TableUtils.readTableRows(conn, table.getName());
+        if (avgRowLength == null || avgRowLength <= 0 || tableRows == null || tableRows <= 0) {
+            return result;
+        }
+
+        result.setMeasuredAvgRowBytes(avgRowLength);
+        if (result.getAvgRowBytes() > 0) {
+            double calibration = (double) avgRowLength / result.getAvgRowBytes();
+            result.setCalibration(calibration);
+            result.setBytesPerMillionRows(perMillionRows(result.getAvgRowBytes() * calibration));
+
+            for (KeySize key : result.getKeys()) {
+                if ("PRIMARY".equals(key.getName())) {
+                    key.setBytesPerMillionRows(result.getBytesPerMillionRows());
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 预估
+     *
+     * @param table the {@link Table} instance
+     * @return the {@link SizeEstimate} instance
+     */
+    public SizeEstimate estimate(@NotNull Table table) {
+        Objects.requireNonNull(table, "table must not be null");
+
+        int charsetBytes = CharsetUtils.readMaxBytes(table.getCharset());
+
+        // [ 小写字段名 : 字段大小 ]
+        Map<String, ColumnSize> sizes = new LinkedHashMap<>();
+        // VIRTUAL 生成列不占行内空间，仅在索引中存储
+        Set<String> virtualColumns = new HashSet<>();
+        List<Column> columns = table.getColumns();
+        if (columns != null) {
+            for (Column column : columns) {
+                if (column != null && column.getName() != null) {
+                    String name = column.getName().trim().toLowerCase();
+                    sizes.put(name, readColumnSize(column, charsetBytes));
+                    if (column.isGenerated() && !column.isGeneratedStored()) {
+                        virtualColumns.add(name);
+                    }
+                }
+            }
+        }
+
+        List<String> primaryKey = normalize(table.getPrimaryKey());
+
+        long maxBytes = 0;
+        long inPageBytes = 0;
+        double avgBytes = 0;
+        int nullable = 0;
+        for (Map.Entry<String, ColumnSize> entry : sizes.entrySet()) {
+            if (virtualColumns.contains(entry.getKey())) {
+                continue;
+            }
+
+            ColumnSize size = entry.getValue();
+            maxBytes += size.maxBytes;
+            inPageBytes += size.inPageBytes;
+            avgBytes += size.avgBytes;
+            nullable += size.nullable ? 1 : 0;
+        }
+
+        long nullBytes = (nullable + 7) / 8;
+        long overhead = RECORD_HEADER + nullBytes + HIDDEN_COLUMNS + (primaryKey.isEmpty() ? HIDDEN_ROW_ID : 0);
+
+        SizeEstimate result = new SizeEstimate();
+        result.setTableName(table.getName());
+        result.setMaxRowBytes(maxBytes + nullBytes);
+        result.setMaxInPageRowBytes(inPageBytes + overhead);
+        result.setInnodbRowSizeLimit(pageSize <= 16384 ? pageSize / 2 - 66 : 16318);
+        result.setAvgRowBytes(Math.round(avgBytes + overhead));
+        result.setBytesPerMillionRows(perMillionRows(result.getAvgRowBytes()));
+
+        long keyLengthLimit = pageSize * 3L / 16;
+
+        KeySize primary = new KeySize();
+        primary.setName("PRIMARY");
+        Map<String, Key> options = table.getKeyOptions();
+        primary.setKeyLength(sumKeyBytes(primaryKey, applySubParts(sizes, KeyUtils.findOption(options, "PRIMARY"), charsetBytes)));
+        primary.setExceedsLimit(primary.getKeyLength() > keyLengthLimit);
+        primary.setMaxEntryBytes(result.getMaxInPageRowBytes());
+        primary.setAvgEntryBytes(result.getAvgRowBytes());
+        primary.setBytesPerMillionRows(result.getBytesPerMillionRows());
+        result.getKeys().add(primary);
+
+        for (Map<String, List<String>> keys : Arrays.asList(table.getUniqueKeys(), table.getKeys())) {
+            if (keys == null) {
+                continue;
+            }
+
+            for (Map.Entry<String, List<String>> entry : new TreeMap<>(keys).entrySet()) {
+                // 全文、空间索引另有结构，不按 B+ 树估算
+                Key option = KeyUtils.findOption(options, entry.getKey());
+                Key.Type type = option != null ? option.getType() : null;
+                if (type == Key.Type.FULLTEXT || type == Key.Type.SPATIAL) {
+                    continue;
+                }
+
+                Map<String, ColumnSize> keySizes = applySubParts(sizes, option, charsetBytes);
+                KeySize keySize = estimateKey(entry.getKey(), normalize(entry.getValue()), primaryKey, keySizes);
+                keySize.setExceedsLimit(keySize.getKeyLength() > keyLengthLimit);
+                result.getKeys().add(keySize);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 二级索引，叶子节点保存索引字段及主键
+     *
+     * @param name        Key Name
+     * @param columnNames [ Column Name ]，小写
+     * @param primaryKey  [ Column Name ]，小写
+     * @param sizes       [ Column Name : the {@link ColumnSize} instance ]
+     * @return the {@link KeySize} instance
+     */
+    protected KeySize estimateKey(String name, @NotNull List<String> columnNames, @NotNull List<String> primaryKey,
+                                  @NotNull Map<String, ColumnSize> sizes) {
+        List<String> entryColumns = new ArrayList<>(columnNames);
+        for (String columnName : primaryKey) {
+            if (!entryColumns.contains(columnName)) {
+                entryColumns.add(columnName);
+            }
+        }
+
+        long maxBytes = primaryKey.isEmpty() ? HIDDEN_ROW_ID : 0;
+        double avgBytes = maxBytes;
+        int nullable = 0;
+        for (String columnName : entryColumns) {
+            ColumnSize size = sizes.get(columnName);
+            if (size == null) {
+                continue;
+            }
+
+            maxBytes += size.keyBytes;
+            avgBytes += size.avgBytes;
+            nullable += size.nullable ? 1 : 0;
+        }
+
+        long overhead = RECORD_HEADER + (nullable + 7) / 8;
+
+        KeySize result = new KeySize();
+        result.setName(name);
+        result.setKeyLength(sumKeyBytes(columnNames, sizes));
+        result.setMaxEntryBytes(maxBytes + overhead);
+        result.setAvgEntryBytes(Math.round(avgBytes + overhead));
+        result.setBytesPerMillionRows(perMillionRows(result.getAvgEntryBytes()));
+        return result;
+    }
+
+    /**
+     * 字段大小
+     *
+     * @param column       the {@link Column} instance
+     * @param charsetBytes 字符集单字符最大字节数
+     * @return the {@link ColumnSize} instance
+     */
+    protected ColumnSize readColumnSize(@NotNull Column column, int charsetBytes) {
+        String rawTypeName = column.getTypeName();
+        String typeName = rawTypeName == null ? "" : rawTypeName.trim().toUpperCase();
+        int space = typeName.indexOf(' ');
+        if (space > 0) {
+            // INT UNSIGNED
+            typeName = typeName.substring(0, space);
+        }
+
+        int size = Math.max(0, column.getSize());
+        int scale = Math.max(0, column.getScale());
+        double charBytes = Math.min(averageCharBytes, charsetBytes);
+
+        ColumnSize result = switch (typeName) {
+            case "TINYINT", "BOOL", "BOOLEAN", "YEAR" -> ColumnSize.fixed(1);
+            case "SMALLINT" -> ColumnSize.fixed(2);
+            case "MEDIUMINT", "DATE" -> ColumnSize.fixed(3);
+            case "INT", "INTEGER" -> ColumnSize.fixed(4);
+            case "BIGINT", "DOUBLE", "REAL" -> ColumnSize.fixed(8);
+            case "FLOAT" -> ColumnSize.fixed(size > 24 ? 8 : 4);
+            case "DECIMAL", "NUMERIC" -> ColumnSize.fixed(decimalBytes(size, scale));
+            case "BIT" -> ColumnSize.fixed(Math.max(1, (size + 7) / 8));
+            case "TIME" -> ColumnSize.fixed(3 + fractionBytes(size, scale, 8));
+            case "DATETIME" -> ColumnSize.fixed(5 + fractionBytes(size, scale, 19));
+            case "TIMESTAMP" -> ColumnSize.fixed(4 + fractionBytes(size, scale, 19));
+            case "CHAR" -> ColumnSize.of((long) size * charsetBytes, size * charBytes);
+            case "BINARY" -> ColumnSize.fixed(size);
+            case "VARCHAR" -> variable((long) size * charsetBytes, size * charBytes);
+            case "VARBINARY" -> variable(size, size);
+            case "TINYTEXT", "TINYBLOB" -> lob(1, 255);
+            case "TEXT", "BLOB" -> lob(2, 65535);
+            case "MEDIUMTEXT", "MEDIUMBLOB" -> lob(3, 16777215);
+            case "LONGTEXT", "LONGBLOB", "JSON", "GEOMETRY", "POINT", "LINESTRING", "POLYGON" -> lob(4, 4294967295L);
+            case "ENUM" -> ColumnSize.of(2, 1);
+            case "SET" -> ColumnSize.of(8, 1);
+            default -> ColumnSize.fixed(size > 0 ? size : 8);
+        };
+
+        result.nullable = column.isNullable();
+        return result;
+    }
+
+    /**
+     * 变长字段，1 ~ 2 字节长度前缀，超过 40 字节可溢出
+     */
+    private ColumnSize variable(long dataBytes, double avgDataBytes) {
+        int lengthBytes = dataBytes > 255 ? 2 : 1;
+
+        ColumnSize result = ColumnSize.of(dataBytes + lengthBytes, lengthBytes + avgDataBytes * variableFill);
+        result.inPageBytes = dataBytes > INLINE_LIMIT ? INLINE_LIMIT + 1 : result.maxBytes;
+        return result;
+    }
+
+    /**
+     * 大字段，行长上限计长度及指针，页内按可溢出的变长字段计，索引键长度无前缀时按最大长度
+     */
+    private ColumnSize lob(int lengthBytes, long dataBytes) {
+        ColumnSize result = ColumnSize.of(lengthBytes + 8, lengthBytes + (double) Math.min(lobAverageBytes, dataBytes));
+        result.inPageBytes = INLINE_LIMIT + 1;
+        result.keyBytes = dataBytes;
+        return result;
+    }
+
+    /**
+     * DECIMAL，整数、小数部分各自每 9 位 4 字节，余位按 1 ~ 4 字节
+     */
+    private static int decimalBytes(int precision, int scale) {
+        int[] leftover = {0, 1, 1, 2, 2, 3, 3, 4, 4};
+        int integer = Math.max(0, precision - scale);
+        return integer / 9 * 4 + leftover[integer % 9] + scale / 9 * 4 + leftover[scale % 9];
+    }
+
+    /**
+     * 秒的小数部分，每 2 位 1 字节
+     */
+    private static int fractionBytes(int size, int scale, int width) {
+        int fsp = scale > 0 ? scale : Math.max(0, size - width - 1);
+        return (Math.min(fsp, 6) + 1) / 2;
+    }
+
+    private long perMillionRows(double bytes) {
+        return Math.round(bytes * 1_000_000 / fillFactor);
+    }
+
+    /**
+     * 前缀索引字段按前缀长度截取，前缀长度按字符集最大字节数折算
+     *
+     * @param sizes        [ Column Name : the {@link ColumnSize} instance ]
+     * @param option       the {@link Key} instance，索引选项，可为 null
+     * @param charsetBytes 字符集单字符最大字节数
+     * @return [ Column Name : the {@link ColumnSize} instance ]，无前缀时原样返回
+     */
+    private static Map<String, ColumnSize> applySubParts(@NotNull Map<String, ColumnSize> sizes, Key option,
+                                                         int charsetBytes) {
+        if (option == null || option.getSubParts().isEmpty()) {
+            return sizes;
+        }
+
+        Map<String, ColumnSize> result = new HashMap<>(sizes);
+        for (Map.Entry<String, Integer> entry : option.getSubParts().entrySet()) {
+            String columnName = entry.getKey() != null ? entry.getKey().trim().toLowerCase() : null;
+            ColumnSize size = columnName != null ? sizes.get(columnName) : null;
+            if (size == null || entry.getValue() == null || entry.getValue() <= 0) {
+                continue;
+            }
+
+            // 2 字节长度前缀
+            long prefixBytes = (long) entry.getValue() * charsetBytes + 2;
+
+            ColumnSize prefixed = ColumnSize.of(Math.min(size.keyBytes, prefixBytes), Math.min(size.avgBytes, prefixBytes));
+            prefixed.nullable = size.nullable;
+            result.put(columnName, prefixed);
+        }
+
+        return result;
+    }
+
+    private static long sumKeyBytes(@NotNull List<String> columnNames, @NotNull Map<String, ColumnSize> sizes) {
+        long result = 0;
+        for (String columnName : columnNames) {
+            ColumnSize size = sizes.get(columnName);
+            if (size != null) {
+                result += size.keyBytes;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 字段名去空、小写
+     *
+     * @param columnNames [ Column Name ]
+     * @return [ Column Name ]
+     */
+    private static List<String> normalize(List<String> columnNames) {
+        if (columnNames == null) {
+            return Collections.emptyList();
+        }
+
+        return columnNames.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(x -> !x.isEmpty())
+                .map(String::toLowerCase)
+                .toList();
+    }
+
+    /**
+     * 字段大小
+     */
+    protected static final class ColumnSize {
+        /**
+         * 最大字节数，含长度前缀，大字段为长度 + 指针
+         */
+        private long maxBytes;
+
+        /**
+         * 页内最大字节数
+         */
+        private long inPageBytes;
+
+        /**
+         * 索引键字节数
+         */
+        private long keyBytes;
+
+        /**
+         * 平均字节数
+         */
+        private double avgBytes;
+
+        /**
+         * 可空？
+         */
+        private boolean nullable;
+
+        private static ColumnSize fixed(long bytes) {
+            return of(bytes, bytes);
+        }
+
+        private static ColumnSize of(long maxBytes, double avgBytes) {
+            ColumnSize result = new ColumnSize();
+            result.maxBytes = maxBytes;
+            result.inPageBytes = maxBytes;
+            result.keyBytes = maxBytes;
+            result.avgBytes = avgBytes;
+            return result;
+        }
+
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        public long getInPageBytes() {
+            return inPageBytes;
+        }
+
+        public long getKeyBytes() {
+            return keyBytes;
+        }
+
+        public double getAvgBytes() {
+            return avgBytes;
+        }
+
+        public boolean isNullable() {
+            return nullable;
+        }
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public double getFillFactor() {
+        return fillFactor;
+    }
+
+    public void setFillFactor(double fillFactor) {
+        if (fillFactor <= 0 || fillFactor > 1) {
+            throw new RuntimeException("fillFactor must be in (0, 1]");
+        }
+
+        this.fillFactor = fillFactor;
+    }
+
+    public double getAverageCharBytes() {
+        return averageCharBytes;
+    }
+
+    public void setAverageCharBytes(double averageCharBytes) {
+        this.averageCharBytes = averageCharBytes;
+    }
+
+    public double getVariableFill() {
+        return variableFill;
+    }
+
+    public void setVariableFill(double variableFill) {
+        this.variableFill = variableFill;
+    }
+
+    public long getLobAverageBytes() {
+        return lobAverageBytes;
+    }
+
+    public void setLobAverageBytes(long lobAverageBytes) {
+        this.lobAverageBytes = lobAverageBytes;
+    }
+
+}
@@ -0,0 +1,269 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 合成数据写入，多线程，写库为多行 INSERT，写文件为制表符分隔
+ * <p>
+ * 行序号按线程分段，唯一字段不冲突；每个线程复用一条预编译语句
+ *
+ * @author changebooks@qq.com
+ */
+public class SyntheticDataWriter {
+    /**
+     * the {@link RowGenerator} instance
+     */
+    private final RowGenerator rowGenerator;
+
+    /**
+     * 并行线程数
+     */
+    private int threads = 4;
+
+    /**
+     * 每条 INSERT 的行数
+     */
+    private int batchSize = 500;
+
+    /**
+     * 起始行序号，多次写入同一张表时错开
+     */
+    private long sequenceStart = 0;
+
+    /**
+     * 随机种子
+     */
+    private long seed = 42L;
+
+    public SyntheticDataWriter(@NotNull RowGenerator rowGenerator) {
+        Objects.requireNonNull(rowGenerator, "rowGenerator must not be null");
+
+        this.rowGenerator = rowGenerator;
+    }
+
+    /**
+     * Insert Rows
+     *
+     * @param target the {@link DataSource} instance
+     * @param rows   行数
+     * @return the {@link CopyMetrics} instance
+     * @throws SQLException if a database access error occurs
+     */
+    public CopyMetrics insert(@NotNull DataSource target, long rows) throws SQLException {
+        rowGenerator.checkUnique(sequenceStart, rows);
+
+        String tableName = rowGenerator.getTable().getName();
+        List<String> columnNames = rowGenerator.getColumnNames();
+        String insert = InsertUtils.build(tableName, columnNames, batchSize);
+
+        CopyMetrics metrics = new CopyMetrics();
+        metrics.start();
+
+        int workers = Math.max(1, threads);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                long from = sequenceStart + rows * i / workers;
+                long to = sequenceStart + rows * (i + 1) / workers;
+                RowGenerator.Worker worker = rowGenerator.newWorker(seed + i);
+
+                futures.add(executor.submit(() -> {
+                    insert(target, tableName, columnNames, insert, worker, from, to, metrics);
+                    return null;
+                }));
+            }
+
+            ConcurrentUtils.await(futures, tableName);
+        } finally {
+            executor.shutdownNow();
+            metrics.stop();
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Write Rows，文件名以 .gz 结尾时压缩
+     *
+     * @param file the {@link Path} instance
+     * @param rows 行数
+     * @return the {@link CopyMetrics} instance
+     * @throws IOException if an I/O error occurs
+     */
+    public CopyMetrics write(@NotNull Path file, long rows) throws IOException {
+        rowGenerator.checkUnique(sequenceStart, rows);
+
+        String tableName = rowGenerator.getTable().getName();
+
+        CopyMetrics metrics = new CopyMetrics();
+        metrics.start();
+
+        OutputStream stream = Files.newOutputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            stream = new GZIPOutputStream(stream, 64 * 1024);
+        }
+
+        int workers = Math.max(1, threads);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 64 * 1024)) {
+            List<Future<?>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                long from = sequenceStart + rows * i / workers;
+                long to = sequenceStart + rows * (i + 1) / workers;
+                RowGenerator.Worker worker = rowGenerator.newWorker(seed + i);
+
+                futures.add(executor.submit(() -> {
+                    write(writer, worker, from, to, metrics);
+                    return null;
+                }));
+            }
+
+            ConcurrentUtils.await(futures, tableName);
+        } catch (SQLException e) {
+            throw new IOException(e);
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+
+            throw e;
+        } finally {
+            executor.shutdownNow();
+            metrics.stop();
+        }
+
+        return metrics;
+    }
+
+    /**
+     * 写库，[ from, to )
+     */
+    private void insert(@NotNull DataSource target, @NotNull String tableName, @NotNull List<String> columnNames,
+                        @NotNull String insert, @NotNull RowGenerator.Worker worker,
+                        long from, long to, @NotNull CopyMetrics metrics) throws SQLException {
+        try (Connection conn = target.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement stat = conn.prepareStatement(insert)) {
+                long sequence = from;
+                while (to - sequence >= batchSize) {
+                    int index = 1;
+                    for (int i = 0; i < batchSize; i++) {
+                        index = worker.bind(stat, index, sequence++);
+                    }
+
+                    stat.executeUpdate();
+                    conn.commit();
+                    metrics.addRows(batchSize);
+                    metrics.addBatch();
+                }
+
+                int rest = (int) (to - sequence);
+                if (rest > 0) {
+                    String tail = InsertUtils.build(tableName, columnNames, rest);
+                    try (PreparedStatement tailStat = conn.prepareStatement(tail)) {
+                        int index = 1;
+                        for (int i = 0; i < rest; i++) {
+                            index = worker.bind(tailStat, index, sequence++);
+                        }
+
+                        tailStat.executeUpdate();
+                    }
+
+                    conn.commit();
+                    metrics.addRows(rest);
+                    metrics.addBatch();
+                }
+
+                metrics.addChunk();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * 写文件，[ from, to )，每批加锁写入一次
+     */
+    private void write(@NotNull Writer writer, @NotNull RowGenerator.Worker worker,
+                       long from, long to, @NotNull CopyMetrics metrics) throws IOException {
+        StringBuilder buffer = new StringBuilder(64 * 1024);
+
+        long sequence = from;
+        while (sequence < to) {
+            int count = (int) Math.min(batchSize, to - sequence);
+            for (int i = 0; i < count; i++) {
+                worker.append(buffer, sequence++);
+            }
+
+            synchronized (writer) {
+                writer.append(buffer);
+            }
+
+            buffer.setLength(0);
+            metrics.addRows(count);
+            metrics.addBatch();
+        }
+
+        metrics.addChunk();
+    }
+
+    @NotNull
+    public RowGenerator getRowGenerator() {
+        return rowGenerator;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getSequenceStart() {
+        return sequenceStart;
+    }
+
+    public void setSequenceStart(long sequenceStart) {
+        this.sequenceStart = sequenceStart;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+}
@@ -63,6 +63,28 @@ public final class Table implements Serializable {
      */
     private Map<String, List<String>> keys;
 
+    /**
+     * 索引选项，前缀长度、倒序、类型、可见性
+     * [ 索引名 : the {@link Key} instance ]，仅含非默认选项的索引，主键为 PRIMARY
+     */
+    private Map<String, Key> keyOptions;
+
+    /**
+     * 表选项，建表时显式指定的选项，按出现顺序
+     * [ 选项名 : 值 ]，如 ROW_FORMAT : COMPRESSED、KEY_BLOCK_SIZE : 8
+     */
+    private Map<String, String> options;
+
+    /**
+     * 分区，未分区为 null
+     */
+    private Partitioning partitioning;
+
+    /**
+     * 统计信息，由 {@link TableStatisticsReader} 读取，未读取为 null
+     */
+    private TableStatistics statistics;
+
     public String getName() {
         return name;
     }
@@ -143,4 +165,36 @@ public final class Table implements Serializable {
         this.keys = keys;
     }
 
+    public Map<String, Key> getKeyOptions() {
+        return keyOptions;
+    }
+
+    public void setKeyOptions(Map<String, Key> keyOptions) {
+        this.keyOptions = keyOptions;
+    }
+
+    public Map<String, String> getOptions() {
+        return options;
+    }
+
+    public void setOptions(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public Partitioning getPartitioning() {
+        return partitioning;
+    }
+
+    public void setPartitioning(Partitioning partitioning) {
+        this.partitioning = partitioning;
+    }
+
+    public TableStatistics getStatistics() {
+        return statistics;
+    }
+
+    public void setStatistics(TableStatistics statistics) {
+        this.statistics = statistics;
+    }
+
 }
@@ -0,0 +1,486 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+/**
+ * 表校验
+ * <p>
+ * 按 {@link ChunkPlanner} 拆分的主键区间，并行计算源库、目标库的区间校验和，
+ * 行校验取全部字段的哈希，区间校验和与行序无关，表达式由 {@link ChecksumDialect} 生成；
+ * 首个区间下界、末个区间上界无界，源库范围外的目标库行亦参与比对；
+ * 不一致的区间，逐行比对，定位到主键
+ *
+ * @author changebooks@qq.com
+ */
+public class TableChecksum {
+    /**
+     * 行哈希算法
+     */
+    public enum Algorithm {
+        /**
+         * CRC32，32 位
+         */
+        CRC32,
+
+        /**
+         * MD5 前 64 位
+         */
+        MD5
+    }
+
+    /**
+     * 源库
+     */
+    private final DataSource source;
+
+    /**
+     * 目标库
+     */
+    private final DataSource target;
+
+    /**
+     * the {@link TableReader} instance
+     */
+    private final TableReader tableReader;
+
+    /**
+     * the {@link ChunkPlanner} instance
+     */
+    private final ChunkPlanner chunkPlanner;
+
+    /**
+     * 并行线程数
+     */
+    private int threads = 4;
+
+    /**
+     * 行哈希算法
+     */
+    private Algorithm algorithm = Algorithm.CRC32;
+
+    /**
+     * SQL 方言
+     */
+    private ChecksumDialect dialect = ChecksumDialect.MYSQL;
+
+    /**
+     * 不一致的区间，逐行比对？
+     */
+    private boolean drillDown = true;
+
+    /**
+     * 行差异上限
+     */
+    private int maxRowDiffs = 1000;
+
+    public TableChecksum(@NotNull DataSource source, @NotNull DataSource target) {
+        this(source, target, new TableReader(), new ChunkPlanner());
+    }
+
+    public TableChecksum(@NotNull DataSource source, @NotNull DataSource target,
+                         @NotNull TableReader tableReader, @NotNull ChunkPlanner chunkPlanner) {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(tableReader, "tableReader must not be null");
+        Objects.requireNonNull(chunkPlanner, "chunkPlanner must not be null");
+
+        this.source = source;
+        this.target = target;
+        this.tableReader = tableReader;
+        this.chunkPlanner = chunkPlanner;
+    }
+
+    /**
+     * Checksum Table
+     *
+     * @param tableName Table Name
+     * @return the {@link ChecksumResult} instance
+     * @throws SQLException if a database access error occurs
+     */
+    public ChecksumResult checksum(@NotBlank String tableName) throws SQLException {
+        Table table;
+        List<KeyRange> ranges;
+        try (Connection conn = source.getConnection()) {
+            table = tableReader.read(conn, tableName);
+            if (table == null) {
+                throw new RuntimeException(String.format("table not found, tableName: %s", tableName));
+            }
+
+            ranges = cover(chunkPlanner.plan(conn, table));
+        }
+
+        List<String> columnNames = readColumnNames(table);
+        if (columnNames.isEmpty()) {
+            throw new RuntimeException(String.format("columns must not be empty, tableName: %s", tableName));
+        }
+
+        List<String> keyColumns = chunkPlanner.readKey(table);
+        String rowHash = buildRowHash(columnNames);
+
+        ChecksumResult result = new ChecksumResult();
+        result.setTableName(table.getName());
+        result.setChunks(ranges.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            List<Future<?>> futures = new ArrayList<>(ranges.size());
+            for (KeyRange range : ranges) {
+                futures.add(executor.submit(() -> {
+                    ChunkChecksum chunk = checksumRange(table.getName(), keyColumns, rowHash, range);
+                    if (chunk.isMatch()) {
+                        return null;
+                    }
+
+                    result.getMismatches().add(chunk);
+                    if (drillDown && keyColumns != null && !keyColumns.isEmpty()) {
+                        diffRows(table.getName(), keyColumns, rowHash, range, result);
+                    }
+
+                    return null;
+                }));
+            }
+
+            ConcurrentUtils.await(futures, tableName);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return result;
+    }
+
+    /**
+     * 区间校验和
+     *
+     * @param tableName  Table Name
+     * @param keyColumns [ Key Column Name ]
+     * @param rowHash    行哈希表达式
+     * @param range      the {@link KeyRange} instance
+     * @return the {@link ChunkChecksum} instance
+     * @throws SQLException if a database access error occurs
+     */
+    protected ChunkChecksum checksumRange(@NotNull String tableName, List<String> keyColumns,
+                                          @NotNull String rowHash, @NotNull KeyRange range) throws SQLException {
+        String where = keyColumns != null ? KeyRangeUtils.buildWhere(keyColumns, range) : "";
+        String command = "SELECT COUNT(*), " + buildAggregate(rowHash) + " FROM " + tableName + where;
+
+        ChunkChecksum result = new ChunkChecksum();
+        result.setRange(range);
+
+        String[] sourceChecksum = readChecksum(source, command, range);
+        result.setSourceRows(Long.parseLong(sourceChecksum[0]));
+        result.setSourceHash(sourceChecksum[1]);
+
+        String[] targetChecksum = readChecksum(target, command, range);
+        result.setTargetRows(Long.parseLong(targetChecksum[0]));
+        result.setTargetHash(targetChecksum[1]);
+
+        return result;
+    }
+
+    /**
+     * 补齐首尾区间，覆盖全部键，目标库小于源库 MIN、大于源库 MAX 的行亦可比对
+     *
+     * @param ranges [ the {@link KeyRange} instance ], ordered by key
+     * @return [ the {@link KeyRange} instance ]，首个下界、末个上界无界
+     */
+    protected List<KeyRange> cover(List<KeyRange> ranges) {
+        if (ranges == null || ranges.isEmpty()) {
+            return List.of(KeyRange.unbounded(-1));
+        }
+
+        List<KeyRange> result = new ArrayList<>(ranges.size() + 2);
+
+        KeyRange first = ranges.get(0);
+        if (first.getLower() != null) {
+            result.add(new KeyRange(null, first.getLower(), 0));
+        }
+
+        result.addAll(ranges);
+
+        KeyRange last = ranges.get(ranges.size() - 1);
+        if (last.getUpper() != null) {
+            result.add(new KeyRange(last.getUpper(), null, 0));
+        }
+
+        return result;
+    }
+
+    /**
+     * 逐行比对，目标库区间载入内存，键按值规整，源库区间流式比对
+     *
+     * @param tableName  Table Name
+     * @param keyColumns [ Key Column Name ]
+     * @param rowHash    行哈希表达式
+     * @param range      the {@link KeyRange} instance
+     * @param result     the {@link ChecksumResult} instance
+     * @throws SQLException if a database access error occurs
+     */
+    protected void diffRows(@NotNull String tableName, @NotNull List<String> keyColumns,
+                            @NotNull String rowHash, @NotNull KeyRange range,
+                            @NotNull ChecksumResult result) throws SQLException {
+        String command = "SELECT " + String.join(", ", keyColumns) + ", " + rowHash + " FROM " + tableName +
+                KeyRangeUtils.buildWhere(keyColumns, range);
+        int width = keyColumns.size();
+
+        // [ Normalized Key : [ Key, Row Hash ] ]，两库驱动返回的键类型可不同
+        Map<List<Object>, Map.Entry<List<Object>, String>> targetRows = new HashMap<>();
+        try (Connection conn = target.getConnection(); PreparedStatement stat = conn.prepareStatement(command)) {
+            KeyRangeUtils.bind(stat, 1, range);
+
+            try (ResultSet rs = stat.executeQuery()) {
+                while (rs.next()) {
+                    List<Object> key = readKey(rs, width);
+                    targetRows.put(normalize(key), new AbstractMap.SimpleImmutableEntry<>(key, rs.getString(width + 1)));
+                }
+            }
+        }
+
+        List<RowDiff> rowDiffs = result.getRowDiffs();
+        try (Connection conn = source.getConnection(); PreparedStatement stat = conn.prepareStatement(command)) {
+            KeyRangeUtils.bind(stat, 1, range);
+
+            try (ResultSet rs = stat.executeQuery()) {
+                while (rs.next() && rowDiffs.size() < maxRowDiffs) {
+                    List<Object> key = readKey(rs, width);
+                    String sourceHash = rs.getString(width + 1);
+
+                    Map.Entry<List<Object>, String> targetRow = targetRows.remove(normalize(key));
+                    if (targetRow == null) {
+                        rowDiffs.add(new RowDiff(key, RowDiff.Kind.MISSING));
+                        continue;
+                    }
+
+                    if (!Objects.equals(sourceHash, targetRow.getValue())) {
+                        rowDiffs.add(new RowDiff(key, RowDiff.Kind.CHANGED));
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<List<Object>, String> targetRow : targetRows.values()) {
+            if (rowDiffs.size() >= maxRowDiffs) {
+                break;
+            }
+
+            rowDiffs.add(new RowDiff(targetRow.getKey(), RowDiff.Kind.EXTRA));
+        }
+    }
+
+    /**
+     * 行哈希表达式
+     *
+     * @param columnNames [ Column Name ]
+     * @return the {@link ChecksumDialect#buildRowHash} expression
+     */
+    protected String buildRowHash(@NotNull List<String> columnNames) {
+        return dialect.buildRowHash(columnNames, algorithm);
+    }
+
+    /**
+     * 区间校验和表达式
+     *
+     * @param rowHash 行哈希表达式
+     * @return the {@link ChecksumDialect#buildAggregate} expression
+     */
+    protected String buildAggregate(@NotNull String rowHash) {
+        return dialect.buildAggregate(rowHash);
+    }
+
+    /**
+     * 读取区间校验和
+     *
+     * @param dataSource the {@link DataSource} instance
+     * @param command    SELECT COUNT(*), checksum ...
+     * @param range      the {@link KeyRange} instance
+     * @return [ rows, hash ]
+     * @throws SQLException if a database access error occurs
+     */
+    private static String[] readChecksum(@NotNull DataSource dataSource, @NotNull String command,
+                                         @NotNull KeyRange range) throws SQLException {
+        try (Connection conn = dataSource.getConnection(); PreparedStatement stat = conn.prepareStatement(command)) {
+            KeyRangeUtils.bind(stat, 1, range);
+
+            try (ResultSet rs = stat.executeQuery()) {
+                if (rs.next()) {
+                    return new String[]{String.valueOf(rs.getLong(1)), rs.getString(2)};
+                } else {
+                    return new String[]{"0", null};
+                }
+            }
+        }
+    }
+
+    /**
+     * 读取主键
+     *
+     * @param rs    the {@link ResultSet} instance
+     * @param width 主键字段数
+     * @return [ Key Value ]
+     * @throws SQLException if a database access error occurs
+     */
+    private static List<Object> readKey(@NotNull ResultSet rs, int width) throws SQLException {
+        List<Object> result = new ArrayList<>(width);
+        for (int i = 1; i <= width; i++) {
+            result.add(rs.getObject(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * 规整键值，数值按大小、时间按本地时间、二进制按十六进制比较
+     *
+     * @param key [ Key Value ]
+     * @return [ Normalized Key Value ]
+     */
+    private static List<Object> normalize(@NotNull List<Object> key) {
+        List<Object> result = new ArrayList<>(key.size());
+        for (Object value : key) {
+            result.add(normalize(value));
+        }
+
+        return result;
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+        }
+
+        if (value instanceof BigInteger integer) {
+            return normalize(new BigDecimal(integer));
+        }
+
+        if (value instanceof Double || value instanceof Float) {
+            return normalize(BigDecimal.valueOf(((Number) value).doubleValue()));
+        }
+
+        if (value instanceof Number number) {
+            return normalize(BigDecimal.valueOf(number.longValue()));
+        }
+
+        if (value instanceof Boolean bool) {
+            return bool ? BigDecimal.ONE : BigDecimal.ZERO;
+        }
+
+        if (value instanceof byte[] bytes) {
+            return HexFormat.of().formatHex(bytes);
+        }
+
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+
+        if (value instanceof java.sql.Time time) {
+            return time.toLocalTime();
+        }
+
+        return value;
+    }
+
+    /**
+     * [ Column Name ]
+     *
+     * @param table the {@link Table} instance
+     * @return [ Column Name ]
+     */
+    private static List<String> readColumnNames(@NotNull Table table) {
+        List<Column> columns = table.getColumns();
+        if (columns == null) {
+            return Collections.emptyList();
+        }
+
+        return columns.stream()
+                .filter(Objects::nonNull)
+                .map(Column::getName)
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(Predicate.not(String::isEmpty))
+                .toList();
+    }
+
+    @NotNull
+    public DataSource getSource() {
+        return source;
+    }
+
+    @NotNull
+    public DataSource getTarget() {
+        return target;
+    }
+
+    @NotNull
+    public TableReader getTableReader() {
+        return tableReader;
+    }
+
+    @NotNull
+    public ChunkPlanner getChunkPlanner() {
+        return chunkPlanner;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    @NotNull
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(@NotNull Algorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+
+        this.algorithm = algorithm;
+    }
+
+    @NotNull
+    public ChecksumDialect getDialect() {
+        return dialect;
+    }
+
+    public void setDialect(@NotNull ChecksumDialect dialect) {
+        Objects.requireNonNull(dialect, "dialect must not be null");
+
+        this.dialect = dialect;
+    }
+
+    public boolean isDrillDown() {
+        return drillDown;
+    }
+
+    public void setDrillDown(boolean drillDown) {
+        this.drillDown = drillDown;
+    }
+
+    public int getMaxRowDiffs() {
+        return maxRowDiffs;
+    }
+
+    public void setMaxRowDiffs(int maxRowDiffs) {
+        this.maxRowDiffs = maxRowDiffs;
+    }
+
+}
@@ -0,0 +1,356 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 表复制
+ * <p>
+ * 按 {@link ChunkPlanner} 拆分的主键区间，多线程并行读写，每个区间一个事务，
+ * 每个线程至多持有一批行，已提交的区间记入断点；
+ * 含长度超过阈值的 TEXT / BLOB 时，每行一条 INSERT，大字段以流绑定，不生成 String / byte[] 副本；
+ * MySQL 源库开启 streaming 时驱动按行读取，内存中至多驻留当前行，其它数据库按 fetchSize 分批读取
+ *
+ * @author changebooks@qq.com
+ */
+public class TableCopier {
+    /**
+     * 源库
+     */
+    private final DataSource source;
+
+    /**
+     * 目标库
+     */
+    private final DataSource target;
+
+    /**
+     * the {@link TableReader} instance
+     */
+    private final TableReader tableReader;
+
+    /**
+     * the {@link TableWriter} instance
+     */
+    private final TableWriter tableWriter;
+
+    /**
+     * the {@link ChunkPlanner} instance
+     */
+    private final ChunkPlanner chunkPlanner;
+
+    /**
+     * 并行线程数
+     */
+    private int threads = 4;
+
+    /**
+     * 每条 INSERT 的行数
+     */
+    private int batchSize = 500;
+
+    /**
+     * 读取的 fetch size，0 为驱动默认；
+     * MySQL 源库开启 streaming 时不适用，正值须连接串开启 useCursorFetch=true，否则驱动忽略
+     */
+    private int fetchSize = 0;
+
+    /**
+     * MySQL 源库逐行流式读取？按源库产品名判断，fetch size 取 {@link Integer#MIN_VALUE}，其它数据库不适用
+     */
+    private boolean streaming = true;
+
+    /**
+     * 目标表不存在时，新建？
+     */
+    private boolean createTable = true;
+
+    public TableCopier(@NotNull DataSource source, @NotNull DataSource target) {
+        this(source, target, new TableReader(), new TableWriter(), new ChunkPlanner());
+    }
+
+    public TableCopier(@NotNull DataSource source, @NotNull DataSource target,
+                       @NotNull TableReader tableReader, @NotNull TableWriter tableWriter,
+                       @NotNull ChunkPlanner chunkPlanner) {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(tableReader, "tableReader must not be null");
+        Objects.requireNonNull(tableWriter, "tableWriter must not be null");
+        Objects.requireNonNull(chunkPlanner, "chunkPlanner must not be null");
+
+        this.source = source;
+        this.target = target;
+        this.tableReader = tableReader;
+        this.tableWriter = tableWriter;
+        this.chunkPlanner = chunkPlanner;
+    }
+
+    /**
+     * Copy Table
+     *
+     * @param tableName Table Name
+     * @return the {@link CopyMetrics} instance
+     * @throws SQLException if a database access error occurs
+     */
+    public CopyMetrics copy(@NotBlank String tableName) throws SQLException {
+        return copy(tableName, new CopyCheckpoint());
+    }
+
+    /**
+     * Copy Table
+     *
+     * @param tableName  Table Name
+     * @param checkpoint 断点，沿用其中的区间计划，跳过已提交的区间，提交后记入
+     * @return the {@link CopyMetrics} instance
+     * @throws SQLException if a database access error occurs
+     */
+    public CopyMetrics copy(@NotBlank String tableName, @NotNull CopyCheckpoint checkpoint) throws SQLException {
+        Table table;
+        try (Connection conn = source.getConnection()) {
+            table = tableReader.read(conn, tableName);
+        }
+
+        if (table == null) {
+            throw new RuntimeException(String.format("table not found, tableName: %s", tableName));
+        }
+
+        if (createTable) {
+            createTable(table);
+        }
+
+        TableSchema tableSchema = TableSchemaReader.read(table);
+        List<String> keyColumns = chunkPlanner.readKey(table);
+
+        // 续传沿用首次的计划，重新拆分的边界与已提交的区间对不上
+        List<KeyRange> ranges = checkpoint.getRanges();
+        if (ranges == null) {
+            try (Connection conn = source.getConnection()) {
+                ranges = chunkPlanner.plan(conn, table);
+            }
+
+            checkpoint.setRanges(ranges);
+        }
+
+        CopyMetrics metrics = new CopyMetrics();
+        metrics.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            List<Future<?>> futures = new ArrayList<>(ranges.size());
+            for (KeyRange range : ranges) {
+                if (checkpoint.isCompleted(range)) {
+                    metrics.addSkippedChunk();
+                    continue;
+                }
+
+                futures.add(executor.submit(() -> {
+                    copyRange(tableSchema, keyColumns, range, metrics);
+                    checkpoint.complete(range);
+                    return null;
+                }));
+            }
+
+            ConcurrentUtils.await(futures, tableName);
+        } finally {
+            executor.shutdownNow();
+            metrics.stop();
+        }
+
+        return metrics;
+    }
+
+    /**
+     * 新建目标表
+     *
+     * @param table the {@link Table} instance
+     * @throws SQLException if a database access error occurs
+     */
+    protected void createTable(@NotNull Table table) throws SQLException {
+        try (Connection conn = target.getConnection()) {
+            Table existing = tableReader.read(conn, table.getName());
+            if (existing != null) {
+                return;
+            }
+
+            String command = tableWriter.write(table);
+            try (Statement stat = conn.createStatement()) {
+                stat.execute(command);
+            }
+        }
+    }
+
+    /**
+     * 复制区间，一个事务
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param keyColumns  [ Key Column Name ]
+     * @param range       the {@link KeyRange} instance
+     * @param metrics     the {@link CopyMetrics} instance
+     * @throws SQLException if a database access error occurs
+     */
+    protected void copyRange(@NotNull TableSchema tableSchema, List<String> keyColumns,
+                             @NotNull KeyRange range, @NotNull CopyMetrics metrics) throws SQLException {
+        String tableName = tableSchema.getTableName();
+        // 生成列由目标表计算，不可写入
+        Set<String> generated = tableSchema.getColumnsOnGenerated();
+        List<String> columnNames = tableSchema.getColumnNames().stream()
+                .filter(x -> !generated.contains(x))
+                .toList();
+        int width = columnNames.size();
+        LobUtils.Kind[] kinds = LobUtils.readKinds(columnNames, tableSchema.getColumnsOnLob());
+        int rowsPerInsert = kinds != null ? 1 : batchSize;
+
+        String where = keyColumns != null ? KeyRangeUtils.buildWhere(keyColumns, range) : "";
+        String select = "SELECT " + String.join(", ", columnNames) + " FROM " + tableName + where;
+        String insert = InsertUtils.build(tableName, columnNames, rowsPerInsert);
+
+        try (Connection sourceConn = source.getConnection(); Connection targetConn = target.getConnection()) {
+            boolean autoCommit = targetConn.getAutoCommit();
+            targetConn.setAutoCommit(false);
+
+            try (PreparedStatement read = sourceConn.prepareStatement(select, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                 PreparedStatement write = targetConn.prepareStatement(insert)) {
+                read.setFetchSize(readFetchSize(sourceConn));
+                KeyRangeUtils.bind(read, 1, range);
+
+                List<Object[]> batch = new ArrayList<>(rowsPerInsert);
+                try (ResultSet rs = read.executeQuery()) {
+                    while (rs.next()) {
+                        if (kinds != null) {
+                            // 流仅在当前行有效，读下一行前写入
+                            LobUtils.pipe(rs, write, kinds);
+                            write.executeUpdate();
+                            metrics.addRows(1);
+                            metrics.addBatch();
+                            continue;
+                        }
+
+                        Object[] row = new Object[width];
+                        for (int i = 0; i < width; i++) {
+                            row[i] = rs.getObject(i + 1);
+                        }
+
+                        batch.add(row);
+                        if (batch.size() == batchSize) {
+                            InsertUtils.bind(write, batch);
+                            write.executeUpdate();
+                            metrics.addRows(batch.size());
+                            metrics.addBatch();
+                            batch.clear();
+                        }
+                    }
+                }
+
+                if (!batch.isEmpty()) {
+                    String tail = InsertUtils.build(tableName, columnNames, batch.size());
+                    try (PreparedStatement stat = targetConn.prepareStatement(tail)) {
+                        InsertUtils.bind(stat, batch);
+                        stat.executeUpdate();
+                    }
+
+                    metrics.addRows(batch.size());
+                    metrics.addBatch();
+                }
+
+                targetConn.commit();
+                metrics.addChunk();
+            } catch (SQLException | RuntimeException e) {
+                targetConn.rollback();
+                throw e;
+            } finally {
+                targetConn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * 读取的 fetch size，MySQL 源库流式读取时为 {@link Integer#MIN_VALUE}
+     *
+     * @param conn the {@link Connection} instance，源库
+     * @return Fetch Size
+     * @throws SQLException if a database access error occurs
+     */
+    protected int readFetchSize(@NotNull Connection conn) throws SQLException {
+        if (streaming && "MySQL".equalsIgnoreCase(conn.getMetaData().getDatabaseProductName())) {
+            return Integer.MIN_VALUE;
+        }
+
+        return fetchSize;
+    }
+
+    @NotNull
+    public DataSource getSource() {
+        return source;
+    }
+
+    @NotNull
+    public DataSource getTarget() {
+        return target;
+    }
+
+    @NotNull
+    public TableReader getTableReader() {
+        return tableReader;
+    }
+
+    @NotNull
+    public TableWriter getTableWriter() {
+        return tableWriter;
+    }
+
+    @NotNull
+    public ChunkPlanner getChunkPlanner() {
+        return chunkPlanner;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public boolean isCreateTable() {
+        return createTable;
+    }
+
+    public void setCreateTable(boolean createTable) {
+        this.createTable = createTable;
+    }
+
+}
@@ -0,0 +1,168 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 表结构差异，合并为一条 ALTER TABLE
+ *
+ * @author changebooks@qq.com
+ */
+public final class TableDiff implements Serializable {
+    /**
+     * 变更算法，代价由低到高
+     */
+    public enum Algorithm {
+        /**
+         * 仅改元数据
+         */
+        INSTANT,
+
+        /**
+         * 原地变更，不阻塞读写
+         */
+        INPLACE,
+
+        /**
+         * 复制全表，阻塞写
+         */
+        COPY;
+
+        /**
+         * 取代价较高者
+         *
+         * @param other the {@link Algorithm} instance
+         * @return the {@link Algorithm} instance
+         */
+        public Algorithm max(Algorithm other) {
+            if (other == null) {
+                return this;
+            }
+
+            return other.ordinal() > ordinal() ? other : this;
+        }
+    }
+
+    /**
+     * 表名
+     */
+    private String tableName;
+
+    /**
+     * [ ADD COLUMN ... | MODIFY COLUMN ... | DROP INDEX ... ]
+     */
+    private List<String> clauses = new ArrayList<>();
+
+    /**
+     * 变更算法
+     */
+    private Algorithm algorithm = Algorithm.INSTANT;
+
+    /**
+     * 重建表？
+     */
+    private boolean rebuild;
+
+    /**
+     * 阻塞写？
+     */
+    private boolean blockWrites;
+
+    /**
+     * 无差异？
+     *
+     * @return Empty ?
+     */
+    public boolean isEmpty() {
+        return clauses == null || clauses.isEmpty();
+    }
+
+    /**
+     * 追加变更
+     *
+     * @param clause    ADD COLUMN ... | MODIFY COLUMN ... | DROP INDEX ...
+     * @param algorithm 该变更可用的最低代价算法
+     * @param rebuild   该变更是否重建表
+     */
+    public void add(String clause, Algorithm algorithm, boolean rebuild) {
+        add(clause, algorithm, rebuild, algorithm == Algorithm.COPY);
+    }
+
+    /**
+     * 追加变更
+     *
+     * @param clause      ADD COLUMN ... | MODIFY COLUMN ... | DROP INDEX ...
+     * @param algorithm   该变更可用的最低代价算法
+     * @param rebuild     该变更是否重建表
+     * @param blockWrites 该变更是否阻塞写
+     */
+    public void add(String clause, Algorithm algorithm, boolean rebuild, boolean blockWrites) {
+        getClauses().add(clause);
+        this.algorithm = getAlgorithm().max(algorithm);
+        this.rebuild = this.rebuild || rebuild;
+        this.blockWrites = this.blockWrites || blockWrites;
+    }
+
+    /**
+     * 锁级别，INSTANT 仅允许 DEFAULT
+     *
+     * @return DEFAULT | NONE | SHARED
+     */
+    public String getLock() {
+        if (getAlgorithm() == Algorithm.INSTANT) {
+            return "DEFAULT";
+        }
+
+        return blockWrites ? "SHARED" : "NONE";
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public List<String> getClauses() {
+        if (clauses == null) {
+            clauses = new ArrayList<>();
+        }
+
+        return clauses;
+    }
+
+    public void setClauses(List<String> clauses) {
+        this.clauses = clauses;
+    }
+
+    public Algorithm getAlgorithm() {
+        if (algorithm == null) {
+            algorithm = Algorithm.INSTANT;
+        }
+
+        return algorithm;
+    }
+
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public boolean isRebuild() {
+        return rebuild;
+    }
+
+    public void setRebuild(boolean rebuild) {
+        this.rebuild = rebuild;
+    }
+
+    public boolean isBlockWrites() {
+        return blockWrites;
+    }
+
+    public void setBlockWrites(boolean blockWrites) {
+        this.blockWrites = blockWrites;
+    }
+
+}
@@ -0,0 +1,769 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.*;
+
+/**
+ * 表结构比对，生成最少变更的 ALTER TABLE
+ * <p>
+ * 一张表的全部变更合并为一条语句，至多重建一次；
+ * 按各变更可用的最低代价算法，标注 ALGORITHM 及 LOCK；
+ * 不识别字段改名，不调整既有字段顺序
+ *
+ * @author changebooks@qq.com
+ */
+public class TableDiffer {
+    /**
+     * 可变长字段
+     */
+    private static final Set<String> VARIABLE_TYPES = Set.of("VARCHAR", "VARBINARY");
+
+    /**
+     * 变更需重建表的选项，改变行存储格式
+     */
+    private static final Set<String> REBUILD_OPTIONS = Set.of("ROW_FORMAT", "KEY_BLOCK_SIZE");
+
+    /**
+     * 变更需复制全表的选项
+     */
+    private static final Set<String> COPY_OPTIONS = Set.of("ENCRYPTION");
+
+    /**
+     * the {@link TableWriter} instance
+     */
+    private final TableWriter tableWriter;
+
+    /**
+     * MySQL 版本，主版本 * 10000 + 次版本 * 100 + 修订号，如 80029
+     * <p>
+     * 80012 起末尾加字段可 INSTANT，80029 起任意位置加、删字段可 INSTANT
+     */
+    private int serverVersion = 80029;
+
+    /**
+     * 比对 AUTO_INCREMENT？
+     */
+    private boolean compareAutoIncrement = false;
+
+    public TableDiffer() {
+        this(new TableWriter());
+    }
+
+    public TableDiffer(@NotNull TableWriter tableWriter) {
+        Objects.requireNonNull(tableWriter, "tableWriter must not be null");
+
+        this.tableWriter = tableWriter;
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param from 当前结构
+     * @param to   目标结构
+     * @return ALTER TABLE name ..., ALGORITHM=, LOCK=; or "" if no change
+     */
+    public String write(@NotNull Table from, @NotNull Table to) {
+        TableDiff diff = diff(from, to);
+        if (diff.isEmpty()) {
+            return "";
+        }
+
+        return "ALTER TABLE " + diff.getTableName() + "\n  " + String.join(",\n  ", diff.getClauses()) +
+                ",\n  ALGORITHM=" + diff.getAlgorithm() + ", LOCK=" + diff.getLock() + ";\n";
+    }
+
+    /**
+     * 比对
+     *
+     * @param from 当前结构
+     * @param to   目标结构
+     * @return the {@link TableDiff} instance
+     */
+    public TableDiff diff(@NotNull Table from, @NotNull Table to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+
+        TableDiff result = new TableDiff();
+        result.setTableName(tableWriter.getName(to));
+
+        Map<String, List<String>> fromKeys = readKeys(from);
+        Map<String, List<String>> toKeys = readKeys(to);
+
+        dropKeys(from, to, fromKeys, toKeys, result);
+        diffColumns(from, to, result);
+        addKeys(from, to, fromKeys, toKeys, result);
+        diffOptions(from, to, result);
+
+        return result;
+    }
+
+    /**
+     * 删除、改名索引，先于字段变更
+     *
+     * @param from     当前结构
+     * @param to       目标结构
+     * @param fromKeys [ Key Name : [ Column Name ] ]，当前
+     * @param toKeys   [ Key Name : [ Column Name ] ]，目标
+     * @param result   the {@link TableDiff} instance
+     */
+    protected void dropKeys(@NotNull Table from, @NotNull Table to,
+                            @NotNull Map<String, List<String>> fromKeys, @NotNull Map<String, List<String>> toKeys,
+                            @NotNull TableDiff result) {
+        List<String> fromPrimaryKey = readPrimaryKey(from);
+        List<String> toPrimaryKey = readPrimaryKey(to);
+        if (!fromPrimaryKey.isEmpty() && !fromPrimaryKey.equals(toPrimaryKey)) {
+            // 仅删除主键，InnoDB 需生成隐藏主键，只能复制
+            boolean copy = toPrimaryKey.isEmpty();
+            result.add("DROP PRIMARY KEY", copy ? TableDiff.Algorithm.COPY : TableDiff.Algorithm.INPLACE, true);
+        }
+
+        Set<String> renamed = new HashSet<>();
+        for (Map.Entry<String, List<String>> entry : fromKeys.entrySet()) {
+            String name = entry.getKey();
+            List<String> columnNames = entry.getValue();
+
+            List<String> target = findIgnoreCase(toKeys, name);
+            if (columnNames.equals(target)) {
+                continue;
+            }
+
+            if (target == null) {
+                String newName = findRename(fromKeys, toKeys, columnNames, renamed);
+                if (newName != null) {
+                    renamed.add(newName.toLowerCase());
+                    result.add("RENAME INDEX " + name + " TO " + newName, TableDiff.Algorithm.INPLACE, false);
+                    continue;
+                }
+            }
+
+            result.add("DROP INDEX " + name, TableDiff.Algorithm.INPLACE, false);
+        }
+
+        // 改名的索引，无需再建
+        toKeys.keySet().removeIf(x -> renamed.contains(x.toLowerCase()));
+    }
+
+    /**
+     * 新增索引，后于字段变更
+     *
+     * @param from     当前结构
+     * @param to       目标结构
+     * @param fromKeys [ Key Name : [ Column Name ] ]，当前
+     * @param toKeys   [ Key Name : [ Column Name ] ]，目标，不含改名的索引
+     * @param result   the {@link TableDiff} instance
+     */
+    protected void addKeys(@NotNull Table from, @NotNull Table to,
+                           @NotNull Map<String, List<String>> fromKeys, @NotNull Map<String, List<String>> toKeys,
+                           @NotNull TableDiff result) {
+        List<String> fromPrimaryKey = readPrimaryKey(from);
+        List<String> toPrimaryKey = readPrimaryKey(to);
+        if (!toPrimaryKey.isEmpty() && !toPrimaryKey.equals(fromPrimaryKey)) {
+            // 既有可空字段转为主键，不能原地变更
+            boolean copy = normalize(to.getPrimaryKey()).stream()
+                    .map(x -> findColumn(from, x))
+                    .anyMatch(x -> x != null && x.isNullable());
+            result.add("ADD " + KeyUtils.build("PRIMARY", "", to.getPrimaryKey(), KeyUtils.findOption(to.getKeyOptions(), "PRIMARY")),
+                    copy ? TableDiff.Algorithm.COPY : TableDiff.Algorithm.INPLACE, true);
+        }
+
+        Set<String> uniqueNames = readUniqueNames(to);
+        boolean hasFulltext = hasFulltext(fromKeys);
+        for (Map.Entry<String, List<String>> entry : toKeys.entrySet()) {
+            String name = entry.getKey();
+            List<String> columnNames = entry.getValue();
+            Key option = KeyUtils.findOption(to.getKeyOptions(), name);
+
+            if (columnNames.equals(findIgnoreCase(fromKeys, name))) {
+                // 仅可见性变化，只改元数据
+                Key fromOption = KeyUtils.findOption(from.getKeyOptions(), name);
+                boolean invisible = option != null && option.isInvisible();
+                if (invisible != (fromOption != null && fromOption.isInvisible())) {
+                    result.add("ALTER INDEX " + name + (invisible ? " INVISIBLE" : " VISIBLE"), TableDiff.Algorithm.INPLACE, false);
+                }
+
+                continue;
+            }
+
+            String prefix = uniqueNames.contains(name.toLowerCase()) ? "UNIQUE" : "";
+            String clause = "ADD " + KeyUtils.build(prefix, name, readKeyColumns(to, name), option);
+
+            Key.Type type = option != null ? option.getType() : null;
+            if (type == Key.Type.FULLTEXT) {
+                // 首个全文索引需加 FTS_DOC_ID，重建表；全文索引不允许并发写
+                result.add(clause, TableDiff.Algorithm.INPLACE, !hasFulltext, true);
+                hasFulltext = true;
+            } else if (type == Key.Type.SPATIAL) {
+                result.add(clause, TableDiff.Algorithm.INPLACE, false, true);
+            } else {
+                result.add(clause, TableDiff.Algorithm.INPLACE, false);
+            }
+        }
+    }
+
+    /**
+     * 字段变更
+     *
+     * @param from   当前结构
+     * @param to     目标结构
+     * @param result the {@link TableDiff} instance
+     */
+    protected void diffColumns(@NotNull Table from, @NotNull Table to, @NotNull TableDiff result) {
+        List<Column> fromColumns = readColumns(from);
+        List<Column> toColumns = readColumns(to);
+
+        Map<String, Column> fromMap = new HashMap<>();
+        for (Column column : fromColumns) {
+            fromMap.put(column.getName().trim().toLowerCase(), column);
+        }
+
+        Set<String> toNames = new HashSet<>();
+        for (Column column : toColumns) {
+            toNames.add(column.getName().trim().toLowerCase());
+        }
+
+        boolean instantDrop = serverVersion >= 80029;
+        for (Column column : fromColumns) {
+            if (!toNames.contains(column.getName().trim().toLowerCase())) {
+                result.add("DROP COLUMN " + getColumnWriter().getName(column),
+                        instantDrop ? TableDiff.Algorithm.INSTANT : TableDiff.Algorithm.INPLACE, !instantDrop);
+            }
+        }
+
+        // 末个既有字段的位置，其后新增的字段无需指定位置
+        int lastExisting = -1;
+        for (int i = 0; i < toColumns.size(); i++) {
+            if (fromMap.containsKey(toColumns.get(i).getName().trim().toLowerCase())) {
+                lastExisting = i;
+            }
+        }
+
+        for (int i = 0; i < toColumns.size(); i++) {
+            Column column = toColumns.get(i);
+            Column current = fromMap.get(column.getName().trim().toLowerCase());
+            if (current == null) {
+                addColumn(toColumns, i, i > lastExisting, result);
+            } else {
+                modifyColumn(to, current, column, result);
+            }
+        }
+    }
+
+    /**
+     * 新增字段
+     *
+     * @param columns  [ the {@link Column} instance ]，目标
+     * @param index    新增字段的位置
+     * @param appended 追加在末尾？
+     * @param result   the {@link TableDiff} instance
+     */
+    protected void addColumn(@NotNull List<Column> columns, int index, boolean appended, @NotNull TableDiff result) {
+        ColumnWriter columnWriter = getColumnWriter();
+        Column column = columns.get(index);
+
+        String position;
+        if (appended) {
+            position = "";
+        } else if (index == 0) {
+            position = " FIRST";
+        } else {
+            position = " AFTER " + columnWriter.getName(columns.get(index - 1));
+        }
+
+        String clause = "ADD COLUMN " + columnWriter.write(column).trim() + position;
+        if (column.isAutoIncrement()) {
+            // 新增自增字段，需逐行赋值，原地重建但阻塞写
+            result.add(clause, TableDiff.Algorithm.INPLACE, true, true);
+            return;
+        }
+
+        if (column.isGenerated() && column.isGeneratedStored()) {
+            // 新增 STORED 生成列，需逐行计算并写入
+            result.add(clause, TableDiff.Algorithm.COPY, true);
+            return;
+        }
+
+        boolean instant = appended ? serverVersion >= 80012 : serverVersion >= 80029;
+        result.add(clause, instant ? TableDiff.Algorithm.INSTANT : TableDiff.Algorithm.INPLACE, !instant);
+    }
+
+    /**
+     * 修改字段
+     *
+     * @param to      目标结构
+     * @param current 当前字段
+     * @param target  目标字段
+     * @param result  the {@link TableDiff} instance
+     */
+    protected void modifyColumn(@NotNull Table to, @NotNull Column current, @NotNull Column target,
+                                @NotNull TableDiff result) {
+        ColumnWriter columnWriter = getColumnWriter();
+
+        boolean typeChanged = !(columnWriter.getType(current) + columnWriter.getUnsigned(current))
+                .equalsIgnoreCase(columnWriter.getType(target) + columnWriter.getUnsigned(target));
+        boolean nullableChanged = current.isNullable() != target.isNullable();
+        boolean autoIncrementChanged = current.isAutoIncrement() != target.isAutoIncrement();
+        boolean generatedChanged = !columnWriter.getGenerated(current).equals(columnWriter.getGenerated(target));
+
+        String currentDefault = columnWriter.getDefaultValue(current);
+        String targetDefault = columnWriter.getDefaultValue(target);
+        boolean defaultChanged = !currentDefault.equals(targetDefault);
+        boolean remarkChanged = !columnWriter.getRemark(current).equals(columnWriter.getRemark(target));
+
+        if (!typeChanged && !nullableChanged && !autoIncrementChanged && !defaultChanged && !remarkChanged &&
+                !generatedChanged) {
+            return;
+        }
+
+        String name = columnWriter.getName(target);
+
+        // 仅默认值变更，只改元数据
+        if (!typeChanged && !nullableChanged && !autoIncrementChanged && !remarkChanged && !generatedChanged &&
+                isPlainDefault(currentDefault) && isPlainDefault(targetDefault)) {
+            String clause = targetDefault.isEmpty() ?
+                    "ALTER COLUMN " + name + " DROP DEFAULT" :
+                    "ALTER COLUMN " + name + " SET" + targetDefault;
+            result.add(clause, TableDiff.Algorithm.INSTANT, false);
+            return;
+        }
+
+        String clause = "MODIFY COLUMN " + columnWriter.write(target).trim();
+
+        if (autoIncrementChanged || generatedChanged || (typeChanged && !isVariableExtension(to, current, target))) {
+            result.add(clause, TableDiff.Algorithm.COPY, true);
+        } else if (nullableChanged) {
+            result.add(clause, TableDiff.Algorithm.INPLACE, true);
+        } else {
+            // 扩展可变长字段，长度前缀不变；默认值、备注变更
+            result.add(clause, TableDiff.Algorithm.INPLACE, false);
+        }
+    }
+
+    /**
+     * 表选项变更
+     *
+     * @param from   当前结构
+     * @param to     目标结构
+     * @param result the {@link TableDiff} instance
+     */
+    protected void diffOptions(@NotNull Table from, @NotNull Table to, @NotNull TableDiff result) {
+        String toEngine = tableWriter.getEngine(to);
+        if (!toEngine.isEmpty() && !toEngine.equalsIgnoreCase(tableWriter.getEngine(from))) {
+            result.add(toEngine.trim(), TableDiff.Algorithm.COPY, true);
+        }
+
+        // 表默认字符集变更重建表，阻塞写
+        String toCharset = tableWriter.getCharset(to);
+        if (!toCharset.isEmpty() && !toCharset.equalsIgnoreCase(tableWriter.getCharset(from))) {
+            result.add(toCharset.trim(), TableDiff.Algorithm.INPLACE, true, true);
+        }
+
+        String toCollate = tableWriter.getCollate(to);
+        if (!toCollate.isEmpty() && !toCollate.equalsIgnoreCase(tableWriter.getCollate(from))) {
+            result.add(toCollate.trim(), TableDiff.Algorithm.INPLACE, true, true);
+        }
+
+        diffTableOptions(from, to, result);
+
+        String toRemark = tableWriter.getRemark(to);
+        if (!toRemark.equals(tableWriter.getRemark(from))) {
+            String clause = toRemark.isEmpty() ? "COMMENT=''" : toRemark.trim();
+            result.add(clause, TableDiff.Algorithm.INPLACE, false);
+        }
+
+        if (compareAutoIncrement) {
+            String toAutoIncrement = tableWriter.getAutoIncrement(to);
+            if (!toAutoIncrement.isEmpty() && !toAutoIncrement.equals(tableWriter.getAutoIncrement(from))) {
+                result.add(toAutoIncrement.trim(), TableDiff.Algorithm.INPLACE, false);
+            }
+        }
+    }
+
+    /**
+     * ROW_FORMAT、KEY_BLOCK_SIZE 变更重建表；ENCRYPTION 变更复制全表；COMPRESSION、STATS_* 等只改元数据；
+     * 目标未指定的选项恢复默认值，无法恢复的忽略
+     *
+     * @param from   当前结构
+     * @param to     目标结构
+     * @param result the {@link TableDiff} instance
+     */
+    protected void diffTableOptions(@NotNull Table from, @NotNull Table to, @NotNull TableDiff result) {
+        Map<String, String> fromOptions = normalize(from.getOptions());
+        Map<String, String> toOptions = normalize(to.getOptions());
+
+        for (Map.Entry<String, String> entry : toOptions.entrySet()) {
+            String name = entry.getKey();
+            String value = entry.getValue();
+            if (!value.equalsIgnoreCase(fromOptions.get(name))) {
+                addOption(TableOptionUtils.build(name, value), name, result);
+            }
+        }
+
+        for (String name : fromOptions.keySet()) {
+            if (toOptions.containsKey(name)) {
+                continue;
+            }
+
+            String clause = TableOptionUtils.buildDefault(name);
+            if (clause != null) {
+                addOption(clause, name, result);
+            }
+        }
+    }
+
+    /**
+     * 追加选项变更，按选项标注算法
+     *
+     * @param clause ROW_FORMAT=COMPRESSED ...
+     * @param name   Option Name，大写
+     * @param result the {@link TableDiff} instance
+     */
+    private static void addOption(@NotNull String clause, @NotNull String name, @NotNull TableDiff result) {
+        if (COPY_OPTIONS.contains(name)) {
+            result.add(clause, TableDiff.Algorithm.COPY, true);
+        } else {
+            result.add(clause, TableDiff.Algorithm.INPLACE, REBUILD_OPTIONS.contains(name));
+        }
+    }
+
+    /**
+     * 可变长字段扩展，且长度前缀字节数不变？
+     *
+     * @param to      目标结构
+     * @param current 当前字段
+     * @param target  目标字段
+     * @return Extension ?
+     */
+    protected boolean isVariableExtension(@NotNull Table to, @NotNull Column current, @NotNull Column target) {
+        String currentTypeName = current.getTypeName();
+        String targetTypeName = target.getTypeName();
+        if (currentTypeName == null || targetTypeName == null) {
+            return false;
+        }
+
+        String typeName = currentTypeName.trim().toUpperCase();
+        if (!VARIABLE_TYPES.contains(typeName) || !typeName.equalsIgnoreCase(targetTypeName.trim())) {
+            return false;
+        }
+
+        if (target.getSize() < current.getSize()) {
+            return false;
+        }
+
+        int maxBytes = typeName.equals("VARBINARY") ? 1 : CharsetUtils.readMaxBytes(to.getCharset());
+        boolean currentLong = (long) current.getSize() * maxBytes > 255;
+        boolean targetLong = (long) target.getSize() * maxBytes > 255;
+        return currentLong == targetLong;
+    }
+
+    /**
+     * 普通默认值，可 SET DEFAULT / DROP DEFAULT？
+     *
+     * @param defaultValue DEFAULT '0' | AUTO_INCREMENT | ON UPDATE ...
+     * @return Plain ?
+     */
+    private static boolean isPlainDefault(@NotNull String defaultValue) {
+        return !defaultValue.contains(" AUTO_INCREMENT") && !defaultValue.contains(" ON UPDATE ");
+    }
+
+    /**
+     * 改名的索引，字段相同，名字不同
+     *
+     * @param fromKeys    [ Key Name : [ Column Name ] ]，当前
+     * @param toKeys      [ Key Name : [ Column Name ] ]，目标
+     * @param columnNames [ Column Name ]，当前索引
+     * @param renamed     [ 已匹配的新索引名 ]
+     * @return 新索引名，无则为 null
+     */
+    private static String findRename(@NotNull Map<String, List<String>> fromKeys,
+                                     @NotNull Map<String, List<String>> toKeys,
+                                     @NotNull List<String> columnNames, @NotNull Set<String> renamed) {
+        for (Map.Entry<String, List<String>> entry : toKeys.entrySet()) {
+            String name = entry.getKey();
+            if (renamed.contains(name.toLowerCase()) || findIgnoreCase(fromKeys, name) != null) {
+                continue;
+            }
+
+            if (columnNames.equals(entry.getValue())) {
+                return name;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 唯一索引及普通索引，首元素为 UNIQUE | FULLTEXT | SPATIAL | ""，其后为小写字段名，含前缀长度及倒序
+     *
+     * @param table the {@link Table} instance
+     * @return [ Key Name : [ Prefix, Column Name ] ]
+     */
+    private static Map<String, List<String>> readKeys(@NotNull Table table) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        putKeys(result, "UNIQUE", table.getUniqueKeys(), table.getKeyOptions());
+        putKeys(result, "", table.getKeys(), table.getKeyOptions());
+        return result;
+    }
+
+    /**
+     * 主键，小写，含前缀长度及倒序
+     *
+     * @param table the {@link Table} instance
+     * @return [ Column Name ]
+     */
+    private static List<String> readPrimaryKey(@NotNull Table table) {
+        return normalize(table.getPrimaryKey(), KeyUtils.findOption(table.getKeyOptions(), "PRIMARY"));
+    }
+
+    /**
+     * 含全文索引？
+     *
+     * @param keys [ Key Name : [ Prefix, Column Name ] ]
+     * @return Has FULLTEXT ?
+     */
+    private static boolean hasFulltext(@NotNull Map<String, List<String>> keys) {
+        for (List<String> value : keys.values()) {
+            if (value.get(0).startsWith(Key.Type.FULLTEXT.name())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 按名排序放入
+     *
+     * @param result [ Key Name : [ Prefix, Column Name ] ]
+     * @param prefix UNIQUE | ""
+     * @param keys    [ Key Name : [ Column Name ] ]
+     * @param options [ Key Name : the {@link Key} instance ]
+     */
+    private static void putKeys(@NotNull Map<String, List<String>> result, @NotNull String prefix,
+                                Map<String, List<String>> keys, Map<String, Key> options) {
+        if (keys == null) {
+            return;
+        }
+
+        for (Map.Entry<String, List<String>> entry : new TreeMap<>(keys).entrySet()) {
+            String name = entry.getKey();
+            if (name == null || name.trim().isEmpty()) {
+                continue;
+            }
+
+            Key option = KeyUtils.findOption(options, name);
+            List<String> columnNames = normalize(entry.getValue(), option);
+            if (columnNames.isEmpty()) {
+                continue;
+            }
+
+            List<String> value = new ArrayList<>(columnNames.size() + 1);
+            value.add(readKeyPrefix(prefix, option));
+            value.addAll(columnNames);
+            result.put(name.trim(), value);
+        }
+    }
+
+    /**
+     * [ 唯一索引名，小写 ]
+     *
+     * @param table the {@link Table} instance
+     * @return [ Key Name ]
+     */
+    private static Set<String> readUniqueNames(@NotNull Table table) {
+        Map<String, List<String>> uniqueKeys = table.getUniqueKeys();
+        if (uniqueKeys == null) {
+            return Collections.emptySet();
+        }
+
+        Set<String> result = new HashSet<>();
+        for (String name : uniqueKeys.keySet()) {
+            if (name != null) {
+                result.add(name.trim().toLowerCase());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 索引字段，保留原始大小写
+     *
+     * @param table the {@link Table} instance
+     * @param name  Key Name
+     * @return [ Column Name ]
+     */
+    private static List<String> readKeyColumns(@NotNull Table table, @NotNull String name) {
+        for (Map<String, List<String>> keys : Arrays.asList(table.getUniqueKeys(), table.getKeys())) {
+            if (keys == null) {
+                continue;
+            }
+
+            for (Map.Entry<String, List<String>> entry : keys.entrySet()) {
+                if (entry.getKey() != null && name.equalsIgnoreCase(entry.getKey().trim())) {
+                    return entry.getValue();
+                }
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * 按名取值，忽略大小写
+     *
+     * @param data [ Key Name : [ Column Name ] ]
+     * @param name Key Name
+     * @return [ Column Name ]
+     */
+    private static List<String> findIgnoreCase(@NotNull Map<String, List<String>> data, @NotNull String name) {
+        for (Map.Entry<String, List<String>> entry : data.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 字段名去空、小写
+     *
+     * @param columnNames [ Column Name ]
+     * @return [ Column Name ]
+     */
+    private static List<String> normalize(List<String> columnNames) {
+        if (columnNames == null) {
+            return Collections.emptyList();
+        }
+
+        return columnNames.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(x -> !x.isEmpty())
+                .map(String::toLowerCase)
+                .toList();
+    }
+
+    /**
+     * 字段名去空、小写，含前缀长度及倒序
+     *
+     * @param columnNames [ Column Name ]
+     * @param option      the {@link Key} instance，索引选项，可为 null
+     * @return [ column(length) desc ]
+     */
+    private static List<String> normalize(List<String> columnNames, Key option) {
+        if (option == null) {
+            return normalize(columnNames);
+        }
+
+        if (columnNames == null) {
+            return Collections.emptyList();
+        }
+
+        return columnNames.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(x -> !x.isEmpty())
+                .map(x -> KeyUtils.buildPart(x, option).toLowerCase())
+                .toList();
+    }
+
+    /**
+     * 大写选项名，去除空值
+     *
+     * @param options [ Option Name : Value ]
+     * @return [ OPTION NAME : Value ]
+     */
+    private static Map<String, String> normalize(Map<String, String> options) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (options == null) {
+            return result;
+        }
+
+        for (Map.Entry<String, String> entry : options.entrySet()) {
+            if (AppendUtils.isBlank(entry.getKey()) || AppendUtils.isBlank(entry.getValue())) {
+                continue;
+            }
+
+            result.put(entry.getKey().trim().toUpperCase(), entry.getValue().trim());
+        }
+
+        return result;
+    }
+
+    /**
+     * 索引前缀，全文、空间索引替换，哈希索引附加 USING HASH
+     *
+     * @param prefix UNIQUE | ""
+     * @param option the {@link Key} instance，索引选项，可为 null
+     * @return UNIQUE | FULLTEXT | SPATIAL | ""
+     */
+    private static String readKeyPrefix(@NotNull String prefix, Key option) {
+        Key.Type type = option != null ? option.getType() : null;
+        if (type == Key.Type.FULLTEXT || type == Key.Type.SPATIAL) {
+            return type.name();
+        }
+
+        return type == Key.Type.HASH ? prefix + " USING HASH" : prefix;
+    }
+
+    /**
+     * [ 有名字段 ]
+     *
+     * @param table the {@link Table} instance
+     * @return [ the {@link Column} instance ]
+     */
+    private static List<Column> readColumns(@NotNull Table table) {
+        List<Column> columns = table.getColumns();
+        if (columns == null) {
+            return Collections.emptyList();
+        }
+
+        return columns.stream()
+                .filter(Objects::nonNull)
+                .filter(x -> x.getName() != null && !x.getName().trim().isEmpty())
+                .toList();
+    }
+
+    /**
+     * 按名取字段
+     *
+     * @param table      the {@link Table} instance
+     * @param columnName Column Name
+     * @return the {@link Column} instance
+     */
+    private static Column findColumn(@NotNull Table table, @NotNull String columnName) {
+        return readColumns(table).stream()
+                .filter(x -> columnName.equalsIgnoreCase(x.getName().trim()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @NotNull
+    public ColumnWriter getColumnWriter() {
+        return tableWriter.getColumnWriter();
+    }
+
+    @NotNull
+    public TableWriter getTableWriter() {
+        return tableWriter;
+    }
+
+    public int getServerVersion() {
+        return serverVersion;
+    }
+
+    public void setServerVersion(int serverVersion) {
+        this.serverVersion = serverVersion;
+    }
+
+    public boolean isCompareAutoIncrement() {
+        return compareAutoIncrement;
+    }
+
+    public void setCompareAutoIncrement(boolean compareAutoIncrement) {
+        this.compareAutoIncrement = compareAutoIncrement;
+    }
+
+}
@@ -0,0 +1,201 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 表选项，ROW_FORMAT、KEY_BLOCK_SIZE、COMPRESSION、STATS_PERSISTENT 等
+ * <p>
+ * 取自 INFORMATION_SCHEMA.TABLES.CREATE_OPTIONS，仅含建表时显式指定的选项
+ *
+ * @author changebooks@qq.com
+ */
+public final class TableOptionUtils {
+    /**
+     * 选项正则，name=value | name="value"
+     */
+    private static final Pattern OPTION_PATTERN = Pattern.compile("(\\w+)\\s*=\\s*(\"[^\"]*\"|'[^']*'|\\S+)");
+
+    /**
+     * 字符串值的选项，写出时加引号
+     */
+    private static final Set<String> QUOTED_OPTIONS = Set.of("COMPRESSION", "ENCRYPTION", "CONNECTION");
+
+    /**
+     * 恢复默认值，可写 DEFAULT 的选项
+     */
+    private static final Set<String> DEFAULT_OPTIONS = Set.of(
+            "ROW_FORMAT",
+            "STATS_PERSISTENT",
+            "STATS_AUTO_RECALC",
+            "STATS_SAMPLE_PAGES",
+            "PACK_KEYS"
+    );
+
+    /**
+     * 恢复默认值，不接受 DEFAULT 的选项
+     */
+    private static final Map<String, String> DEFAULT_VALUES = Map.of(
+            "KEY_BLOCK_SIZE", "0",
+            "COMPRESSION", "None",
+            "ENCRYPTION", "N",
+            "MAX_ROWS", "0",
+            "MIN_ROWS", "0",
+            "AVG_ROW_LENGTH", "0",
+            "CHECKSUM", "0",
+            "DELAY_KEY_WRITE", "0"
+    );
+
+    private TableOptionUtils() {
+    }
+
+    /**
+     * Read Options
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return [ Option Name : Value ]，大写选项名，按出现顺序
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static Map<String, String> read(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        Map<String, String> result = read(conn, tableName, " AND TABLE_NAME = ?").get(tableName);
+        return result != null ? result : new LinkedHashMap<>();
+    }
+
+    /**
+     * Read All Options，一次查询全库
+     *
+     * @param conn the {@link Connection} instance
+     * @return [ Table Name : [ Option Name : Value ] ], ordered by name
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static Map<String, Map<String, String>> readAll(@NotNull Connection conn) throws SQLException {
+        return read(conn, null, "");
+    }
+
+    private static Map<String, Map<String, String>> read(@NotNull Connection conn, String tableName,
+                                                         @NotNull String condition) throws SQLException {
+        String command = "SELECT TABLE_NAME, CREATE_OPTIONS FROM INFORMATION_SCHEMA.TABLES " +
+                "WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE'" + condition;
+
+        Map<String, Map<String, String>> result = new TreeMap<>();
+        try (PreparedStatement stat = conn.prepareStatement(command)) {
+            MetadataTimeout.apply(stat);
+
+            String tableSchema = conn.getCatalog();
+
+            stat.setString(1, tableSchema);
+            if (tableName != null) {
+                stat.setString(2, tableName);
+            }
+
+            try (ResultSet rs = stat.executeQuery()) {
+                MetadataTrace.roundTrip();
+                while (rs.next()) {
+                    MetadataTrace.rows(1);
+                    String name = rs.getString("TABLE_NAME");
+                    if (name != null) {
+                        result.put(name, parse(rs.getString("CREATE_OPTIONS")));
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 解析 CREATE_OPTIONS，忽略无值的标记，如 partitioned
+     *
+     * @param createOptions 如 row_format=COMPRESSED KEY_BLOCK_SIZE=8 COMPRESSION="zlib"
+     * @return [ Option Name : Value ]，大写选项名，值不含引号
+     */
+    public static Map<String, String> parse(String createOptions) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (createOptions == null) {
+            return result;
+        }
+
+        Matcher matcher = OPTION_PATTERN.matcher(createOptions);
+        while (matcher.find()) {
+            String value = matcher.group(2);
+            if (value.length() >= 2 && (value.charAt(0) == '"' || value.charAt(0) == '\'')) {
+                value = value.substring(1, value.length() - 1);
+            }
+
+            result.put(matcher.group(1).toUpperCase(), value);
+        }
+
+        return result;
+    }
+
+    /**
+     * Build SQL，空值不写出
+     *
+     * @param options [ Option Name : Value ]
+     * @return " ROW_FORMAT=COMPRESSED KEY_BLOCK_SIZE=8"，无选项为 ""
+     */
+    public static String build(Map<String, String> options) {
+        if (options == null || options.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<String, String> entry : options.entrySet()) {
+            if (AppendUtils.isBlank(entry.getKey()) || AppendUtils.isBlank(entry.getValue())) {
+                continue;
+            }
+
+            result.append(' ').append(build(entry.getKey(), entry.getValue()));
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param name  Option Name
+     * @param value Value
+     * @return ROW_FORMAT=COMPRESSED | COMPRESSION='zlib'
+     */
+    public static String build(@NotNull String name, @NotNull String value) {
+        String upperName = name.trim().toUpperCase();
+        String trimmedValue = value.trim();
+        if (QUOTED_OPTIONS.contains(upperName)) {
+            return upperName + "='" + trimmedValue + "'";
+        } else {
+            return upperName + "=" + trimmedValue;
+        }
+    }
+
+    /**
+     * 恢复默认值
+     *
+     * @param name Option Name
+     * @return ROW_FORMAT=DEFAULT | KEY_BLOCK_SIZE=0 | COMPRESSION='None'，无法恢复的选项为 null
+     */
+    public static String buildDefault(@NotNull String name) {
+        String upperName = name.trim().toUpperCase();
+        if (DEFAULT_OPTIONS.contains(upperName)) {
+            return build(upperName, "DEFAULT");
+        }
+
+        String value = DEFAULT_VALUES.get(upperName);
+        return value != null ? build(upperName, value) : null;
+    }
+
+}
@@ -7,12 +7,15 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * 表描述
+ * <p>
+ * 可设置单语句超时及单表读取的总超时，超时抛出 {@link java.sql.SQLTimeoutException}，注明超时的阶段
  *
  * @author changebooks@qq.com
  */
@@ -27,6 +30,16 @@ public class TableReader {
      */
     private final ColumnReader columnReader;
 
+    /**
+     * 单语句超时，null 为不限
+     */
+    private Duration statementTimeout;
+
+    /**
+     * 单表读取的总超时，null 为不限
+     */
+    private Duration readTimeout;
+
     public TableReader() {
         this.columnReader = new ColumnReader();
     }
@@ -49,32 +62,111 @@ public class TableReader {
      *                      this method is called on a closed result set
      */
     public Table read(@NotNull Connection conn, @NotBlank String tableName) throws SQLException {
-        DatabaseMetaData metaData = conn.getMetaData();
-        String catalog = conn.getCatalog();
+        return read(conn, tableName, null);
+    }
 
-        ResultSet rs = metaData.getTables(catalog, null, tableName, new String[]{"TABLE"});
-        if (rs == null) {
-            return null;
+    /**
+     * Read Table，表选项及分区取自全库的预读，不再逐表查询
+     *
+     * @param conn           the {@link Connection} instance
+     * @param tableName      Table Name
+     * @param catalogOptions the {@link CatalogOptions} instance，null 时逐表查询
+     * @return the {@link Table} instance
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public Table read(@NotNull Connection conn, @NotBlank String tableName,
+                      CatalogOptions catalogOptions) throws SQLException {
+        if (statementTimeout == null && readTimeout == null) {
+            return readTable(conn, tableName, catalogOptions);
+        }
+
+        MetadataTimeout timeout = new MetadataTimeout(statementTimeout, readTimeout);
+        MetadataTimeout.Scope scope = timeout.enter();
+        try {
+            return readTable(conn, tableName, catalogOptions);
+        } catch (SQLException e) {
+            throw timeout.translate(e);
+        } finally {
+            scope.close();
         }
+    }
+
+    /**
+     * Read Table，不设超时，沿用当前线程的 {@link MetadataTimeout}
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return the {@link Table} instance
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    protected Table readTable(@NotNull Connection conn, @NotBlank String tableName) throws SQLException {
+        return readTable(conn, tableName, null);
+    }
 
-        try (rs) {
-            if (rs.next()) {
-                Table result = new Table();
-
-                setName(result, rs, metaData, catalog, conn);
-                setRemark(result, rs, metaData, catalog, conn);
-                setEngine(result, rs, metaData, catalog, conn);
-                setCharset(result, rs, metaData, catalog, conn);
-                setCollate(result, rs, metaData, catalog, conn);
-                setAutoIncrement(result, rs, metaData, catalog, conn);
-                setColumns(result, metaData, catalog, conn);
-                setKeys(result, conn);
-
-                afterPropertiesSet(result, rs, metaData, catalog, conn);
-                return result;
-            } else {
+    /**
+     * Read Table，不设超时，沿用当前线程的 {@link MetadataTimeout}
+     *
+     * @param conn           the {@link Connection} instance
+     * @param tableName      Table Name
+     * @param catalogOptions the {@link CatalogOptions} instance，null 时逐表查询
+     * @return the {@link Table} instance
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    protected Table readTable(@NotNull Connection conn, @NotBlank String tableName,
+                              CatalogOptions catalogOptions) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.TABLE, null, tableName)) {
+            DatabaseMetaData metaData = conn.getMetaData();
+            String catalog = conn.getCatalog();
+            trace.setCatalog(catalog);
+
+            MetadataTimeout.check();
+            ResultSet rs = metaData.getTables(catalog, null, tableName, new String[]{"TABLE"});
+            trace.addRoundTrip();
+            if (rs == null) {
                 return null;
             }
+
+            try (rs) {
+                if (rs.next()) {
+                    trace.addRows(1);
+                    Table result = new Table();
+
+                    setName(result, rs, metaData, catalog, conn);
+                    setRemark(result, rs, metaData, catalog, conn);
+                    setEngine(result, rs, metaData, catalog, conn);
+                    setCharset(result, rs, metaData, catalog, conn);
+                    setCollate(result, rs, metaData, catalog, conn);
+                    setAutoIncrement(result, rs, metaData, catalog, conn);
+                    if (catalogOptions != null) {
+                        result.setOptions(catalogOptions.getOptions(result.getName()));
+                    } else {
+                        setOptions(result, conn);
+                    }
+
+                    setKeys(result, conn);
+                    setColumns(result, metaData, catalog, conn);
+
+                    if (catalogOptions != null) {
+                        result.setPartitioning(catalogOptions.getPartitioning(result.getName()));
+                    } else {
+                        setPartitioning(result, conn);
+                    }
+
+                    afterPropertiesSet(result, rs, metaData, catalog, conn);
+                    return result;
+                } else {
+                    return null;
+                }
+            }
         }
     }
 
@@ -244,28 +336,33 @@ public class TableReader {
     protected void setColumns(@NotNull Table record,
                               @NotNull DatabaseMetaData metaData, @NotNull String catalog,
                               @NotNull Connection conn) throws SQLException {
-        String tableName = record.getName();
-        if (tableName == null) {
-            return;
-        }
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.COLUMNS, null, record.getName())) {
+            String tableName = record.getName();
+            if (tableName == null) {
+                return;
+            }
 
-        ResultSet rs = metaData.getColumns(catalog, null, tableName, null);
-        if (rs == null) {
-            return;
-        }
+            MetadataTimeout.check();
+            ResultSet rs = metaData.getColumns(catalog, null, tableName, null);
+            trace.addRoundTrip();
+            if (rs == null) {
+                return;
+            }
 
-        ColumnReader columnReader = getColumnReader();
-        List<Column> columns = new ArrayList<>();
+            ColumnReader columnReader = getColumnReader();
+            List<Column> columns = new ArrayList<>();
 
-        try (rs) {
-            List<String> primaryKey = record.getPrimaryKey();
-            while (rs.next()) {
-                Column column = columnReader.read(rs, conn, tableName, primaryKey);
-                columns.add(column);
+            try (rs) {
+                List<String> primaryKey = record.getPrimaryKey();
+                while (rs.next()) {
+                    trace.addRows(1);
+                    Column column = columnReader.read(rs, conn, tableName, primaryKey);
+                    columns.add(column);
+                }
             }
-        }
 
-        record.setColumns(columns);
+            record.setColumns(columns);
+        }
     }
 
     /**
@@ -293,6 +390,49 @@ public class TableReader {
         setPrimaryKey(record, keys);
         setUniqueKeys(record, keys);
         setKeys(record, keys);
+        setKeyOptions(record, keys);
+    }
+
+    /**
+     * 表选项，ROW_FORMAT、KEY_BLOCK_SIZE、COMPRESSION、STATS_PERSISTENT 等
+     *
+     * @param record the {@link Table} instance
+     * @param conn   the {@link Connection} instance
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    protected void setOptions(@NotNull Table record,
+                              @NotNull Connection conn) throws SQLException {
+        String tableName = record.getName();
+        if (tableName == null) {
+            return;
+        }
+
+        Map<String, String> options = TableOptionUtils.read(conn, tableName);
+        record.setOptions(options);
+    }
+
+    /**
+     * 分区
+     *
+     * @param record the {@link Table} instance
+     * @param conn   the {@link Connection} instance
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    protected void setPartitioning(@NotNull Table record,
+                                   @NotNull Connection conn) throws SQLException {
+        String tableName = record.getName();
+        if (tableName == null) {
+            return;
+        }
+
+        Partitioning partitioning = PartitionUtils.read(conn, tableName);
+        record.setPartitioning(partitioning);
     }
 
     /**
@@ -370,6 +510,29 @@ public class TableReader {
         record.setKeys(data);
     }
 
+    /**
+     * 索引选项，前缀长度、倒序、类型、可见性，仅保留非默认选项的索引
+     *
+     * @param record the {@link Table} instance
+     * @param keys   [ the {@link Key} instance ]
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    protected void setKeyOptions(@NotNull Table record,
+                                 @NotNull List<Key> keys) throws SQLException {
+        Map<String, Key> data = keys.stream()
+                .filter(Objects::nonNull)
+                .filter(Predicate.not(Key::isPlain))
+                .collect(Collectors.toMap(Key::getName, x -> x, (x, y) -> y));
+        if (data.isEmpty()) {
+            return;
+        }
+
+        record.setKeyOptions(data);
+    }
+
     /**
      * After Properties Set
      *
@@ -394,4 +557,20 @@ public class TableReader {
         return columnReader;
     }
 
+    public Duration getStatementTimeout() {
+        return statementTimeout;
+    }
+
+    public void setStatementTimeout(Duration statementTimeout) {
+        this.statementTimeout = statementTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
 }
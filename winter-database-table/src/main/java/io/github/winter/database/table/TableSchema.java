@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotNull;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 表概要
@@ -20,11 +21,21 @@ public final class TableSchema implements Serializable {
      */
     private String tableName;
 
+    /**
+     * 表结构哈希，{@link SchemaHash#hash(Table)}，读取时计算
+     */
+    private long schemaHash;
+
     /**
      * Primary Key
      */
     private String idName;
 
+    /**
+     * Primary Key，[ Column Name ] in key order
+     */
+    private List<String> idNames = new ArrayList<>();
+
     /**
      * [ Column ]
      */
@@ -40,6 +51,16 @@ public final class TableSchema implements Serializable {
      */
     private Set<String> columnsOnAutoIncrement = new HashSet<>();
 
+    /**
+     * [ GENERATED ALWAYS AS ]，不可写入
+     */
+    private Set<String> columnsOnGenerated = new HashSet<>();
+
+    /**
+     * [ Column Name : 大字段读写方式 ]，长度超过 {@link LobUtils#STREAM_THRESHOLD} 的 TEXT / BLOB
+     */
+    private Map<String, LobUtils.Kind> columnsOnLob = new HashMap<>();
+
     /**
      * [ Column Name : Value Type ]
      */
@@ -85,6 +106,16 @@ public final class TableSchema implements Serializable {
      */
     private Set<String> defaultCurrentDateOnUpdate = new HashSet<>();
 
+    /**
+     * [ IN-list Size : SELECT column, column FROM table WHERE id IN (?, ?) ] used for multi-get
+     */
+    private Map<Integer, String> selectByIds = new HashMap<>();
+
+    /**
+     * [ Projection Name : Projection ] used for SELECT
+     */
+    private Map<String, Projection> projections = new ConcurrentHashMap<>();
+
     @NotNull
     public String getTableName() {
         return tableName != null ? tableName : "";
@@ -94,6 +125,14 @@ public final class TableSchema implements Serializable {
         this.tableName = tableName != null ? tableName.trim() : "";
     }
 
+    public long getSchemaHash() {
+        return schemaHash;
+    }
+
+    public void setSchemaHash(long schemaHash) {
+        this.schemaHash = schemaHash;
+    }
+
     @NotNull
     public String getIdName() {
         return idName != null ? idName : "";
@@ -103,6 +142,15 @@ public final class TableSchema implements Serializable {
         this.idName = idName != null ? idName.trim() : "";
     }
 
+    @NotNull
+    public List<String> getIdNames() {
+        return idNames;
+    }
+
+    public void setIdNames(List<String> idNames) {
+        this.idNames = idNames != null ? idNames : new ArrayList<>();
+    }
+
     @NotNull
     public List<Column> getColumns() {
         return columns;
@@ -130,6 +178,24 @@ public final class TableSchema implements Serializable {
         this.columnsOnAutoIncrement = columnsOnAutoIncrement != null ? columnsOnAutoIncrement : new HashSet<>();
     }
 
+    @NotNull
+    public Set<String> getColumnsOnGenerated() {
+        return columnsOnGenerated;
+    }
+
+    public void setColumnsOnGenerated(Set<String> columnsOnGenerated) {
+        this.columnsOnGenerated = columnsOnGenerated != null ? columnsOnGenerated : new HashSet<>();
+    }
+
+    @NotNull
+    public Map<String, LobUtils.Kind> getColumnsOnLob() {
+        return columnsOnLob;
+    }
+
+    public void setColumnsOnLob(Map<String, LobUtils.Kind> columnsOnLob) {
+        this.columnsOnLob = columnsOnLob != null ? columnsOnLob : new HashMap<>();
+    }
+
     @NotNull
     public Map<String, Class<?>> getValueTypes() {
         return valueTypes;
@@ -211,4 +277,22 @@ public final class TableSchema implements Serializable {
         this.defaultCurrentDateOnUpdate = defaultCurrentDateOnUpdate != null ? defaultCurrentDateOnUpdate : new HashSet<>();
     }
 
+    @NotNull
+    public Map<Integer, String> getSelectByIds() {
+        return selectByIds;
+    }
+
+    public void setSelectByIds(Map<Integer, String> selectByIds) {
+        this.selectByIds = selectByIds != null ? selectByIds : new HashMap<>();
+    }
+
+    @NotNull
+    public Map<String, Projection> getProjections() {
+        return projections;
+    }
+
+    public void setProjections(Map<String, Projection> projections) {
+        this.projections = projections != null ? projections : new ConcurrentHashMap<>();
+    }
+
 }
@@ -0,0 +1,535 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+
+/**
+ * 表概要代码生成，构建时执行
+ * <p>
+ * 连接本地库读取指定的表，生成 Java 源码：每张表一个内部类，含常量 {@link TableSchema}、
+ * 预生成的 SQL、字段序号、表结构哈希 {@link SchemaHash} 及指纹；运行时无需读取元数据，
+ * 以 {@link #verify(Connection, Map)} 一次查询校验线上库与生成时一致
+ * <p>
+ * 构建时由 winter-database-table-maven-plugin 调用
+ *
+ * @author changebooks@qq.com
+ */
+public class TableSchemaGenerator {
+    /**
+     * 缩进
+     */
+    private static final String INDENT = "    ";
+
+    /**
+     * 本包前缀，生成的源码一律用全限定名，表名生成的类名不会遮蔽
+     */
+    private static final String PACKAGE = "io.github.winter.database.table.";
+
+    /**
+     * 保留的类名，与外部类、内部类 Ordinal 同名时加序号
+     */
+    private static final Set<String> RESERVED_NAMES = Set.of("Ordinal");
+
+    /**
+     * the {@link TableReader} instance
+     */
+    private final TableReader tableReader;
+
+    /**
+     * 包名
+     */
+    private String packageName;
+
+    /**
+     * 类名
+     */
+    private String className = "Schemas";
+
+    public TableSchemaGenerator() {
+        this(new TableReader());
+    }
+
+    public TableSchemaGenerator(@NotNull TableReader tableReader) {
+        Objects.requireNonNull(tableReader, "tableReader must not be null");
+
+        this.tableReader = tableReader;
+    }
+
+    /**
+     * 读取并写入源码文件
+     *
+     * @param conn       the {@link Connection} instance
+     * @param tableNames [ Table Name ]
+     * @param sourceRoot 源码根目录，按包名建子目录
+     * @return 源码文件
+     * @throws SQLException if a database access error occurs
+     * @throws IOException  if an I/O error occurs
+     */
+    public Path write(@NotNull Connection conn, @NotNull List<String> tableNames, @NotNull Path sourceRoot) throws SQLException, IOException {
+        Objects.requireNonNull(sourceRoot, "sourceRoot must not be null");
+
+        String source = generate(conn, tableNames);
+
+        Path dir = packageName != null && !packageName.isEmpty() ?
+                sourceRoot.resolve(packageName.replace('.', '/')) : sourceRoot;
+        Files.createDirectories(dir);
+
+        Path file = dir.resolve(className + ".java");
+        byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+
+        // 内容未变不重写，避免触发增量编译
+        if (Files.exists(file) && Arrays.equals(Files.readAllBytes(file), bytes)) {
+            return file;
+        }
+
+        Files.write(file, bytes);
+        return file;
+    }
+
+    /**
+     * 读取并生成源码
+     *
+     * @param conn       the {@link Connection} instance
+     * @param tableNames [ Table Name ]
+     * @return Java 源码
+     * @throws SQLException if a database access error occurs
+     */
+    public String generate(@NotNull Connection conn, @NotNull List<String> tableNames) throws SQLException {
+        Objects.requireNonNull(conn, "conn must not be null");
+        Objects.requireNonNull(tableNames, "tableNames must not be null");
+
+        List<Table> tables = new ArrayList<>();
+        for (String tableName : new TreeSet<>(tableNames)) {
+            Table table = tableReader.read(conn, tableName);
+            if (table == null) {
+                throw new RuntimeException(String.format("table not found, tableName: %s", tableName));
+            }
+
+            tables.add(table);
+        }
+
+        return generate(tables, TableUtils.readFingerprints(conn));
+    }
+
+    /**
+     * 生成源码
+     *
+     * @param tables       [ the {@link Table} instance ]
+     * @param fingerprints [ Table Name : Fingerprint ]，{@link TableUtils#readFingerprints(Connection)}
+     * @return Java 源码
+     */
+    public String generate(@NotNull List<Table> tables, @NotNull Map<String, String> fingerprints) {
+        Objects.requireNonNull(tables, "tables must not be null");
+        Objects.requireNonNull(fingerprints, "fingerprints must not be null");
+
+        if (className == null || !isIdentifier(className)) {
+            throw new RuntimeException(String.format("className must be a java identifier, className: %s", className));
+        }
+
+        StringBuilder builder = new StringBuilder(4096);
+        if (packageName != null && !packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n\n");
+        }
+
+        builder.append("/**\n");
+        builder.append(" * 表概要，由 {@link ").append(PACKAGE).append("TableSchemaGenerator} 生成，请勿修改\n");
+        builder.append(" */\n");
+        builder.append("public final class ").append(className).append(" {\n");
+
+        Map<String, String> tableFingerprints = new TreeMap<>();
+        for (Table table : tables) {
+            String fingerprint = fingerprints.get(table.getName());
+            if (fingerprint == null) {
+                throw new RuntimeException(String.format("fingerprint not found, tableName: %s", table.getName()));
+            }
+
+            tableFingerprints.put(table.getName(), fingerprint);
+        }
+
+        appendField(builder, 1, "表结构指纹汇总", "java.lang.String", "HASH", quote(readHash(tableFingerprints)));
+
+        StringBuilder entries = new StringBuilder();
+        for (Map.Entry<String, String> entry : tableFingerprints.entrySet()) {
+            entries.append(entries.isEmpty() ? "" : ",\n").append(INDENT.repeat(3))
+                    .append("java.util.Map.entry(").append(quote(entry.getKey())).append(", ").append(quote(entry.getValue())).append(")");
+        }
+
+        appendField(builder, 1, "[ Table Name : Fingerprint ]", "java.util.Map<java.lang.String, java.lang.String>", "FINGERPRINTS",
+                entries.isEmpty() ? "java.util.Map.of()" : "new java.util.TreeMap<>(java.util.Map.ofEntries(\n" + entries + "))");
+
+        Set<String> nestedNames = new HashSet<>(RESERVED_NAMES);
+        nestedNames.add(className);
+        List<String> schemaNames = new ArrayList<>();
+        for (Table table : tables) {
+            String nestedName = newName(toClassName(table.getName()), nestedNames);
+            schemaNames.add(nestedName + ".SCHEMA");
+
+            appendTable(builder, table, nestedName, tableFingerprints.get(table.getName()));
+        }
+
+        appendField(builder, 1, "[ the {@link " + PACKAGE + "TableSchema} instance ]",
+                "java.util.List<" + PACKAGE + "TableSchema>", "SCHEMAS", "java.util.List.of(" + String.join(", ", schemaNames) + ")");
+
+        builder.append("\n").append(INDENT).append("private ").append(className).append("() {\n");
+        builder.append(INDENT).append("}\n\n");
+
+        builder.append(INDENT).append("/**\n");
+        builder.append(INDENT).append(" * 校验线上库，一次查询\n");
+        builder.append(INDENT).append(" *\n");
+        builder.append(INDENT).append(" * @param conn the {@link java.sql.Connection} instance\n");
+        builder.append(INDENT).append(" * @return [ Table Name ] 不一致或不存在的表，一致为空\n");
+        builder.append(INDENT).append(" * @throws java.sql.SQLException if a database access error occurs\n");
+        builder.append(INDENT).append(" */\n");
+        builder.append(INDENT).append("public static java.util.List<java.lang.String> verify(java.sql.Connection conn) ")
+                .append("throws java.sql.SQLException {\n");
+        builder.append(INDENT.repeat(2)).append("return ").append(PACKAGE).append("TableSchemaGenerator.verify(conn, FINGERPRINTS);\n");
+        builder.append(INDENT).append("}\n\n");
+
+        builder.append("}\n");
+        return builder.toString();
+    }
+
+    /**
+     * 校验线上库，一次查询
+     *
+     * @param conn         the {@link Connection} instance
+     * @param fingerprints [ Table Name : Fingerprint ]，生成时的指纹
+     * @return [ Table Name ] 不一致或不存在的表，一致为空
+     * @throws SQLException if a database access error occurs
+     */
+    public static List<String> verify(@NotNull Connection conn, @NotNull Map<String, String> fingerprints) throws SQLException {
+        Objects.requireNonNull(conn, "conn must not be null");
+        Objects.requireNonNull(fingerprints, "fingerprints must not be null");
+
+        Map<String, String> actual = TableUtils.readFingerprints(conn);
+
+        List<String> result = new ArrayList<>();
+        for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+            if (!entry.getValue().equals(actual.get(entry.getKey()))) {
+                result.add(entry.getKey());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 汇总指纹，64 位 FNV-1a，按表名顺序
+     *
+     * @param fingerprints [ Table Name : Fingerprint ]
+     * @return Hash, hex
+     */
+    public static String readHash(@NotNull Map<String, String> fingerprints) {
+        long hash = 0xcbf29ce484222325L;
+        for (Map.Entry<String, String> entry : new TreeMap<>(fingerprints).entrySet()) {
+            String line = entry.getKey() + "=" + entry.getValue() + "\n";
+            for (byte b : line.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xFF;
+                hash *= 0x100000001b3L;
+            }
+        }
+
+        return String.format("%016x", hash);
+    }
+
+    /**
+     * 表的内部类
+     */
+    protected void appendTable(@NotNull StringBuilder builder, @NotNull Table table,
+                               @NotBlank String nestedName, @NotBlank String fingerprint) {
+        TableSchema tableSchema = TableSchemaReader.read(table);
+
+        builder.append("\n").append(INDENT).append("/**\n");
+        builder.append(INDENT).append(" * ").append(escapeComment(table.getName()));
+        if (table.getRemark() != null && !table.getRemark().isEmpty()) {
+            builder.append("，").append(escapeComment(table.getRemark()));
+        }
+
+        builder.append("\n").append(INDENT).append(" */\n");
+        builder.append(INDENT).append("public static final class ").append(nestedName).append(" {\n");
+
+        appendField(builder, 2, "Table Name", "java.lang.String", "TABLE_NAME", quote(table.getName()));
+        appendField(builder, 2, "表结构指纹", "java.lang.String", "FINGERPRINT", quote(fingerprint));
+        appendField(builder, 2, "SELECT 字段", "java.lang.String", "SELECT_COLUMNS",
+                quote(tableSchema.getJoinedColumnsOnSelect()));
+        appendField(builder, 2, "INSERT 字段", "java.lang.String", "INSERT_COLUMNS",
+                quote(tableSchema.getJoinedColumnsOnInsert()));
+        appendField(builder, 2, "INSERT 值", "java.lang.String", "INSERT_VALUES",
+                quote(tableSchema.getJoinedValuesOnInsert()));
+
+        String selectById = tableSchema.getSelectByIds().get(1);
+        if (selectById != null) {
+            appendField(builder, 2, "按主键查询", "java.lang.String", "SELECT_BY_ID", quote(selectById));
+        }
+
+        appendField(builder, 2, "表结构哈希，{@link " + PACKAGE + "SchemaHash#hash(" + PACKAGE + "Table)}", "long", "SCHEMA_HASH",
+                "0x" + SchemaHash.toHex(SchemaHash.hash(table)) + "L");
+        appendField(builder, 2, "the {@link " + PACKAGE + "TableSchema} instance", PACKAGE + "TableSchema", "SCHEMA",
+                "newSchema()");
+
+        builder.append("\n").append(INDENT.repeat(2)).append("private ").append(nestedName).append("() {\n");
+        builder.append(INDENT.repeat(2)).append("}\n");
+
+        appendOrdinals(builder, table);
+
+        // 生成的 Table 仅含概要所需属性，哈希沿用完整表结构的
+        builder.append("\n").append(INDENT.repeat(2)).append("private static ").append(PACKAGE).append("TableSchema newSchema() {\n");
+        builder.append(INDENT.repeat(3)).append(PACKAGE).append("TableSchema result = ")
+                .append(PACKAGE).append("TableSchemaReader.read(newTable());\n");
+        builder.append(INDENT.repeat(3)).append("result.setSchemaHash(SCHEMA_HASH);\n");
+        builder.append(INDENT.repeat(3)).append("return result;\n");
+        builder.append(INDENT.repeat(2)).append("}\n");
+
+        appendNewTable(builder, table);
+
+        builder.append("\n").append(INDENT).append("}\n");
+    }
+
+    /**
+     * 字段序号，从 1 开始，按 SELECT 字段顺序
+     */
+    protected void appendOrdinals(@NotNull StringBuilder builder, @NotNull Table table) {
+        builder.append("\n").append(INDENT.repeat(2)).append("/**\n");
+        builder.append(INDENT.repeat(2)).append(" * 字段序号，从 1 开始，按 SELECT 字段顺序\n");
+        builder.append(INDENT.repeat(2)).append(" */\n");
+        builder.append(INDENT.repeat(2)).append("public static final class Ordinal {\n");
+
+        Set<String> names = new HashSet<>();
+        int ordinal = 0;
+        for (Column column : table.getColumns()) {
+            ordinal++;
+
+            Class<?> clazz = column.getClazz();
+            String comment = column.getName() + (clazz != null ? ", " + clazz.getSimpleName() : "");
+            appendField(builder, 3, escapeComment(comment), "int", newName(toConstantName(column.getName()), names),
+                    String.valueOf(ordinal));
+        }
+
+        builder.append("\n").append(INDENT.repeat(3)).append("private Ordinal() {\n");
+        builder.append(INDENT.repeat(3)).append("}\n\n");
+        builder.append(INDENT.repeat(2)).append("}\n");
+    }
+
+    /**
+     * 构造 {@link Table}，仅含 {@link TableSchemaReader#read(Table)} 所需属性
+     */
+    protected void appendNewTable(@NotNull StringBuilder builder, @NotNull Table table) {
+        String indent = INDENT.repeat(3);
+
+        builder.append("\n").append(INDENT.repeat(2)).append("private static ").append(PACKAGE).append("Table newTable() {\n");
+        builder.append(indent).append(PACKAGE).append("Table table = new ").append(PACKAGE).append("Table();\n");
+        builder.append(indent).append("table.setName(").append(quote(table.getName())).append(");\n");
+
+        List<String> primaryKey = table.getPrimaryKey();
+        if (primaryKey != null) {
+            builder.append(indent).append("table.setPrimaryKey(java.util.List.of(");
+            for (int i = 0; i < primaryKey.size(); i++) {
+                builder.append(i > 0 ? ", " : "").append(quote(primaryKey.get(i)));
+            }
+
+            builder.append("));\n");
+        }
+
+        builder.append("\n").append(indent).append("java.util.List<").append(PACKAGE).append("Column> columns = new java.util.ArrayList<>();\n");
+        builder.append(indent).append(PACKAGE).append("Column column;\n");
+        for (Column column : table.getColumns()) {
+            builder.append("\n").append(indent).append("column = new ").append(PACKAGE).append("Column();\n");
+            appendSet(builder, "setName", quote(column.getName()));
+            appendSet(builder, "setRemark", column.getRemark() != null ? quote(column.getRemark()) : null);
+            appendSet(builder, "setType", toTypeLiteral(column.getType()));
+            appendSet(builder, "setTypeName", column.getTypeName() != null ? quote(column.getTypeName()) : null);
+            appendSet(builder, "setClazz", column.getClazz() != null ? column.getClazz().getCanonicalName() + ".class" : null);
+            appendSet(builder, "setSize", column.getSize() != 0 ? String.valueOf(column.getSize()) : null);
+            appendSet(builder, "setScale", column.getScale() != 0 ? String.valueOf(column.getScale()) : null);
+            appendSet(builder, "setDefaultString", column.getDefaultString() != null ? quote(column.getDefaultString()) : null);
+            appendSet(builder, "setDefaultInteger", column.getDefaultInteger() != null ? String.valueOf(column.getDefaultInteger()) : null);
+            appendSet(builder, "setDefaultLong", column.getDefaultLong() != null ? column.getDefaultLong() + "L" : null);
+            appendSet(builder, "setDefaultBigDecimal", toLiteral(column.getDefaultBigDecimal()));
+            appendSet(builder, "setDefaultDate", column.getDefaultDate() != null ? "new java.util.Date(" + column.getDefaultDate().getTime() + "L)" : null);
+            appendSet(builder, "setDefaultCurrentDateOnInsert", column.isDefaultCurrentDateOnInsert() ? "true" : null);
+            appendSet(builder, "setDefaultCurrentDateOnUpdate", column.isDefaultCurrentDateOnUpdate() ? "true" : null);
+            appendSet(builder, "setNullable", column.isNullable() ? "true" : null);
+            appendSet(builder, "setUnsigned", column.isUnsigned() ? "true" : null);
+            appendSet(builder, "setId", column.isId() ? "true" : null);
+            appendSet(builder, "setAutoIncrement", column.isAutoIncrement() ? "true" : null);
+            appendSet(builder, "setGenerationExpression", column.getGenerationExpression() != null ? quote(column.getGenerationExpression()) : null);
+            appendSet(builder, "setGeneratedStored", column.isGeneratedStored() ? "true" : null);
+            builder.append(indent).append("columns.add(column);\n");
+        }
+
+        builder.append("\n").append(indent).append("table.setColumns(columns);\n");
+        builder.append(indent).append("return table;\n");
+        builder.append(INDENT.repeat(2)).append("}\n");
+    }
+
+    private static void appendSet(@NotNull StringBuilder builder, @NotBlank String setter, String literal) {
+        if (literal != null) {
+            builder.append(INDENT.repeat(3)).append("column.").append(setter).append("(").append(literal).append(");\n");
+        }
+    }
+
+    private static void appendField(@NotNull StringBuilder builder, int depth, @NotNull String comment,
+                                    @NotBlank String type, @NotBlank String name, @NotNull String literal) {
+        String indent = INDENT.repeat(depth);
+        if (builder.charAt(builder.length() - 2) != '{') {
+            builder.append("\n");
+        }
+
+        builder.append(indent).append("/**\n");
+        builder.append(indent).append(" * ").append(comment).append("\n");
+        builder.append(indent).append(" */\n");
+        builder.append(indent).append("public static final ").append(type).append(" ").append(name)
+                .append(" = ").append(literal).append(";\n");
+    }
+
+    private static String toLiteral(BigDecimal value) {
+        return value != null ? "new java.math.BigDecimal(" + quote(value.toPlainString()) + ")" : null;
+    }
+
+    /**
+     * {@link Types} 常量名，如 java.sql.Types.BIGINT，未知时为数值
+     */
+    private static String toTypeLiteral(int sqlType) {
+        for (Field field : Types.class.getFields()) {
+            try {
+                if (field.getType() == int.class && field.getInt(null) == sqlType) {
+                    return "java.sql.Types." + field.getName();
+                }
+            } catch (IllegalAccessException e) {
+                // public static final
+            }
+        }
+
+        return String.valueOf(sqlType);
+    }
+
+    /**
+     * Java 字符串字面量
+     */
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20 || c == 0x7F) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+
+        return builder.append('"').toString();
+    }
+
+    /**
+     * 注释中的 * / 及换行
+     */
+    private static String escapeComment(String value) {
+        return value.replace("*/", "*&#47;").replace('\r', ' ').replace('\n', ' ');
+    }
+
+    /**
+     * 表名转类名，如 order_item 转 OrderItem
+     */
+    private static String toClassName(@NotBlank String tableName) {
+        StringBuilder builder = new StringBuilder();
+        boolean upper = true;
+        for (int i = 0; i < tableName.length(); i++) {
+            char c = tableName.charAt(i);
+            if (!Character.isJavaIdentifierPart(c) || c == '_' || c == '$') {
+                upper = true;
+            } else {
+                builder.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+
+        return builder.isEmpty() || !Character.isJavaIdentifierStart(builder.charAt(0)) ? "T" + builder : builder.toString();
+    }
+
+    /**
+     * 字段名转常量名，如 userId 转 USER_ID
+     */
+    private static String toConstantName(@NotBlank String columnName) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < columnName.length(); i++) {
+            char c = columnName.charAt(i);
+            if (!Character.isJavaIdentifierPart(c) || c == '$') {
+                builder.append('_');
+            } else {
+                if (Character.isUpperCase(c) && i > 0 && Character.isLowerCase(columnName.charAt(i - 1))) {
+                    builder.append('_');
+                }
+
+                builder.append(Character.toUpperCase(c));
+            }
+        }
+
+        return builder.isEmpty() || !Character.isJavaIdentifierStart(builder.charAt(0)) ? "_" + builder : builder.toString();
+    }
+
+    /**
+     * 重名时加序号
+     */
+    private static String newName(@NotBlank String name, @NotNull Set<String> names) {
+        String result = name;
+        for (int i = 2; !names.add(result); i++) {
+            result = name + i;
+        }
+
+        return result;
+    }
+
+    private static boolean isIdentifier(@NotBlank String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+
+        return name.chars().allMatch(Character::isJavaIdentifierPart);
+    }
+
+    @NotNull
+    public TableReader getTableReader() {
+        return tableReader;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public void setPackageName(String packageName) {
+        this.packageName = packageName;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+}
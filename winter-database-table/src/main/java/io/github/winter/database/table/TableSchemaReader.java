@@ -7,6 +7,7 @@ import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -36,13 +37,16 @@ public final class TableSchemaReader {
      *                      this method is called on a closed result set
      */
     public static TableSchema read(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
-        TableReader tableReader = getTableReader();
-
-        Table table = tableReader.read(conn, tableName);
-        if (table != null) {
-            return read(table);
-        } else {
-            return null;
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.SCHEMA, null, tableName)) {
+            trace.setCatalog(conn.getCatalog());
+            TableReader tableReader = getTableReader();
+
+            Table table = tableReader.read(conn, tableName);
+            if (table != null) {
+                return read(table);
+            } else {
+                return null;
+            }
         }
     }
 
@@ -57,10 +61,14 @@ public final class TableSchemaReader {
         TableSchema result = new TableSchema();
 
         setTableName(result, table);
+        setSchemaHash(result, table);
         setIdName(result, table);
+        setIdNames(result, table);
         setColumns(result, table);
         setColumnNames(result);
         setColumnsOnAutoIncrement(result);
+        setColumnsOnGenerated(result);
+        setColumnsOnLob(result);
         setValueTypes(result);
         setDefaultValues(result);
         setJoinedColumnsOnSelect(result);
@@ -70,6 +78,8 @@ public final class TableSchemaReader {
         setJoinedValuesOnInsert(result);
         setColumnsOnUpdate(result);
         setDefaultCurrentDateOnUpdate(result);
+        setSelectByIds(result);
+        setProjections(result);
 
         return result;
     }
@@ -88,6 +98,17 @@ public final class TableSchemaReader {
         tableSchema.setTableName(tableName);
     }
 
+    /**
+     * 表结构哈希，读取时计算一次，比较为 O(1)
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param table       the {@link Table} instance
+     */
+    private static void setSchemaHash(@NotNull TableSchema tableSchema, @NotNull Table table) {
+        long schemaHash = SchemaHash.hash(table);
+        tableSchema.setSchemaHash(schemaHash);
+    }
+
     /**
      * Primary Key
      *
@@ -109,6 +130,26 @@ public final class TableSchemaReader {
         tableSchema.setIdName(idName);
     }
 
+    /**
+     * Primary Key，[ Column Name ] in key order
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     * @param table       the {@link Table} instance
+     */
+    private static void setIdNames(@NotNull TableSchema tableSchema, @NotNull Table table) {
+        List<String> primaryKey = table.getPrimaryKey();
+        if (primaryKey == null) {
+            return;
+        }
+
+        List<String> idNames = primaryKey.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(Predicate.not(String::isEmpty))
+                .toList();
+        tableSchema.setIdNames(idNames);
+    }
+
     /**
      * [ Column ]
      *
@@ -163,6 +204,39 @@ public final class TableSchemaReader {
         tableSchema.setColumnsOnAutoIncrement(columnNames);
     }
 
+    /**
+     * [ GENERATED ALWAYS AS ]
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     */
+    private static void setColumnsOnGenerated(@NotNull TableSchema tableSchema) {
+        List<Column> columns = tableSchema.getColumns();
+
+        Set<String> columnNames = columns.stream()
+                .filter(Column::isGenerated)
+                .map(Column::getName)
+                .filter(Predicate.not(String::isEmpty))
+                .collect(Collectors.toSet());
+        tableSchema.setColumnsOnGenerated(columnNames);
+    }
+
+    /**
+     * [ Column Name : 大字段读写方式 ]
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     */
+    private static void setColumnsOnLob(@NotNull TableSchema tableSchema) {
+        Map<String, LobUtils.Kind> columnsOnLob = new HashMap<>();
+        for (Column column : tableSchema.getColumns()) {
+            LobUtils.Kind kind = LobUtils.readKind(column);
+            if (kind != null) {
+                columnsOnLob.put(column.getName(), kind);
+            }
+        }
+
+        tableSchema.setColumnsOnLob(columnsOnLob);
+    }
+
     /**
      * [ Column Name : Value Type ]
      *
@@ -202,24 +276,25 @@ public final class TableSchemaReader {
                                                 throw new RuntimeException(String.format("clazz must not be null, columnName: %s", column.getName()));
                                             }
 
-                                            if (clazz == String.class) {
-                                                return new Value(column.getDefaultString());
+                                            Class<?> defaultType = TypeMap.readDefaultType(clazz);
+                                            if (defaultType == String.class) {
+                                                return new Value(TypeMap.convert(column.getDefaultString(), clazz));
                                             }
 
-                                            if (clazz == Integer.class) {
-                                                return new Value(column.getDefaultInteger());
+                                            if (defaultType == Integer.class) {
+                                                return new Value(TypeMap.convert(column.getDefaultInteger(), clazz));
                                             }
 
-                                            if (clazz == Long.class) {
-                                                return new Value(column.getDefaultLong());
+                                            if (defaultType == Long.class) {
+                                                return new Value(TypeMap.convert(column.getDefaultLong(), clazz));
                                             }
 
-                                            if (clazz == BigDecimal.class) {
-                                                return new Value(column.getDefaultBigDecimal());
+                                            if (defaultType == BigDecimal.class) {
+                                                return new Value(TypeMap.convert(column.getDefaultBigDecimal(), clazz));
                                             }
 
-                                            if (clazz == Date.class) {
-                                                return new Value(column.getDefaultDate());
+                                            if (defaultType == Date.class) {
+                                                return new Value(TypeMap.convert(column.getDefaultDate(), clazz));
                                             }
 
                                             throw new RuntimeException(String.format("unsupported clazz, clazz: %s, columnName: %s", clazz, column.getName()));
@@ -252,6 +327,7 @@ public final class TableSchemaReader {
 
         List<String> columnNames = columns.stream()
                 .filter(Predicate.not(Column::isDefaultCurrentDateOnInsert))
+                .filter(Predicate.not(Column::isGenerated))
                 .map(Column::getName)
                 .filter(Predicate.not(String::isEmpty))
                 .toList();
@@ -311,6 +387,7 @@ public final class TableSchemaReader {
         Set<String> columnNames = columns.stream()
                 .filter(Predicate.not(Column::isDefaultCurrentDateOnUpdate))
                 .filter(Predicate.not(Column::isDefaultCurrentDateOnInsert))
+                .filter(Predicate.not(Column::isGenerated))
                 .map(Column::getName)
                 .filter(Predicate.not(String::isEmpty))
                 .collect(Collectors.toSet());
@@ -333,6 +410,63 @@ public final class TableSchemaReader {
         tableSchema.setDefaultCurrentDateOnUpdate(columnNames);
     }
 
+    /**
+     * [ IN-list Size : SELECT column, column FROM table WHERE id IN (?, ?) ] used for multi-get
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     */
+    private static void setSelectByIds(@NotNull TableSchema tableSchema) {
+        List<String> idNames = tableSchema.getIdNames();
+        if (idNames.isEmpty()) {
+            return;
+        }
+
+        String tableName = tableSchema.getTableName();
+        String joinedColumns = tableSchema.getJoinedColumnsOnSelect();
+
+        Map<Integer, String> selectByIds = new HashMap<>();
+        for (int size : MultiGetUtils.BUCKETS) {
+            String command = MultiGetUtils.build(tableName, joinedColumns, idNames, size);
+            selectByIds.put(size, command);
+        }
+
+        tableSchema.setSelectByIds(selectByIds);
+    }
+
+    /**
+     * [ Projection Name : Projection ] used for SELECT
+     *
+     * @param tableSchema the {@link TableSchema} instance
+     */
+    private static void setProjections(@NotNull TableSchema tableSchema) {
+        List<String> columnNames = tableSchema.getColumnNames();
+        if (columnNames.isEmpty()) {
+            return;
+        }
+
+        Map<String, Projection> projections = new ConcurrentHashMap<>();
+        projections.put(Projection.ALL, new Projection(Projection.ALL, columnNames));
+
+        List<String> columnsOnDefault = tableSchema.getColumns()
+                .stream()
+                .filter(Predicate.not(ProjectionUtils::isLob))
+                .map(Column::getName)
+                .filter(Predicate.not(String::isEmpty))
+                .toList();
+        if (columnsOnDefault.isEmpty()) {
+            columnsOnDefault = columnNames;
+        }
+
+        projections.put(Projection.DEFAULT, new Projection(Projection.DEFAULT, columnsOnDefault));
+
+        List<String> idNames = tableSchema.getIdNames();
+        if (!idNames.isEmpty()) {
+            projections.put(Projection.IDS_ONLY, new Projection(Projection.IDS_ONLY, idNames));
+        }
+
+        tableSchema.setProjections(projections);
+    }
+
     @NotNull
     public static TableReader getTableReader() {
         return tableReader;
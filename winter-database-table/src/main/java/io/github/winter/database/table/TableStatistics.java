@@ -0,0 +1,132 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 表统计信息，来自 INFORMATION_SCHEMA，均为预估值
+ *
+ * @author changebooks@qq.com
+ */
+public final class TableStatistics implements Serializable {
+    /**
+     * 表名
+     */
+    private String tableName;
+
+    /**
+     * 预估行数，TABLE_ROWS
+     */
+    private long tableRows;
+
+    /**
+     * 聚簇索引占用，字节，DATA_LENGTH
+     */
+    private long dataLength;
+
+    /**
+     * 二级索引占用，字节，INDEX_LENGTH
+     */
+    private long indexLength;
+
+    /**
+     * 平均行长，字节，AVG_ROW_LENGTH
+     */
+    private long avgRowLength;
+
+    /**
+     * 已分配未使用，字节，DATA_FREE
+     */
+    private long dataFree;
+
+    /**
+     * [ 索引名 : the {@link KeyStatistics} instance ]
+     */
+    private Map<String, KeyStatistics> keys = new LinkedHashMap<>();
+
+    /**
+     * 总占用，字节，数据 + 索引
+     *
+     * @return Bytes
+     */
+    public long getTotalLength() {
+        return dataLength + indexLength;
+    }
+
+    /**
+     * 索引选择性，基数 / 行数
+     *
+     * @param keyName 索引名
+     * @return 0 ~ 1，无统计为 -1
+     */
+    public double getSelectivity(String keyName) {
+        KeyStatistics key = keyName != null ? getKeys().get(keyName) : null;
+        if (key == null || key.getCardinality() < 0 || tableRows <= 0) {
+            return -1;
+        }
+
+        return Math.min(1.0, (double) key.getCardinality() / tableRows);
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public long getTableRows() {
+        return tableRows;
+    }
+
+    public void setTableRows(long tableRows) {
+        this.tableRows = tableRows;
+    }
+
+    public long getDataLength() {
+        return dataLength;
+    }
+
+    public void setDataLength(long dataLength) {
+        this.dataLength = dataLength;
+    }
+
+    public long getIndexLength() {
+        return indexLength;
+    }
+
+    public void setIndexLength(long indexLength) {
+        this.indexLength = indexLength;
+    }
+
+    public long getAvgRowLength() {
+        return avgRowLength;
+    }
+
+    public void setAvgRowLength(long avgRowLength) {
+        this.avgRowLength = avgRowLength;
+    }
+
+    public long getDataFree() {
+        return dataFree;
+    }
+
+    public void setDataFree(long dataFree) {
+        this.dataFree = dataFree;
+    }
+
+    public Map<String, KeyStatistics> getKeys() {
+        if (keys == null) {
+            keys = new LinkedHashMap<>();
+        }
+
+        return keys;
+    }
+
+    public void setKeys(Map<String, KeyStatistics> keys) {
+        this.keys = keys;
+    }
+
+}
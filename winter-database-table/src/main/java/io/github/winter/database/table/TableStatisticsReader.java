@@ -0,0 +1,167 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 表统计信息，两条查询读取全库，不执行 COUNT(*)
+ * <p>
+ * MySQL 8.0 的 INFORMATION_SCHEMA 统计信息按 information_schema_stats_expiry 缓存，默认一天
+ *
+ * @author changebooks@qq.com
+ */
+public class TableStatisticsReader {
+    /**
+     * Read Statistics
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return the {@link TableStatistics} instance, or null if not found
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public TableStatistics read(@NotNull Connection conn, @NotBlank String tableName) throws SQLException {
+        return read(conn, tableName, " AND TABLE_NAME = ?").get(tableName);
+    }
+
+    /**
+     * Read Statistics，并设入 {@link Table#setStatistics}
+     *
+     * @param conn  the {@link Connection} instance
+     * @param table the {@link Table} instance
+     * @return the {@link TableStatistics} instance, or null if not found
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public TableStatistics read(@NotNull Connection conn, @NotNull Table table) throws SQLException {
+        Objects.requireNonNull(table, "table must not be null");
+
+        TableStatistics result = table.getName() != null ? read(conn, table.getName().trim()) : null;
+        table.setStatistics(result);
+        return result;
+    }
+
+    /**
+     * Read All Statistics，一次读取全库
+     *
+     * @param conn the {@link Connection} instance
+     * @return [ Table Name : the {@link TableStatistics} instance ], ordered by name
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public Map<String, TableStatistics> readAll(@NotNull Connection conn) throws SQLException {
+        return read(conn, null, "");
+    }
+
+    private Map<String, TableStatistics> read(@NotNull Connection conn, String tableName,
+                                              @NotNull String condition) throws SQLException {
+        String tables = "SELECT TABLE_NAME, TABLE_ROWS, DATA_LENGTH, INDEX_LENGTH, AVG_ROW_LENGTH, DATA_FREE " +
+                "FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE'" + condition;
+        String keys = "SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME, CARDINALITY FROM INFORMATION_SCHEMA.STATISTICS " +
+                "WHERE TABLE_SCHEMA = ?" + condition + " ORDER BY TABLE_NAME, INDEX_NAME, SEQ_IN_INDEX";
+
+        Map<String, TableStatistics> result = new TreeMap<>();
+        String tableSchema = conn.getCatalog();
+
+        try (PreparedStatement stat = conn.prepareStatement(tables)) {
+            stat.setString(1, tableSchema);
+            if (tableName != null) {
+                stat.setString(2, tableName);
+            }
+
+            try (ResultSet rs = stat.executeQuery()) {
+                while (rs.next()) {
+                    TableStatistics record = readTable(rs);
+                    if (record != null && record.getTableName() != null) {
+                        result.put(record.getTableName(), record);
+                    }
+                }
+            }
+        }
+
+        if (result.isEmpty()) {
+            return result;
+        }
+
+        try (PreparedStatement stat = conn.prepareStatement(keys)) {
+            stat.setString(1, tableSchema);
+            if (tableName != null) {
+                stat.setString(2, tableName);
+            }
+
+            try (ResultSet rs = stat.executeQuery()) {
+                while (rs.next()) {
+                    TableStatistics record = result.get(rs.getString("TABLE_NAME"));
+                    if (record != null) {
+                        readKey(record, rs);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 表统计信息
+     *
+     * @param rs the {@link ResultSet} instance
+     * @return the {@link TableStatistics} instance
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    protected TableStatistics readTable(@NotNull ResultSet rs) throws SQLException {
+        TableStatistics result = new TableStatistics();
+        result.setTableName(rs.getString("TABLE_NAME"));
+        result.setTableRows(rs.getLong("TABLE_ROWS"));
+        result.setDataLength(rs.getLong("DATA_LENGTH"));
+        result.setIndexLength(rs.getLong("INDEX_LENGTH"));
+        result.setAvgRowLength(rs.getLong("AVG_ROW_LENGTH"));
+        result.setDataFree(rs.getLong("DATA_FREE"));
+        return result;
+    }
+
+    /**
+     * 索引字段基数，按 SEQ_IN_INDEX 顺序追加
+     *
+     * @param record the {@link TableStatistics} instance
+     * @param rs     the {@link ResultSet} instance
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    protected void readKey(@NotNull TableStatistics record, @NotNull ResultSet rs) throws SQLException {
+        String indexName = rs.getString("INDEX_NAME");
+        if (indexName == null) {
+            return;
+        }
+
+        KeyStatistics key = record.getKeys().computeIfAbsent(indexName, x -> {
+            KeyStatistics value = new KeyStatistics();
+            value.setName(x);
+            return value;
+        });
+
+        long cardinality = rs.getLong("CARDINALITY");
+        key.getColumnNames().add(rs.getString("COLUMN_NAME"));
+        key.getCardinalities().add(rs.wasNull() ? -1 : cardinality);
+    }
+
+}
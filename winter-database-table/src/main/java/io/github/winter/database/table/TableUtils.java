@@ -0,0 +1,573 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 表描述
+ *
+ * @author changebooks@qq.com
+ */
+public final class TableUtils {
+    /**
+     * 编码正则
+     */
+    private static final Pattern CHARSET_PATTERN = Pattern.compile(" DEFAULT CHARSET\\s*=\\s*(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private TableUtils() {
+    }
+
+    /**
+     * 引擎
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return Engine
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static String readEngine(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.QUERY, "ENGINE", tableName)) {
+            String command = "SELECT ENGINE FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+            PreparedStatement stat = conn.prepareStatement(command);
+            if (stat == null) {
+                return null;
+            }
+
+            try (stat) {
+                MetadataTimeout.apply(stat);
+
+                String tableSchema = conn.getCatalog();
+
+                stat.setString(1, tableSchema);
+                stat.setString(2, tableName);
+
+                ResultSet rs = stat.executeQuery();
+                trace.addRoundTrip();
+                if (rs == null) {
+                    return null;
+                }
+
+                try (rs) {
+                    if (rs.next()) {
+                        trace.addRows(1);
+                        return rs.getString("ENGINE");
+                    } else {
+                        return null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 编码
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return Default Charset
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static String readCharset(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        String createTable = readCreateTable(conn, tableName);
+        if (createTable == null) {
+            return null;
+        }
+
+        Matcher matcher = CHARSET_PATTERN.matcher(createTable);
+        if (matcher.find()) {
+            return matcher.group(1);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * 排序规则
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return Table Collation
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static String readCollation(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.QUERY, "COLLATION", tableName)) {
+            String command = "SELECT TABLE_COLLATION FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+            PreparedStatement stat = conn.prepareStatement(command);
+            if (stat == null) {
+                return null;
+            }
+
+            try (stat) {
+                MetadataTimeout.apply(stat);
+
+                String tableSchema = conn.getCatalog();
+
+                stat.setString(1, tableSchema);
+                stat.setString(2, tableName);
+
+                ResultSet rs = stat.executeQuery();
+                trace.addRoundTrip();
+                if (rs == null) {
+                    return null;
+                }
+
+                try (rs) {
+                    if (rs.next()) {
+                        trace.addRows(1);
+                        return rs.getString("TABLE_COLLATION");
+                    } else {
+                        return null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 自增
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return Next Auto Increment
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static Long readAutoIncrement(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.QUERY, "AUTO_INCREMENT", tableName)) {
+            String command = "SELECT AUTO_INCREMENT FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+            PreparedStatement stat = conn.prepareStatement(command);
+            if (stat == null) {
+                return null;
+            }
+
+            try (stat) {
+                MetadataTimeout.apply(stat);
+
+                String tableSchema = conn.getCatalog();
+
+                stat.setString(1, tableSchema);
+                stat.setString(2, tableName);
+
+                ResultSet rs = stat.executeQuery();
+                trace.addRoundTrip();
+                if (rs == null) {
+                    return null;
+                }
+
+                try (rs) {
+                    if (rs.next()) {
+                        trace.addRows(1);
+                        return rs.getLong("AUTO_INCREMENT");
+                    } else {
+                        return null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 预估行数，来自统计信息，不执行 COUNT(*)
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return Approximate Rows
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static Long readTableRows(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.QUERY, "TABLE_ROWS", tableName)) {
+            String command = "SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+            PreparedStatement stat = conn.prepareStatement(command);
+            if (stat == null) {
+                return null;
+            }
+
+            try (stat) {
+                MetadataTimeout.apply(stat);
+
+                String tableSchema = conn.getCatalog();
+
+                stat.setString(1, tableSchema);
+                stat.setString(2, tableName);
+
+                ResultSet rs = stat.executeQuery();
+                trace.addRoundTrip();
+                if (rs == null) {
+                    return null;
+                }
+
+                try (rs) {
+                    if (rs.next()) {
+                        trace.addRows(1);
+                        return rs.getLong("TABLE_ROWS");
+                    } else {
+                        return null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 快速预估行数，不执行 COUNT(*)
+     * <p>
+     * 优先取 InnoDB 持久化统计 mysql.innodb_table_stats，不受 INFORMATION_SCHEMA 统计缓存影响，分区表各分区累加；
+     * 无权限或非 InnoDB 表时取 TABLE_ROWS
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return Approximate Rows, or null if not found
+     * @throws SQLException if a database access error occurs
+     */
+    public static Long readApproximateRows(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.QUERY, "APPROXIMATE_ROWS", tableName)) {
+            String pattern = tableName.replace("\\", "\\\\").replace("_", "\\_").replace("%", "\\%") + "#p#%";
+            String command = "SELECT SUM(n_rows) FROM mysql.innodb_table_stats " +
+                    "WHERE database_name = ? AND (table_name = ? OR table_name LIKE ?)";
+
+            try (PreparedStatement stat = conn.prepareStatement(command)) {
+                MetadataTimeout.apply(stat);
+
+                String tableSchema = conn.getCatalog();
+
+                stat.setString(1, tableSchema);
+                stat.setString(2, tableName);
+                stat.setString(3, pattern);
+
+                try (ResultSet rs = stat.executeQuery()) {
+                    trace.addRoundTrip();
+                    if (rs.next()) {
+                        trace.addRows(1);
+                        long rows = rs.getLong(1);
+                        if (!rs.wasNull()) {
+                            return rows;
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                // 无 mysql 库权限时退回，超时、取消等抛出
+                if (!isAccessDenied(e)) {
+                    throw e;
+                }
+            }
+
+            return readTableRows(conn, tableName);
+        }
+    }
+
+    /**
+     * 快速预估全库行数，不执行 COUNT(*)，两条查询覆盖全库
+     *
+     * @param conn the {@link Connection} instance
+     * @return [ Table Name : Approximate Rows ], ordered by name
+     * @throws SQLException if a database access error occurs
+     * @see #readApproximateRows(Connection, String)
+     */
+    public static Map<String, Long> readApproximateRows(@NotNull Connection conn) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.QUERY, "APPROXIMATE_ROWS", null)) {
+            String tables = "SELECT TABLE_NAME, TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES " +
+                    "WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE'";
+            String innodb = "SELECT SUBSTRING_INDEX(table_name, '#', 1), SUM(n_rows) FROM mysql.innodb_table_stats " +
+                    "WHERE database_name = ? GROUP BY SUBSTRING_INDEX(table_name, '#', 1)";
+
+            Map<String, Long> result = new TreeMap<>();
+            String tableSchema = conn.getCatalog();
+
+            try (PreparedStatement stat = conn.prepareStatement(tables)) {
+                MetadataTimeout.apply(stat);
+
+                stat.setString(1, tableSchema);
+
+                try (ResultSet rs = stat.executeQuery()) {
+                    trace.addRoundTrip();
+                    while (rs.next()) {
+                        trace.addRows(1);
+                        String tableName = rs.getString(1);
+                        if (tableName != null) {
+                            result.put(tableName, rs.getLong(2));
+                        }
+                    }
+                }
+            }
+
+            try (PreparedStatement stat = conn.prepareStatement(innodb)) {
+                MetadataTimeout.apply(stat);
+
+                stat.setString(1, tableSchema);
+
+                try (ResultSet rs = stat.executeQuery()) {
+                    trace.addRoundTrip();
+                    while (rs.next()) {
+                        trace.addRows(1);
+                        long rows = rs.getLong(2);
+                        result.computeIfPresent(rs.getString(1), (k, v) -> rows);
+                    }
+                }
+            } catch (SQLException e) {
+                // 无 mysql 库权限时退回，超时、取消等抛出
+                if (!isAccessDenied(e)) {
+                    throw e;
+                }
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * 无权限？ER_TABLEACCESS_DENIED_ERROR (1142) 或 SQLState 42000
+     *
+     * @param e the {@link SQLException} instance
+     * @return Access Denied ?
+     */
+    private static boolean isAccessDenied(@NotNull SQLException e) {
+        return e.getErrorCode() == 1142 || "42000".equals(e.getSQLState());
+    }
+
+    /**
+     * 平均行长，字节，InnoDB 为数据页大小 / 预估行数
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return Avg Row Length
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static Long readAvgRowLength(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.QUERY, "AVG_ROW_LENGTH", tableName)) {
+            String command = "SELECT AVG_ROW_LENGTH FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+            PreparedStatement stat = conn.prepareStatement(command);
+            if (stat == null) {
+                return null;
+            }
+
+            try (stat) {
+                MetadataTimeout.apply(stat);
+
+                String tableSchema = conn.getCatalog();
+
+                stat.setString(1, tableSchema);
+                stat.setString(2, tableName);
+
+                ResultSet rs = stat.executeQuery();
+                trace.addRoundTrip();
+                if (rs == null) {
+                    return null;
+                }
+
+                try (rs) {
+                    if (rs.next()) {
+                        trace.addRows(1);
+                        long avgRowLength = rs.getLong("AVG_ROW_LENGTH");
+                        return rs.wasNull() ? null : avgRowLength;
+                    } else {
+                        return null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Show Create Table
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return Create Table
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static String readCreateTable(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.QUERY, "CREATE_TABLE", tableName)) {
+            try (Statement stat = conn.createStatement()) {
+                MetadataTimeout.apply(stat);
+
+                String command = "SHOW CREATE TABLE " + tableName;
+                ResultSet rs = stat.executeQuery(command);
+                trace.addRoundTrip();
+                if (rs == null) {
+                    return null;
+                }
+
+                try (rs) {
+                    if (rs.next()) {
+                        trace.addRows(1);
+                        return rs.getString("Create Table");
+                    } else {
+                        return null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 全库表结构指纹，表选项、字段、索引、分区任一变化，指纹即变化
+     * <p>
+     * 一条 UNION ALL 聚合查询覆盖全库，一次往返，无需逐表读取元数据
+     *
+     * @param conn the {@link Connection} instance
+     * @return [ Table Name : Fingerprint ], ordered by name
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static Map<String, String> readFingerprints(@NotNull Connection conn) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.QUERY, "FINGERPRINTS", null)) {
+            // IS_VISIBLE 自 MySQL 8.0 起，5.7 及 MariaDB 无此字段
+            String visible = hasVisible(conn) ? ", IS_VISIBLE" : "";
+            String command = "SELECT 0, TABLE_NAME, CRC32(CONCAT_WS('#', ENGINE, TABLE_COLLATION, TABLE_COMMENT, CREATE_OPTIONS)) " +
+                    "FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE' " +
+                    "UNION ALL " +
+                    "SELECT 1, TABLE_NAME, BIT_XOR(CRC32(CONCAT_WS('#', ORDINAL_POSITION, COLUMN_NAME, COLUMN_TYPE, " +
+                    "IS_NULLABLE, COALESCE(COLUMN_DEFAULT, 'NULL'), ISNULL(COLUMN_DEFAULT), EXTRA, COLUMN_COMMENT, " +
+                    "GENERATION_EXPRESSION))) " +
+                    "FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = ? GROUP BY TABLE_NAME " +
+                    "UNION ALL " +
+                    "SELECT 2, TABLE_NAME, BIT_XOR(CRC32(CONCAT_WS('#', INDEX_NAME, SEQ_IN_INDEX, COLUMN_NAME, NON_UNIQUE, " +
+                    "SUB_PART, COLLATION, INDEX_TYPE" + visible + "))) " +
+                    "FROM INFORMATION_SCHEMA.STATISTICS WHERE TABLE_SCHEMA = ? GROUP BY TABLE_NAME " +
+                    "UNION ALL " +
+                    "SELECT 3, TABLE_NAME, BIT_XOR(CRC32(CONCAT_WS('#', PARTITION_NAME, PARTITION_ORDINAL_POSITION, " +
+                    "PARTITION_METHOD, PARTITION_EXPRESSION, PARTITION_DESCRIPTION, PARTITION_COMMENT))) " +
+                    "FROM INFORMATION_SCHEMA.PARTITIONS WHERE TABLE_SCHEMA = ? AND PARTITION_NAME IS NOT NULL GROUP BY TABLE_NAME";
+
+            // 表、字段、索引、分区，[ Table Name : Hash ]
+            List<Map<String, String>> parts = List.of(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+            String tableSchema = conn.getCatalog();
+
+            try (PreparedStatement stat = conn.prepareStatement(command)) {
+                MetadataTimeout.apply(stat);
+
+                for (int i = 1; i <= parts.size(); i++) {
+                    stat.setString(i, tableSchema);
+                }
+
+                try (ResultSet rs = stat.executeQuery()) {
+                    trace.addRoundTrip();
+                    while (rs.next()) {
+                        trace.addRows(1);
+                        int part = rs.getInt(1);
+                        String tableName = rs.getString(2);
+                        if (tableName == null || part < 0 || part >= parts.size()) {
+                            continue;
+                        }
+
+                        parts.get(part).put(tableName, Long.toHexString(rs.getLong(3)));
+                    }
+                }
+            }
+
+            Map<String, String> result = new TreeMap<>();
+            parts.get(0).forEach((tableName, hash) -> {
+                StringBuilder builder = new StringBuilder(hash);
+                for (int i = 1; i < parts.size(); i++) {
+                    String partHash = parts.get(i).get(tableName);
+                    if (partHash != null) {
+                        builder.append('-').append(partHash);
+                    }
+                }
+
+                result.put(tableName, builder.toString());
+            });
+
+            return result;
+        }
+    }
+
+    /**
+     * INFORMATION_SCHEMA.STATISTICS 有 IS_VISIBLE？
+     *
+     * @param conn the {@link Connection} instance
+     * @return Has IS_VISIBLE ?
+     * @throws SQLException if a database access error occurs
+     */
+    private static boolean hasVisible(@NotNull Connection conn) throws SQLException {
+        String command = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS " +
+                "WHERE TABLE_SCHEMA = 'information_schema' AND TABLE_NAME = 'STATISTICS' AND COLUMN_NAME = 'IS_VISIBLE'";
+
+        try (PreparedStatement stat = conn.prepareStatement(command)) {
+            MetadataTimeout.apply(stat);
+
+            try (ResultSet rs = stat.executeQuery()) {
+                MetadataTrace.roundTrip();
+                return rs.next() && rs.getLong(1) > 0;
+            }
+        }
+    }
+
+    /**
+     * 索引占用空间，InnoDB 持久化统计，页数 * 页大小
+     *
+     * @param conn      the {@link Connection} instance
+     * @param tableName Table Name
+     * @return [ Key Name : Bytes ]，主键为 PRIMARY, or null if no privilege on the mysql database
+     * @throws SQLException if the columnLabel is not valid;
+     *                      if a database access error occurs
+     *                      or
+     *                      this method is called on a closed result set
+     */
+    public static Map<String, Long> readIndexSizes(@NotNull Connection conn, @NotNull String tableName) throws SQLException {
+        try (MetadataTrace trace = MetadataTrace.start(MetadataEvent.Phase.QUERY, "INDEX_SIZES", tableName)) {
+            String command = "SELECT index_name, stat_value * @@innodb_page_size FROM mysql.innodb_index_stats " +
+                    "WHERE database_name = ? AND table_name = ? AND stat_name = 'size'";
+
+            Map<String, Long> result = new HashMap<>();
+            try (PreparedStatement stat = conn.prepareStatement(command)) {
+                MetadataTimeout.apply(stat);
+
+                String tableSchema = conn.getCatalog();
+
+                stat.setString(1, tableSchema);
+                stat.setString(2, tableName);
+
+                try (ResultSet rs = stat.executeQuery()) {
+                    trace.addRoundTrip();
+                    while (rs.next()) {
+                        trace.addRows(1);
+                        String indexName = rs.getString(1);
+                        if (indexName != null) {
+                            result.put(indexName, rs.getLong(2));
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                // 无 mysql 库权限时空间未知，超时、取消等抛出
+                if (!isAccessDenied(e)) {
+                    throw e;
+                }
+
+                return null;
+            }
+
+            return result;
+        }
+    }
+
+}
@@ -2,7 +2,8 @@ package io.github.winter.database.table;
 
 import jakarta.validation.constraints.NotNull;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
 
@@ -36,30 +37,63 @@ public class TableWriter {
      * Build SQL
      *
      * @param record the {@link Table} instance
-     * @return CREATE TABLE name (...) ENGINE AUTO_INCREMENT DEFAULT CHARSET COLLATE COMMENT
+     * @return CREATE TABLE name (...) ENGINE AUTO_INCREMENT DEFAULT CHARSET COLLATE OPTIONS COMMENT PARTITION BY
      */
     public String write(@NotNull Table record) {
-        String name = getName(record);
-        String engine = getEngine(record);
-        String autoIncrement = getAutoIncrement(record);
-        String charset = getCharset(record);
-        String collate = getCollate(record);
-        String remark = getRemark(record);
-
-        List<String> elements = new ArrayList<>();
-
-        List<String> columns = getColumns(record);
-        if (columns != null) {
-            elements.addAll(columns);
+        StringBuilder result = new StringBuilder(1024);
+        try {
+            write(record, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
-        List<String> keys = getKeys(record);
-        if (keys != null) {
-            elements.addAll(keys);
+        return result.toString();
+    }
+
+    /**
+     * Append SQL，直接写入 Writer / StringBuilder，按扩展点拼接，不生成整表字符串
+     *
+     * @param record the {@link Table} instance
+     * @param out    the {@link Appendable} instance
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(@NotNull Table record, @NotNull Appendable out) throws IOException {
+        out.append("CREATE TABLE ").append(getName(record)).append(" (\n  ");
+
+        int count = append(out, getColumns(record), 0);
+        append(out, getKeys(record), count);
+
+        out.append("\n)");
+        out.append(getEngine(record));
+        out.append(getAutoIncrement(record));
+        out.append(getCharset(record));
+        out.append(getCollate(record));
+        out.append(getOptions(record));
+        out.append(getRemark(record));
+        out.append(getPartitioning(record));
+        out.append(";\n");
+    }
+
+    /**
+     * 写出字段、索引，逗号换行分隔
+     *
+     * @return 写出后的元素数
+     */
+    private static int append(@NotNull Appendable out, List<String> elements, int count) throws IOException {
+        if (elements == null) {
+            return count;
+        }
+
+        for (String element : elements) {
+            if (count > 0) {
+                out.append(",\n  ");
+            }
+
+            out.append(element);
+            count++;
         }
 
-        String body = "  " + String.join(",\n  ", elements);
-        return "CREATE TABLE " + name + " (\n" + body + "\n)" + engine + autoIncrement + charset + collate + remark + ";\n";
+        return count;
     }
 
     /**
@@ -171,6 +205,31 @@ public class TableWriter {
         }
     }
 
+    /**
+     * 表选项
+     *
+     * @param record the {@link Table} instance
+     * @return ROW_FORMAT=COMPRESSED KEY_BLOCK_SIZE=8
+     */
+    protected String getOptions(@NotNull Table record) {
+        return TableOptionUtils.build(record.getOptions());
+    }
+
+    /**
+     * 分区
+     *
+     * @param record the {@link Table} instance
+     * @return PARTITION BY
+     */
+    protected String getPartitioning(@NotNull Table record) {
+        String partitioning = PartitionUtils.build(record.getPartitioning());
+        if (partitioning.isEmpty()) {
+            return "";
+        } else {
+            return "\n" + partitioning;
+        }
+    }
+
     /**
      * [ 字段描述 ]
      *
@@ -0,0 +1,117 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 字段类型分析结果
+ *
+ * @author changebooks@qq.com
+ */
+public final class TypeAnalysis implements Serializable {
+    /**
+     * 表名
+     */
+    private String tableName;
+
+    /**
+     * 预估行数，未知为 -1
+     */
+    private long tableRows = -1;
+
+    /**
+     * 区间数
+     */
+    private int chunks;
+
+    /**
+     * 已扫描的区间数，抽样时少于区间数
+     */
+    private int scannedChunks;
+
+    /**
+     * [ the {@link TypeNarrowing} instance ]
+     */
+    private List<TypeNarrowing> narrowings = new ArrayList<>();
+
+    /**
+     * 预计节省，字节，未知为 -1
+     */
+    private long savedBytes = -1;
+
+    /**
+     * ALTER TABLE ... MODIFY COLUMN ...，无建议时为 ""
+     */
+    private String sql = "";
+
+    /**
+     * 抽样扫描？
+     *
+     * @return Sampled ?
+     */
+    public boolean isSampled() {
+        return scannedChunks < chunks;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public long getTableRows() {
+        return tableRows;
+    }
+
+    public void setTableRows(long tableRows) {
+        this.tableRows = tableRows;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+
+    public int getScannedChunks() {
+        return scannedChunks;
+    }
+
+    public void setScannedChunks(int scannedChunks) {
+        this.scannedChunks = scannedChunks;
+    }
+
+    public List<TypeNarrowing> getNarrowings() {
+        if (narrowings == null) {
+            narrowings = new ArrayList<>();
+        }
+
+        return narrowings;
+    }
+
+    public void setNarrowings(List<TypeNarrowing> narrowings) {
+        this.narrowings = narrowings;
+    }
+
+    public long getSavedBytes() {
+        return savedBytes;
+    }
+
+    public void setSavedBytes(long savedBytes) {
+        this.savedBytes = savedBytes;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
+}
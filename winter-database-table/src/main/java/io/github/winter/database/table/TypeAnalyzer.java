@@ -0,0 +1,656 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 字段类型收窄分析
+ * <p>
+ * 按 {@link ChunkPlanner} 拆分的主键区间，并行扫描整数字段的 MIN / MAX、字符串字段的最大长度，
+ * 全量或按比例抽样区间；实际取值留出余量后，仍可容纳于更窄的类型时，给出建议及预计节省，
+ * 生成合并的 ALTER TABLE
+ * <p>
+ * 不改变符号，不处理生成列；抽样可能漏掉极值，余量应相应放大
+ *
+ * @author changebooks@qq.com
+ */
+public class TypeAnalyzer {
+    /**
+     * 整数类型，由窄到宽
+     */
+    private enum IntegerType {
+        TINYINT(1, Types.TINYINT, 3),
+        SMALLINT(2, Types.SMALLINT, 5),
+        MEDIUMINT(3, Types.INTEGER, 7),
+        INT(4, Types.INTEGER, 10),
+        BIGINT(8, Types.BIGINT, 19);
+
+        /**
+         * 字节数
+         */
+        private final int bytes;
+
+        /**
+         * 类型，{@link java.sql.Types}
+         */
+        private final int sqlType;
+
+        /**
+         * 长度，与 COLUMN_SIZE 一致
+         */
+        private final int size;
+
+        IntegerType(int bytes, int sqlType, int size) {
+            this.bytes = bytes;
+            this.sqlType = sqlType;
+            this.size = size;
+        }
+
+        private BigInteger min(boolean unsigned) {
+            return unsigned ? BigInteger.ZERO : BigInteger.ONE.shiftLeft(bytes * 8 - 1).negate();
+        }
+
+        private BigInteger max(boolean unsigned) {
+            return BigInteger.ONE.shiftLeft(unsigned ? bytes * 8 : bytes * 8 - 1).subtract(BigInteger.ONE);
+        }
+
+        private static IntegerType of(String typeName) {
+            return switch (typeName) {
+                case "TINYINT" -> TINYINT;
+                case "SMALLINT" -> SMALLINT;
+                case "MEDIUMINT" -> MEDIUMINT;
+                case "INT", "INTEGER" -> INT;
+                case "BIGINT" -> BIGINT;
+                default -> null;
+            };
+        }
+    }
+
+    /**
+     * 按字符数取长度的类型
+     */
+    private static final Set<String> CHAR_TYPES = Set.of("CHAR", "VARCHAR");
+
+    /**
+     * 按字节数取长度的类型
+     */
+    private static final Set<String> BINARY_TYPES = Set.of("BINARY", "VARBINARY");
+
+    /**
+     * 可变长类型
+     */
+    private static final Set<String> VARIABLE_TYPES = Set.of("VARCHAR", "VARBINARY");
+
+    /**
+     * 数据源
+     */
+    private final DataSource dataSource;
+
+    /**
+     * the {@link ChunkPlanner} instance
+     */
+    private final ChunkPlanner chunkPlanner;
+
+    /**
+     * the {@link TableDiffer} instance
+     */
+    private final TableDiffer tableDiffer;
+
+    /**
+     * the {@link SizeEstimator} instance
+     */
+    private final SizeEstimator sizeEstimator = new SizeEstimator();
+
+    /**
+     * 并行线程数
+     */
+    private int threads = 4;
+
+    /**
+     * 抽样比例，0 ~ 1，1 为全量扫描；首末区间总是扫描
+     */
+    private double sampleRatio = 1.0;
+
+    /**
+     * 余量倍数，实际取值乘以余量后须容纳于建议类型
+     */
+    private double headroom = 2.0;
+
+    public TypeAnalyzer(@NotNull DataSource dataSource) {
+        this(dataSource, new ChunkPlanner(), new TableDiffer());
+    }
+
+    public TypeAnalyzer(@NotNull DataSource dataSource,
+                        @NotNull ChunkPlanner chunkPlanner, @NotNull TableDiffer tableDiffer) {
+        Objects.requireNonNull(dataSource, "dataSource must not be null");
+        Objects.requireNonNull(chunkPlanner, "chunkPlanner must not be null");
+        Objects.requireNonNull(tableDiffer, "tableDiffer must not be null");
+
+        this.dataSource = dataSource;
+        this.chunkPlanner = chunkPlanner;
+        this.tableDiffer = tableDiffer;
+    }
+
+    /**
+     * 分析，扫描实际取值
+     *
+     * @param table the {@link Table} instance
+     * @return the {@link TypeAnalysis} instance
+     * @throws SQLException if a database access error occurs
+     */
+    public TypeAnalysis analyze(@NotNull Table table) throws SQLException {
+        Objects.requireNonNull(table, "table must not be null");
+
+        String tableName = table.getName();
+        List<Column> columns = readCandidates(table);
+
+        List<KeyRange> ranges;
+        long tableRows;
+        try (Connection conn = dataSource.getConnection()) {
+            ranges = columns.isEmpty() ? List.of() : chunkPlanner.plan(conn, table);
+
+            Long approximateRows = TableUtils.readApproximateRows(conn, tableName);
+            tableRows = approximateRows != null ? approximateRows : -1;
+        }
+
+        List<KeyRange> samples = sample(ranges);
+        Map<String, Extent> extents = new LinkedHashMap<>();
+        if (!samples.isEmpty()) {
+            List<String> keyColumns = chunkPlanner.readKey(table);
+            String command = buildScan(tableName, columns);
+
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, samples.size())));
+            try {
+                List<Future<Map<String, Extent>>> futures = new ArrayList<>(samples.size());
+                for (KeyRange range : samples) {
+                    futures.add(executor.submit(() -> scan(command, keyColumns, range, columns)));
+                }
+
+                for (Future<Map<String, Extent>> future : futures) {
+                    merge(extents, ConcurrentUtils.get(future, tableName));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        TypeAnalysis result = analyze(table, extents, tableRows);
+        result.setChunks(ranges.size());
+        result.setScannedChunks(samples.size());
+        return result;
+    }
+
+    /**
+     * 分析
+     *
+     * @param table     the {@link Table} instance
+     * @param extents   [ Column Name : 实际取值范围 ]
+     * @param tableRows 预估行数，未知为 -1
+     * @return the {@link TypeAnalysis} instance
+     */
+    public TypeAnalysis analyze(@NotNull Table table, @NotNull Map<String, Extent> extents, long tableRows) {
+        Objects.requireNonNull(table, "table must not be null");
+        Objects.requireNonNull(extents, "extents must not be null");
+
+        TypeAnalysis result = new TypeAnalysis();
+        result.setTableName(table.getName());
+        result.setTableRows(tableRows);
+
+        int charsetBytes = CharsetUtils.readMaxBytes(table.getCharset());
+        ColumnWriter columnWriter = tableDiffer.getColumnWriter();
+
+        Map<String, Column> targets = new HashMap<>();
+        List<TypeNarrowing> narrowings = new ArrayList<>();
+        for (Column column : readCandidates(table)) {
+            Extent extent = extents.get(column.getName());
+            if (extent == null || extent.isEmpty()) {
+                continue;
+            }
+
+            Column target = propose(table, column, extent);
+            if (target == null) {
+                continue;
+            }
+
+            long savedBytesPerRow = readSavedBytes(column, target, charsetBytes) * readCopies(table, column.getName());
+
+            TypeNarrowing narrowing = new TypeNarrowing();
+            narrowing.setColumnName(column.getName());
+            narrowing.setCurrentType((columnWriter.getType(column) + columnWriter.getUnsigned(column)).trim());
+            narrowing.setProposedType((columnWriter.getType(target) + columnWriter.getUnsigned(target)).trim());
+            narrowing.setMin(extent.min);
+            narrowing.setMax(extent.max);
+            narrowing.setMaxLength(extent.maxLength);
+            narrowing.setSavedBytesPerRow(savedBytesPerRow);
+            narrowing.setSavedBytes(tableRows >= 0 ? savedBytesPerRow * tableRows : -1);
+            narrowing.setColumn(target);
+
+            narrowings.add(narrowing);
+            targets.put(column.getName(), target);
+        }
+
+        result.setNarrowings(narrowings);
+
+        if (tableRows >= 0) {
+            result.setSavedBytes(narrowings.stream().mapToLong(TypeNarrowing::getSavedBytes).sum());
+        }
+
+        if (!narrowings.isEmpty()) {
+            result.setSql(tableDiffer.write(table, buildTarget(table, targets)));
+        }
+
+        return result;
+    }
+
+    /**
+     * 建议类型
+     *
+     * @param table  the {@link Table} instance
+     * @param column 当前字段
+     * @param extent 实际取值范围
+     * @return 收窄后的字段, or null if no narrower type
+     */
+    protected Column propose(@NotNull Table table, @NotNull Column column, @NotNull Extent extent) {
+        String typeName = readTypeName(column);
+
+        IntegerType integerType = IntegerType.of(typeName);
+        if (integerType != null) {
+            boolean unsigned = column.isUnsigned();
+            BigInteger max = extent.max;
+            if (column.isAutoIncrement() && table.getAutoIncrement() != null) {
+                max = max.max(BigInteger.valueOf(table.getAutoIncrement()));
+            }
+
+            BigInteger lower = extent.min.signum() < 0 ? scale(extent.min) : extent.min;
+            BigInteger upper = max.signum() > 0 ? scale(max) : max;
+
+            for (IntegerType candidate : IntegerType.values()) {
+                if (candidate.bytes >= integerType.bytes) {
+                    return null;
+                }
+
+                if (candidate.min(unsigned).compareTo(lower) <= 0 && candidate.max(unsigned).compareTo(upper) >= 0) {
+                    Column result = copy(column);
+                    result.setTypeName(candidate.name());
+                    result.setType(candidate.sqlType);
+                    result.setClazz(TypeMap.MYSQL.lookup(candidate.sqlType, unsigned, candidate.size, column.isNullable()));
+                    result.setSize(candidate.size);
+                    return result;
+                }
+            }
+
+            return null;
+        }
+
+        if (extent.maxLength == null) {
+            return null;
+        }
+
+        // 按 2 的幂取整，避免数据略有增长即需再次变更
+        long required = Math.max(1, scale(BigInteger.valueOf(extent.maxLength)).longValue());
+        long size = Long.highestOneBit(required);
+        if (size < required) {
+            size <<= 1;
+        }
+
+        if (size >= column.getSize()) {
+            return null;
+        }
+
+        Column result = copy(column);
+        result.setSize((int) size);
+        return result;
+    }
+
+    /**
+     * 每行每份节省，字节；可变长字段只计长度前缀
+     *
+     * @param current      当前字段
+     * @param target       收窄后的字段
+     * @param charsetBytes 字符集单字符最大字节数
+     * @return Saved Bytes
+     */
+    protected long readSavedBytes(@NotNull Column current, @NotNull Column target, int charsetBytes) {
+        String typeName = readTypeName(current);
+        if (VARIABLE_TYPES.contains(typeName)) {
+            int bytes = BINARY_TYPES.contains(typeName) ? 1 : charsetBytes;
+            return lengthBytes((long) current.getSize() * bytes) - lengthBytes((long) target.getSize() * bytes);
+        }
+
+        return sizeEstimator.readColumnSize(current, charsetBytes).getMaxBytes() -
+                sizeEstimator.readColumnSize(target, charsetBytes).getMaxBytes();
+    }
+
+    /**
+     * 字段的存储份数，聚簇索引 + 包含该字段的二级索引；主键字段存于全部二级索引
+     *
+     * @param table      the {@link Table} instance
+     * @param columnName Column Name
+     * @return Copies
+     */
+    protected int readCopies(@NotNull Table table, @NotNull String columnName) {
+        List<List<String>> secondaryKeys = new ArrayList<>();
+        if (table.getUniqueKeys() != null) {
+            secondaryKeys.addAll(table.getUniqueKeys().values());
+        }
+
+        if (table.getKeys() != null) {
+            secondaryKeys.addAll(table.getKeys().values());
+        }
+
+        if (contains(table.getPrimaryKey(), columnName)) {
+            return 1 + secondaryKeys.size();
+        }
+
+        return 1 + (int) secondaryKeys.stream().filter(x -> contains(x, columnName)).count();
+    }
+
+    /**
+     * 区间扫描
+     *
+     * @param command    SELECT MIN(a), MAX(a), MAX(CHAR_LENGTH(b)) FROM table
+     * @param keyColumns [ Key Column Name ]
+     * @param range      the {@link KeyRange} instance
+     * @param columns    [ the {@link Column} instance ]，待分析的字段
+     * @return [ Column Name : 实际取值范围 ]
+     * @throws SQLException if a database access error occurs
+     */
+    protected Map<String, Extent> scan(@NotNull String command, List<String> keyColumns,
+                                       @NotNull KeyRange range, @NotNull List<Column> columns) throws SQLException {
+        String where = keyColumns != null && !keyColumns.isEmpty() ? KeyRangeUtils.buildWhere(keyColumns, range) : "";
+
+        Map<String, Extent> result = new LinkedHashMap<>();
+        try (Connection conn = dataSource.getConnection(); PreparedStatement stat = conn.prepareStatement(command + where)) {
+            if (!where.isEmpty()) {
+                KeyRangeUtils.bind(stat, 1, range);
+            }
+
+            try (ResultSet rs = stat.executeQuery()) {
+                if (!rs.next()) {
+                    return result;
+                }
+
+                int index = 1;
+                for (Column column : columns) {
+                    Extent extent = new Extent();
+                    if (IntegerType.of(readTypeName(column)) != null) {
+                        extent.min = readInteger(rs, index++);
+                        extent.max = readInteger(rs, index++);
+                    } else {
+                        long maxLength = rs.getLong(index++);
+                        extent.maxLength = rs.wasNull() ? null : maxLength;
+                    }
+
+                    result.put(column.getName(), extent);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Build SQL
+     *
+     * @param tableName Table Name
+     * @param columns   [ the {@link Column} instance ]
+     * @return SELECT MIN(a), MAX(a), MAX(CHAR_LENGTH(b)), MAX(LENGTH(c)) FROM table
+     */
+    protected String buildScan(@NotNull String tableName, @NotNull List<Column> columns) {
+        StringJoiner select = new StringJoiner(", ", "SELECT ", " FROM " + tableName);
+        for (Column column : columns) {
+            String name = column.getName();
+            String typeName = readTypeName(column);
+            if (IntegerType.of(typeName) != null) {
+                select.add("MIN(" + name + ")").add("MAX(" + name + ")");
+            } else if (BINARY_TYPES.contains(typeName)) {
+                select.add("MAX(LENGTH(" + name + "))");
+            } else {
+                select.add("MAX(CHAR_LENGTH(" + name + "))");
+            }
+        }
+
+        return select.toString();
+    }
+
+    /**
+     * 抽样区间，等距选取，首末区间总是选取
+     *
+     * @param ranges [ the {@link KeyRange} instance ]
+     * @return [ the {@link KeyRange} instance ]
+     */
+    protected List<KeyRange> sample(@NotNull List<KeyRange> ranges) {
+        if (sampleRatio >= 1.0 || ranges.size() <= 2) {
+            return ranges;
+        }
+
+        List<KeyRange> result = new ArrayList<>();
+        int last = ranges.size() - 1;
+        for (int i = 0; i <= last; i++) {
+            boolean picked = (long) ((i + 1) * sampleRatio) > (long) (i * sampleRatio);
+            if (i == 0 || i == last || picked) {
+                result.add(ranges.get(i));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 待分析的字段，整数、定长及可变长字符串，不含生成列
+     *
+     * @param table the {@link Table} instance
+     * @return [ the {@link Column} instance ]
+     */
+    protected List<Column> readCandidates(@NotNull Table table) {
+        List<Column> columns = table.getColumns();
+        if (columns == null) {
+            return List.of();
+        }
+
+        return columns.stream()
+                .filter(Objects::nonNull)
+                .filter(x -> x.getName() != null && !x.isGenerated())
+                .filter(x -> {
+                    String typeName = readTypeName(x);
+                    return IntegerType.of(typeName) != null ||
+                            ((CHAR_TYPES.contains(typeName) || BINARY_TYPES.contains(typeName)) && x.getSize() > 1);
+                })
+                .toList();
+    }
+
+    /**
+     * 实际取值乘以余量
+     */
+    private BigInteger scale(@NotNull BigInteger value) {
+        return new BigDecimal(value).multiply(BigDecimal.valueOf(headroom))
+                .setScale(0, value.signum() < 0 ? RoundingMode.FLOOR : RoundingMode.CEILING)
+                .toBigInteger();
+    }
+
+    private static BigInteger readInteger(@NotNull ResultSet rs, int index) throws SQLException {
+        BigDecimal value = rs.getBigDecimal(index);
+        return value != null ? value.toBigInteger() : null;
+    }
+
+    private static void merge(@NotNull Map<String, Extent> target, @NotNull Map<String, Extent> source) {
+        for (Map.Entry<String, Extent> entry : source.entrySet()) {
+            target.merge(entry.getKey(), entry.getValue(), Extent::merge);
+        }
+    }
+
+    private static String readTypeName(@NotNull Column column) {
+        String typeName = column.getTypeName();
+        return typeName != null ? typeName.trim().toUpperCase() : "";
+    }
+
+    private static int lengthBytes(long dataBytes) {
+        return dataBytes > 255 ? 2 : 1;
+    }
+
+    private static boolean contains(List<String> columnNames, @NotNull String columnName) {
+        return columnNames != null && columnNames.stream()
+                .filter(Objects::nonNull)
+                .anyMatch(x -> x.trim().equalsIgnoreCase(columnName.trim()));
+    }
+
+    private static Column copy(@NotNull Column column) {
+        Column result = new Column();
+        result.setName(column.getName());
+        result.setRemark(column.getRemark());
+        result.setType(column.getType());
+        result.setTypeName(column.getTypeName());
+        result.setClazz(column.getClazz());
+        result.setSize(column.getSize());
+        result.setScale(column.getScale());
+        result.setDefaultString(column.getDefaultString());
+        result.setDefaultInteger(column.getDefaultInteger());
+        result.setDefaultLong(column.getDefaultLong());
+        result.setDefaultBigDecimal(column.getDefaultBigDecimal());
+        result.setDefaultDate(column.getDefaultDate());
+        result.setDefaultCurrentDateOnInsert(column.isDefaultCurrentDateOnInsert());
+        result.setDefaultCurrentDateOnUpdate(column.isDefaultCurrentDateOnUpdate());
+        result.setNullable(column.isNullable());
+        result.setUnsigned(column.isUnsigned());
+        result.setId(column.isId());
+        result.setAutoIncrement(column.isAutoIncrement());
+        result.setGenerationExpression(column.getGenerationExpression());
+        result.setGeneratedStored(column.isGeneratedStored());
+        return result;
+    }
+
+    /**
+     * 目标结构，替换收窄的字段
+     *
+     * @param table   the {@link Table} instance
+     * @param targets [ Column Name : 收窄后的字段 ]
+     * @return the {@link Table} instance
+     */
+    private static Table buildTarget(@NotNull Table table, @NotNull Map<String, Column> targets) {
+        List<Column> columns = new ArrayList<>();
+        for (Column column : table.getColumns()) {
+            Column target = column != null ? targets.get(column.getName()) : null;
+            columns.add(target != null ? target : column);
+        }
+
+        Table result = new Table();
+        result.setName(table.getName());
+        result.setRemark(table.getRemark());
+        result.setEngine(table.getEngine());
+        result.setCharset(table.getCharset());
+        result.setCollate(table.getCollate());
+        result.setAutoIncrement(table.getAutoIncrement());
+        result.setColumns(columns);
+        result.setPrimaryKey(table.getPrimaryKey());
+        result.setUniqueKeys(table.getUniqueKeys());
+        result.setKeys(table.getKeys());
+        result.setKeyOptions(table.getKeyOptions());
+        result.setOptions(table.getOptions());
+        result.setPartitioning(table.getPartitioning());
+        return result;
+    }
+
+    /**
+     * 实际取值范围
+     */
+    public static final class Extent {
+        /**
+         * 最小值，整数字段
+         */
+        private BigInteger min;
+
+        /**
+         * 最大值，整数字段
+         */
+        private BigInteger max;
+
+        /**
+         * 最大长度，字符串字段
+         */
+        private Long maxLength;
+
+        public Extent() {
+        }
+
+        public Extent(BigInteger min, BigInteger max, Long maxLength) {
+            this.min = min;
+            this.max = max;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * 无数据？全为 NULL 或区间为空
+         *
+         * @return Empty ?
+         */
+        public boolean isEmpty() {
+            return (min == null || max == null) && maxLength == null;
+        }
+
+        private static Extent merge(@NotNull Extent a, @NotNull Extent b) {
+            Extent result = new Extent();
+            result.min = a.min == null ? b.min : b.min == null ? a.min : a.min.min(b.min);
+            result.max = a.max == null ? b.max : b.max == null ? a.max : a.max.max(b.max);
+            result.maxLength = a.maxLength == null ? b.maxLength : b.maxLength == null ? a.maxLength : Math.max(a.maxLength, b.maxLength);
+            return result;
+        }
+
+        public BigInteger getMin() {
+            return min;
+        }
+
+        public BigInteger getMax() {
+            return max;
+        }
+
+        public Long getMaxLength() {
+            return maxLength;
+        }
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public double getSampleRatio() {
+        return sampleRatio;
+    }
+
+    public void setSampleRatio(double sampleRatio) {
+        if (sampleRatio <= 0 || sampleRatio > 1) {
+            throw new RuntimeException("sampleRatio must be greater than 0 and less than or equal to 1");
+        }
+
+        this.sampleRatio = sampleRatio;
+    }
+
+    public double getHeadroom() {
+        return headroom;
+    }
+
+    public void setHeadroom(double headroom) {
+        if (headroom < 1) {
+            throw new RuntimeException("headroom must be greater than or equal to 1");
+        }
+
+        this.headroom = headroom;
+    }
+
+}
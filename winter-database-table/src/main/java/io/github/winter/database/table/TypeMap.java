@@ -0,0 +1,369 @@
+package io.github.winter.database.table;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.*;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sql Type mapping Value Type
+ * <p>
+ * 不可变，按 {@link java.sql.Types} 下标查表，无装箱；非负整数单独映射；
+ * 方言在 {@link #MYSQL} 等基础上以 {@link #with} 覆盖，生成新实例；
+ * 按字段查表时，可空字段的基本类型转为包装类型，以容纳 NULL
+ *
+ * @author changebooks@qq.com
+ */
+public final class TypeMap {
+    /**
+     * {@link java.sql.Types} 最小值，LONGNVARCHAR
+     */
+    private static final int MIN_TYPE = Types.LONGNVARCHAR;
+
+    /**
+     * {@link java.sql.Types} 最大值，TIMESTAMP_WITH_TIMEZONE
+     */
+    private static final int MAX_TYPE = Types.TIMESTAMP_WITH_TIMEZONE;
+
+    /**
+     * 原有映射，整数装箱、浮点 BigDecimal、时间 java.util.Date、二进制 String
+     *
+     * @deprecated use {@link #STANDARD}
+     */
+    @Deprecated
+    public static final Map<Integer, Class<?>> STANDARD_MAPPING = new ConcurrentHashMap<>(64);
+
+    /**
+     * 原有映射，兼容旧字段描述
+     */
+    public static final TypeMap STANDARD;
+
+    /**
+     * 通用映射，基本类型、java.time、byte[]，非负整数按范围放宽
+     */
+    public static final TypeMap DEFAULT;
+
+    /**
+     * MySQL，BIT(1) 及 TINYINT(1) 经 Connector/J 报告为 BIT，映射为 boolean；
+     * BIT(n) 亦报告为 BIT，n &gt; 1 时按长度映射为 long
+     */
+    public static final TypeMap MYSQL;
+
+    static {
+        STANDARD_MAPPING.put(Types.CHAR, String.class);
+        STANDARD_MAPPING.put(Types.NCHAR, String.class);
+        STANDARD_MAPPING.put(Types.VARCHAR, String.class);
+        STANDARD_MAPPING.put(Types.NVARCHAR, String.class);
+        STANDARD_MAPPING.put(Types.VARBINARY, String.class);
+        STANDARD_MAPPING.put(Types.LONGVARCHAR, String.class);
+        STANDARD_MAPPING.put(Types.LONGNVARCHAR, String.class);
+        STANDARD_MAPPING.put(Types.LONGVARBINARY, String.class);
+        STANDARD_MAPPING.put(Types.BOOLEAN, Integer.class);
+        STANDARD_MAPPING.put(Types.TINYINT, Integer.class);
+        STANDARD_MAPPING.put(Types.SMALLINT, Integer.class);
+        STANDARD_MAPPING.put(Types.INTEGER, Integer.class);
+        STANDARD_MAPPING.put(Types.BIGINT, Long.class);
+        STANDARD_MAPPING.put(Types.FLOAT, BigDecimal.class);
+        STANDARD_MAPPING.put(Types.REAL, BigDecimal.class);
+        STANDARD_MAPPING.put(Types.DOUBLE, BigDecimal.class);
+        STANDARD_MAPPING.put(Types.NUMERIC, BigDecimal.class);
+        STANDARD_MAPPING.put(Types.DECIMAL, BigDecimal.class);
+        STANDARD_MAPPING.put(Types.DATE, Date.class);
+        STANDARD_MAPPING.put(Types.TIME, Date.class);
+        STANDARD_MAPPING.put(Types.TIME_WITH_TIMEZONE, Date.class);
+        STANDARD_MAPPING.put(Types.TIMESTAMP, Date.class);
+        STANDARD_MAPPING.put(Types.TIMESTAMP_WITH_TIMEZONE, Date.class);
+        STANDARD_MAPPING.put(Types.NULL, Object.class);
+        STANDARD_MAPPING.put(Types.JAVA_OBJECT, Object.class);
+        STANDARD_MAPPING.put(Types.DATALINK, Object.class);
+
+        Class<?>[] standard = newClasses();
+        STANDARD_MAPPING.forEach((sqlType, clazz) -> standard[sqlType - MIN_TYPE] = clazz);
+        STANDARD = new TypeMap(standard, standard.clone());
+
+        Class<?>[] classes = newClasses();
+        put(classes, String.class, Types.CHAR, Types.NCHAR, Types.VARCHAR, Types.NVARCHAR,
+                Types.LONGVARCHAR, Types.LONGNVARCHAR, Types.CLOB, Types.NCLOB, Types.SQLXML);
+        put(classes, byte[].class, Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB);
+        put(classes, boolean.class, Types.BOOLEAN);
+        put(classes, int.class, Types.TINYINT, Types.SMALLINT, Types.INTEGER);
+        put(classes, long.class, Types.BIGINT);
+        put(classes, double.class, Types.FLOAT, Types.REAL, Types.DOUBLE);
+        put(classes, BigDecimal.class, Types.NUMERIC, Types.DECIMAL);
+        put(classes, LocalDate.class, Types.DATE);
+        put(classes, LocalTime.class, Types.TIME);
+        put(classes, OffsetTime.class, Types.TIME_WITH_TIMEZONE);
+        put(classes, LocalDateTime.class, Types.TIMESTAMP);
+        put(classes, Instant.class, Types.TIMESTAMP_WITH_TIMEZONE);
+
+        Class<?>[] unsignedClasses = classes.clone();
+        put(unsignedClasses, long.class, Types.INTEGER);
+        put(unsignedClasses, BigInteger.class, Types.BIGINT);
+
+        DEFAULT = new TypeMap(classes, unsignedClasses);
+        MYSQL = DEFAULT.with(Types.BIT, boolean.class);
+    }
+
+    /**
+     * [ {@link java.sql.Types} - MIN_TYPE : Value Type ]
+     */
+    private final Class<?>[] classes;
+
+    /**
+     * 非负整数，[ {@link java.sql.Types} - MIN_TYPE : Value Type ]
+     */
+    private final Class<?>[] unsignedClasses;
+
+    private TypeMap(@NotNull Class<?>[] classes, @NotNull Class<?>[] unsignedClasses) {
+        this.classes = classes;
+        this.unsignedClasses = unsignedClasses;
+    }
+
+    /**
+     * 原有映射
+     *
+     * @param sqlType {@link java.sql.Types}
+     * @return Value Type
+     * @deprecated use {@link #STANDARD}
+     */
+    @Deprecated
+    public static Class<?> lookup(int sqlType) {
+        return STANDARD.lookup(sqlType, false);
+    }
+
+    /**
+     * Lookup
+     *
+     * @param sqlType  {@link java.sql.Types}
+     * @param unsigned 非负？
+     * @return Value Type，未映射为 Object
+     */
+    public Class<?> lookup(int sqlType, boolean unsigned) {
+        if (sqlType < MIN_TYPE || sqlType > MAX_TYPE) {
+            return Object.class;
+        }
+
+        Class<?> result = (unsigned ? unsignedClasses : classes)[sqlType - MIN_TYPE];
+        return result != null ? result : Object.class;
+    }
+
+    /**
+     * Lookup，按长度、可空修正
+     * <p>
+     * BIT 映射为 boolean 时，BIT(n)，n &gt; 1 映射为 long；可空时基本类型转为包装类型
+     *
+     * @param sqlType  {@link java.sql.Types}
+     * @param unsigned 非负？
+     * @param size     长度
+     * @param nullable 可空？
+     * @return Value Type，未映射为 Object
+     */
+    public Class<?> lookup(int sqlType, boolean unsigned, int size, boolean nullable) {
+        Class<?> result = lookup(sqlType, unsigned);
+        if (sqlType == Types.BIT && size > 1 && (result == boolean.class || result == Boolean.class)) {
+            result = long.class;
+        }
+
+        return nullable ? box(result) : result;
+    }
+
+    /**
+     * 基本类型转为包装类型
+     *
+     * @param clazz Value Type
+     * @return 包装类型，非基本类型原样返回
+     */
+    public static Class<?> box(Class<?> clazz) {
+        if (clazz == null || !clazz.isPrimitive()) {
+            return clazz;
+        }
+
+        if (clazz == boolean.class) {
+            return Boolean.class;
+        }
+
+        if (clazz == byte.class) {
+            return Byte.class;
+        }
+
+        if (clazz == short.class) {
+            return Short.class;
+        }
+
+        if (clazz == int.class) {
+            return Integer.class;
+        }
+
+        if (clazz == long.class) {
+            return Long.class;
+        }
+
+        if (clazz == float.class) {
+            return Float.class;
+        }
+
+        if (clazz == double.class) {
+            return Double.class;
+        }
+
+        if (clazz == char.class) {
+            return Character.class;
+        }
+
+        return clazz;
+    }
+
+    /**
+     * 覆盖映射，有符号、非负均覆盖
+     *
+     * @param sqlType {@link java.sql.Types}
+     * @param clazz   Value Type
+     * @return 新实例
+     */
+    public TypeMap with(int sqlType, @NotNull Class<?> clazz) {
+        return with(sqlType, clazz, clazz);
+    }
+
+    /**
+     * 覆盖映射
+     *
+     * @param sqlType       {@link java.sql.Types}
+     * @param clazz         Value Type
+     * @param unsignedClazz 非负时的 Value Type
+     * @return 新实例
+     */
+    public TypeMap with(int sqlType, @NotNull Class<?> clazz, @NotNull Class<?> unsignedClazz) {
+        if (sqlType < MIN_TYPE || sqlType > MAX_TYPE) {
+            throw new IllegalArgumentException(String.format("unsupported sqlType, sqlType: %s", sqlType));
+        }
+
+        Class<?>[] newClasses = classes.clone();
+        Class<?>[] newUnsignedClasses = unsignedClasses.clone();
+        newClasses[sqlType - MIN_TYPE] = clazz;
+        newUnsignedClasses[sqlType - MIN_TYPE] = unsignedClazz;
+        return new TypeMap(newClasses, newUnsignedClasses);
+    }
+
+    /**
+     * 默认值的存储类型，对应 {@link Column} 的 defaultString、defaultInteger、defaultLong、defaultBigDecimal、defaultDate
+     *
+     * @param clazz Value Type
+     * @return String | Integer | Long | BigDecimal | Date, or null if no default value
+     */
+    public static Class<?> readDefaultType(Class<?> clazz) {
+        if (clazz == null) {
+            return null;
+        }
+
+        if (clazz == String.class || clazz == byte[].class) {
+            return String.class;
+        }
+
+        if (clazz == Integer.class || clazz == int.class || clazz == Short.class || clazz == short.class ||
+                clazz == Byte.class || clazz == byte.class || clazz == Boolean.class || clazz == boolean.class) {
+            return Integer.class;
+        }
+
+        if (clazz == Long.class || clazz == long.class) {
+            return Long.class;
+        }
+
+        if (clazz == BigDecimal.class || clazz == BigInteger.class || clazz == Double.class || clazz == double.class ||
+                clazz == Float.class || clazz == float.class) {
+            return BigDecimal.class;
+        }
+
+        if (clazz == Date.class || Temporal.class.isAssignableFrom(clazz)) {
+            return Date.class;
+        }
+
+        return null;
+    }
+
+    /**
+     * 转换为映射类型，基本类型转为包装类型
+     *
+     * @param value 值，默认值的存储类型
+     * @param clazz Value Type
+     * @return 转换后的值，无法转换时原样返回
+     */
+    public static Object convert(Object value, Class<?> clazz) {
+        if (value == null || clazz == null || clazz.isInstance(value)) {
+            return value;
+        }
+
+        if (value instanceof Number number) {
+            if (clazz == int.class || clazz == Integer.class) {
+                return number.intValue();
+            }
+
+            if (clazz == long.class || clazz == Long.class) {
+                return number.longValue();
+            }
+
+            if (clazz == double.class || clazz == Double.class) {
+                return number.doubleValue();
+            }
+
+            if (clazz == float.class || clazz == Float.class) {
+                return number.floatValue();
+            }
+
+            if (clazz == boolean.class || clazz == Boolean.class) {
+                return number.intValue() != 0;
+            }
+
+            if (clazz == BigInteger.class) {
+                return value instanceof BigDecimal decimal ? decimal.toBigInteger() : BigInteger.valueOf(number.longValue());
+            }
+
+            if (clazz == BigDecimal.class) {
+                return new BigDecimal(number.toString());
+            }
+        }
+
+        if (value instanceof Date date) {
+            Instant instant = Instant.ofEpochMilli(date.getTime());
+            ZoneId zoneId = ZoneId.systemDefault();
+            if (clazz == Instant.class) {
+                return instant;
+            }
+
+            if (clazz == LocalDateTime.class) {
+                return LocalDateTime.ofInstant(instant, zoneId);
+            }
+
+            if (clazz == LocalDate.class) {
+                return LocalDate.ofInstant(instant, zoneId);
+            }
+
+            if (clazz == LocalTime.class) {
+                return LocalTime.ofInstant(instant, zoneId);
+            }
+        }
+
+        if (value instanceof String string && clazz == byte[].class) {
+            return string.getBytes(StandardCharsets.UTF_8);
+        }
+
+        return value;
+    }
+
+    private static Class<?>[] newClasses() {
+        return new Class<?>[MAX_TYPE - MIN_TYPE + 1];
+    }
+
+    private static void put(@NotNull Class<?>[] classes, @NotNull Class<?> clazz, int... sqlTypes) {
+        for (int sqlType : sqlTypes) {
+            classes[sqlType - MIN_TYPE] = clazz;
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+package io.github.winter.database.table;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+
+/**
+ * 字段类型收窄建议
+ *
+ * @author changebooks@qq.com
+ */
+public final class TypeNarrowing implements Serializable {
+    /**
+     * 字段名
+     */
+    private String columnName;
+
+    /**
+     * 当前类型，如 BIGINT、VARCHAR(255)
+     */
+    private String currentType;
+
+    /**
+     * 建议类型，如 INT、VARCHAR(32)
+     */
+    private String proposedType;
+
+    /**
+     * 最小值，整数字段，无数据为 null
+     */
+    private BigInteger min;
+
+    /**
+     * 最大值，整数字段，无数据为 null
+     */
+    private BigInteger max;
+
+    /**
+     * 最大长度，字符串取字符数、二进制取字节数，无数据为 null
+     */
+    private Long maxLength;
+
+    /**
+     * 每行节省，字节，含聚簇索引及包含该字段的二级索引
+     */
+    private long savedBytesPerRow;
+
+    /**
+     * 预计节省，字节，未知为 -1
+     */
+    private long savedBytes = -1;
+
+    /**
+     * 收窄后的字段
+     */
+    private Column column;
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public void setColumnName(String columnName) {
+        this.columnName = columnName;
+    }
+
+    public String getCurrentType() {
+        return currentType;
+    }
+
+    public void setCurrentType(String currentType) {
+        this.currentType = currentType;
+    }
+
+    public String getProposedType() {
+        return proposedType;
+    }
+
+    public void setProposedType(String proposedType) {
+        this.proposedType = proposedType;
+    }
+
+    public BigInteger getMin() {
+        return min;
+    }
+
+    public void setMin(BigInteger min) {
+        this.min = min;
+    }
+
+    public BigInteger getMax() {
+        return max;
+    }
+
+    public void setMax(BigInteger max) {
+        this.max = max;
+    }
+
+    public Long getMaxLength() {
+        return maxLength;
+    }
+
+    public void setMaxLength(Long maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    public long getSavedBytesPerRow() {
+        return savedBytesPerRow;
+    }
+
+    public void setSavedBytesPerRow(long savedBytesPerRow) {
+        this.savedBytesPerRow = savedBytesPerRow;
+    }
+
+    public long getSavedBytes() {
+        return savedBytes;
+    }
+
+    public void setSavedBytes(long savedBytes) {
+        this.savedBytes = savedBytes;
+    }
+
+    public Column getColumn() {
+        return column;
+    }
+
+    public void setColumn(Column column) {
+        this.column = column;
+    }
+
+}
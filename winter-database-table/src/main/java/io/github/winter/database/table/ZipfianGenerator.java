@@ -0,0 +1,92 @@
+package io.github.winter.database.table;
+
+/**
+ * Zipfian 分布，取值 [0, items)，0 最频繁
+ * <p>
+ * Gray et al. Quickly Generating Billion-Record Synthetic Databases, SIGMOD 1994
+ *
+ * @author changebooks@qq.com
+ */
+public final class ZipfianGenerator {
+    /**
+     * 默认偏斜
+     */
+    public static final double DEFAULT_THETA = 0.99;
+
+    /**
+     * 取值个数
+     */
+    private final long items;
+
+    /**
+     * 偏斜，0 ~ 1
+     */
+    private final double theta;
+
+    private final double zetan;
+
+    private final double alpha;
+
+    private final double eta;
+
+    private final double half;
+
+    public ZipfianGenerator(long items) {
+        this(items, DEFAULT_THETA);
+    }
+
+    public ZipfianGenerator(long items, double theta) {
+        if (items <= 0) {
+            throw new RuntimeException("items must be greater than 0");
+        }
+
+        if (theta <= 0 || theta >= 1) {
+            throw new RuntimeException("theta must be in (0, 1)");
+        }
+
+        this.items = items;
+        this.theta = theta;
+        this.zetan = zeta(items, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta(2, theta) / zetan);
+        this.half = 1 + Math.pow(0.5, theta);
+    }
+
+    /**
+     * 下一个值
+     *
+     * @param u 均匀分布 [0, 1)
+     * @return [0, items)
+     */
+    public long next(double u) {
+        double uz = u * zetan;
+        if (uz < 1) {
+            return 0;
+        }
+
+        if (uz < half) {
+            return Math.min(1, items - 1);
+        }
+
+        long result = (long) (items * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(result, items - 1);
+    }
+
+    public long getItems() {
+        return items;
+    }
+
+    public double getTheta() {
+        return theta;
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+
+        return sum;
+    }
+
+}